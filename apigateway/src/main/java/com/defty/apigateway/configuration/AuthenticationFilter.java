@@ -38,6 +38,7 @@ public class AuthenticationFilter implements GlobalFilter, Ordered {
             "/identity/auth/.*",
             "/identity/users/registration",
             "/submission/feedback/accessible/llm",
+            "/[^/]+/media/[0-9a-f]{64}(\\.[a-z0-9]{1,8})?",
             ".*/v3/api-docs.*",
             ".*/swagger-ui.html",
             ".*/swagger-ui/.*",
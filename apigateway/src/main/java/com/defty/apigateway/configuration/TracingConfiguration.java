@@ -0,0 +1,28 @@
+package com.defty.apigateway.configuration;
+
+import com.example.common_library.tracing.LocalSpanExporter;
+import com.example.common_library.tracing.TracingProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+
+/**
+ * Ghi span của gateway ra file JSONL cùng thư mục với các service (defty.tracing.local.file-dir) bằng chính
+ * LocalSpanExporter của common-library, để ghép thành trace đầy đủ. Chỉ bật khi cấu hình file-dir.
+ */
+@Configuration
+@EnableConfigurationProperties(TracingProperties.class)
+@ConditionalOnExpression("!'${defty.tracing.local.file-dir:}'.isBlank()")
+public class TracingConfiguration {
+
+    @Bean
+    LocalSpanExporter localSpanExporter(TracingProperties tracingProperties,
+                                        @Value("${spring.application.name}") String serviceName) throws IOException {
+        return new LocalSpanExporter(tracingProperties, serviceName, new ObjectMapper());
+    }
+}
@@ -1,8 +1,8 @@
 package com.example.common_library.configuration;
 
 import com.example.common_library.exceptions.ErrorCode;
+import com.example.common_library.json.JsonMappers;
 import com.example.common_library.response.ApiResponse;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.MediaType;
@@ -26,9 +26,7 @@ public class JwtAuthenticationEntryPoint implements AuthenticationEntryPoint {
                 .message(errorCode.getMessage())
                 .build();
 
-        ObjectMapper objectMapper = new ObjectMapper();
-
-        response.getWriter().write(objectMapper.writeValueAsString(apiResponse));
+        response.getWriter().write(JsonMappers.shared().writeValueAsString(apiResponse));
         response.flushBuffer();
     }
 }
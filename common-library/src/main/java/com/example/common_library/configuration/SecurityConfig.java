@@ -23,6 +23,18 @@ public class SecurityConfig {
             "/submission/feedback/accessible/llm"
     };
 
+    // File media content-addressed (LocalStorageService), thẻ <audio> không gửi kèm token
+    private static final String[] PUBLIC_GET_ENDPOINTS = {
+            "/media/**"
+    };
+
+    // Span xuất ra có thể chứa SQL và id người dùng: chỉ admin được xem
+    private static final String[] ADMIN_ENDPOINTS = {
+            "/internal/traces/**"
+    };
+
+    private static final String[] ADMIN_AUTHORITIES = {"ROLE_admin", "ROLE_system-admin"};
+
     private static final String[] SWAGGER_WHITELIST = {
             "/v3/api-docs/**",
             "/swagger-ui.html",
@@ -38,6 +50,9 @@ public class SecurityConfig {
                 .requestMatchers(SWAGGER_WHITELIST).permitAll()
                 .requestMatchers(HttpMethod.POST, PUBLIC_ENDPOINTS)
                 .permitAll()
+                .requestMatchers(HttpMethod.GET, PUBLIC_GET_ENDPOINTS).permitAll()
+                .requestMatchers(HttpMethod.HEAD, PUBLIC_GET_ENDPOINTS).permitAll()
+                .requestMatchers(ADMIN_ENDPOINTS).hasAnyAuthority(ADMIN_AUTHORITIES)
                 .anyRequest()
                 .authenticated());
 
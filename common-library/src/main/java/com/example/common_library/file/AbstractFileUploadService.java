@@ -0,0 +1,105 @@
+package com.example.common_library.file;
+
+import com.example.common_library.dto.response.CloudinaryUploadResponse;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Phần dùng chung cho các backend upload: validate, upload async và batch song song.
+ */
+public abstract class AbstractFileUploadService implements FileUploadService {
+
+    protected final FileProperties fileProperties;
+    private final ExecutorService uploadExecutor;
+
+    protected AbstractFileUploadService(FileProperties fileProperties, ExecutorService uploadExecutor) {
+        this.fileProperties = fileProperties;
+        this.uploadExecutor = uploadExecutor;
+    }
+
+    @Override
+    public String uploadFile(MultipartFile file) throws IOException {
+        return uploadFileWithPublicId(file).getUrl();
+    }
+
+    @Override
+    public CompletableFuture<CloudinaryUploadResponse> uploadFileAsync(MultipartFile file) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return uploadFileWithPublicId(file);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, uploadExecutor);
+    }
+
+    @Override
+    public List<String> uploadFiles(List<MultipartFile> files) throws IOException {
+        if (files == null || files.isEmpty()) {
+            return List.of();
+        }
+        // Validate trước để không upload dở dang khi có file lỗi
+        for (MultipartFile file : files) {
+            validate(file);
+        }
+
+        List<CompletableFuture<CloudinaryUploadResponse>> futures = new ArrayList<>(files.size());
+        for (MultipartFile file : files) {
+            futures.add(uploadFileAsync(file));
+        }
+
+        // MultipartFile chỉ sống trong request hiện tại nên phải chờ xong hết ở đây
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                    .get(fileProperties.getUpload().getBatchTimeoutSeconds(), TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(f -> f.cancel(true));
+            throw new IOException("Batch upload interrupted.", e);
+        } catch (TimeoutException e) {
+            futures.forEach(f -> f.cancel(true));
+            throw new IOException("Batch upload timed out.", e);
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        }
+
+        List<String> urls = new ArrayList<>(futures.size());
+        for (CompletableFuture<CloudinaryUploadResponse> future : futures) {
+            urls.add(future.join().getUrl());
+        }
+        return urls;
+    }
+
+    protected void validate(MultipartFile file) throws IOException {
+        long maxSize = fileProperties.getUpload().getMaxFileSize();
+        if (file == null || file.isEmpty()) {
+            throw new IOException("File is empty or null.");
+        }
+        if (file.getSize() > maxSize) {
+            throw new IOException("File size exceeds " + (maxSize / (1024 * 1024)) + "MB limit.");
+        }
+    }
+
+    private IOException unwrap(Throwable cause) {
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof UncheckedIOException uio) {
+            return uio.getCause();
+        }
+        if (cause instanceof IOException io) {
+            return io;
+        }
+        return new IOException("Batch upload failed.", cause);
+    }
+}
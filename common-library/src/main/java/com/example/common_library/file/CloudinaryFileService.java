@@ -3,74 +3,54 @@ package com.example.common_library.file;
 import com.cloudinary.Cloudinary;
 import com.example.common_library.dto.response.CloudinaryUploadResponse;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 @Slf4j
 @Service
-public class CloudinaryFileService {
+@ConditionalOnProperty(name = "defty.file.provider", havingValue = "cloudinary", matchIfMissing = true)
+public class CloudinaryFileService extends AbstractFileUploadService {
 
     private final Cloudinary cloudinary;
 
-    public CloudinaryFileService(Cloudinary cloudinary) {
+    public CloudinaryFileService(Cloudinary cloudinary,
+                                 FileProperties fileProperties,
+                                 @Qualifier(FileUploadExecutorConfig.FILE_UPLOAD_EXECUTOR) ExecutorService uploadExecutor) {
+        super(fileProperties, uploadExecutor);
         this.cloudinary = cloudinary;
         log.info("Cloudinary file service ready.");
     }
 
-    public CloudinaryFileService cloudinaryFileService(Cloudinary cloudinary) {
-        return new CloudinaryFileService(cloudinary);
-    }
-
-    public String uploadFile(MultipartFile file) throws IOException {
-        // Giới hạn kích thước file 20MB cho audio/video
-        final long MAX_SIZE = 20 * 1024 * 1024;
-        if (file == null || file.isEmpty()) {
-            throw new IOException("File is empty or null.");
-        }
-        if (file.getSize() > MAX_SIZE) {
-            throw new IOException("File size exceeds 20MB limit.");
-        }
-        try {
-            Map uploadResult = cloudinary.uploader().upload(
-                    file.getBytes(),
-                    Map.of("resource_type", "auto") // QUAN TRỌNG: cho phép mọi loại file
-            );
-            return (String) uploadResult.get("url");
-        } catch (IOException e) {
-            log.error("Failed to upload file to Cloudinary: {}", e.getMessage());
-            throw new IOException("Failed to upload file to Cloudinary.", e);
-        }
-    }
-
     /**
-     * Upload file lên Cloudinary, trả về cả url và publicId
+     * Upload file lên Cloudinary, trả về cả url và publicId.
+     * File được đọc trực tiếp từ InputStream theo từng chunk (uploadLarge),
+     * không nạp toàn bộ file vào heap như getBytes().
      * @param file MultipartFile
      * @return CloudinaryUploadResult chứa url và publicId
      * @throws IOException nếu upload thất bại hoặc file quá lớn
      */
+    @Override
     public CloudinaryUploadResponse uploadFileWithPublicId(MultipartFile file) throws IOException {
-        final long MAX_SIZE = 20 * 1024 * 1024; // tăng lên 20MB cho audio/video
-        if (file == null || file.isEmpty()) {
-            throw new IOException("File is empty or null.");
-        }
-        if (file.getSize() > MAX_SIZE) {
-            throw new IOException("File size exceeds 20MB limit.");
-        }
+        validate(file);
 
-        try {
-            Map uploadResult = cloudinary.uploader().upload(
-                    file.getBytes(),
-                    Map.of("resource_type", "auto") // hỗ trợ mp3, mp4, pdf, image...
+        try (InputStream in = file.getInputStream()) {
+            Map uploadResult = cloudinary.uploader().uploadLarge(
+                    in,
+                    Map.of("resource_type", "auto"), // hỗ trợ mp3, mp4, pdf, image...
+                    fileProperties.getUpload().getChunkSize()
             );
             String url = (String) uploadResult.get("url");
             String publicId = (String) uploadResult.get("public_id");
             return new CloudinaryUploadResponse(url, publicId);
         } catch (IOException e) {
+            log.error("Failed to upload file to Cloudinary: {}", e.getMessage());
             throw new IOException("Failed to upload file to Cloudinary.", e);
         }
     }
@@ -80,6 +60,7 @@ public class CloudinaryFileService {
      * @param publicId publicId của ảnh trên Cloudinary
      * @return true nếu xóa thành công, false nếu không tìm thấy hoặc lỗi
      */
+    @Override
     public boolean deleteImage(String publicId) {
         try {
             Map result = cloudinary.uploader().destroy(publicId, Map.of());
@@ -90,4 +71,4 @@ public class CloudinaryFileService {
             return false;
         }
     }
-}
\ No newline at end of file
+}
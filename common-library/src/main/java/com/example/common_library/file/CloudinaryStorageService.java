@@ -0,0 +1,140 @@
+package com.example.common_library.file;
+
+import com.cloudinary.Cloudinary;
+import com.cloudinary.api.exceptions.NotFound;
+import com.example.common_library.dto.response.CloudinaryUploadResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * StorageService trên Cloudinary. Metadata lấy qua Admin API, nội dung đọc từ url của object bằng HTTP Range,
+ * nên đọc một khoảng byte không phải tải cả file.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "defty.file.provider", havingValue = "cloudinary", matchIfMissing = true)
+public class CloudinaryStorageService implements StorageService {
+
+    // Upload dùng resource_type=auto nên key không cho biết loại object, thử lần lượt
+    private static final List<String> RESOURCE_TYPES = List.of("image", "video", "raw");
+    private static final int COPY_BUFFER = 64 * 1024;
+
+    private final CloudinaryFileService cloudinaryFileService;
+    private final Cloudinary cloudinary;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build();
+
+    public CloudinaryStorageService(CloudinaryFileService cloudinaryFileService, Cloudinary cloudinary) {
+        this.cloudinaryFileService = cloudinaryFileService;
+        this.cloudinary = cloudinary;
+    }
+
+    @Override
+    public StoredFile store(MultipartFile file) throws IOException {
+        CloudinaryUploadResponse response = cloudinaryFileService.uploadFileWithPublicId(file);
+        return StoredFile.builder()
+                .key(response.getPublicId())
+                .url(response.getUrl())
+                .size(file.getSize())
+                .contentType(file.getContentType())
+                .build();
+    }
+
+    @Override
+    public Optional<StoredFile> stat(String key) throws IOException {
+        for (String resourceType : RESOURCE_TYPES) {
+            Map resource;
+            try {
+                resource = cloudinary.api().resource(key, Map.of("resource_type", resourceType));
+            } catch (NotFound e) {
+                continue;
+            } catch (Exception e) {
+                throw new IOException("Failed to read metadata of " + key + " from Cloudinary.", e);
+            }
+            String url = (String) resource.get("secure_url");
+            Object format = resource.get("format");
+            Object createdAt = resource.get("created_at");
+            return Optional.of(StoredFile.builder()
+                    .key(key)
+                    .url(url)
+                    .size(((Number) resource.get("bytes")).longValue())
+                    .contentType(MediaTypeFactory.getMediaType(format != null ? key + "." + format : url)
+                            .map(MediaType::toString)
+                            .orElse(MediaType.APPLICATION_OCTET_STREAM_VALUE))
+                    .lastModified(createdAt != null ? Instant.parse(createdAt.toString()) : null)
+                    .build());
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public boolean supportsRangedRead() {
+        return true;
+    }
+
+    @Override
+    public long read(String key, long position, long count, WritableByteChannel target) throws IOException {
+        StoredFile file = stat(key).orElseThrow(() -> new IOException("Object not found on Cloudinary: " + key));
+        if (count <= 0) {
+            return 0;
+        }
+        HttpRequest request = HttpRequest.newBuilder(URI.create(file.getUrl()))
+                .header(HttpHeaders.RANGE, "bytes=" + position + "-" + (position + count - 1))
+                .GET()
+                .build();
+        HttpResponse<InputStream> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while reading " + key + " from Cloudinary.", e);
+        }
+
+        try (InputStream in = response.body()) {
+            if (response.statusCode() == 200) {
+                // CDN bỏ qua Range: tự bỏ phần đầu
+                in.skipNBytes(position);
+            } else if (response.statusCode() != 206) {
+                throw new IOException("Cloudinary returned " + response.statusCode() + " for " + key);
+            }
+            byte[] buffer = new byte[COPY_BUFFER];
+            long written = 0;
+            while (written < count) {
+                int n = in.read(buffer, 0, (int) Math.min(buffer.length, count - written));
+                if (n < 0) break;
+                ByteBuffer chunk = ByteBuffer.wrap(buffer, 0, n);
+                while (chunk.hasRemaining()) {
+                    target.write(chunk);
+                }
+                written += n;
+            }
+            return written;
+        }
+    }
+
+    @Override
+    public boolean delete(String key) {
+        return cloudinaryFileService.deleteImage(key);
+    }
+}
@@ -7,7 +7,11 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "defty.file")
 public class FileProperties {
     private boolean enabled = true;
+    // cloudinary | local
+    private String provider = "cloudinary";
     private CloudinaryProperties cloudinary;
+    private Upload upload = new Upload();
+    private Local local = new Local();
 
     @Data
     public static class CloudinaryProperties {
@@ -15,4 +19,19 @@ public class FileProperties {
         private String apiKey;
         private String apiSecret;
     }
-}
\ No newline at end of file
+
+    @Data
+    public static class Upload {
+        private long maxFileSize = 20 * 1024 * 1024; // byte
+        private int chunkSize = 6 * 1024 * 1024;     // byte, Cloudinary yêu cầu tối thiểu 5MB
+        private int threads = 4;
+        private int queueCapacity = 32;
+        private long batchTimeoutSeconds = 120;
+    }
+
+    @Data
+    public static class Local {
+        private String rootDir = "/app/shared/uploads";
+        private String publicBaseUrl = "/media";
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.common_library.file;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Configuration
+public class FileUploadExecutorConfig {
+
+    public static final String FILE_UPLOAD_EXECUTOR = "fileUploadExecutor";
+
+    /**
+     * Pool giới hạn cho upload: số thread và hàng đợi cố định,
+     * khi đầy thì thread gọi tự upload (CallerRuns) thay vì tạo thêm thread hoặc ném lỗi.
+     */
+    @Bean(name = FILE_UPLOAD_EXECUTOR, destroyMethod = "shutdown")
+    public ExecutorService fileUploadExecutor(FileProperties fileProperties) {
+        FileProperties.Upload upload = fileProperties.getUpload();
+        AtomicInteger counter = new AtomicInteger();
+        ThreadFactory threadFactory = r -> {
+            Thread t = new Thread(r, "file-upload-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+        log.info("File upload executor: threads={}, queueCapacity={}", upload.getThreads(), upload.getQueueCapacity());
+        return new ThreadPoolExecutor(
+                upload.getThreads(),
+                upload.getThreads(),
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(upload.getQueueCapacity()),
+                threadFactory,
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+    }
+}
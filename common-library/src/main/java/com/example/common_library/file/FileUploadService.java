@@ -0,0 +1,31 @@
+package com.example.common_library.file;
+
+import com.example.common_library.dto.response.CloudinaryUploadResponse;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public interface FileUploadService {
+
+    String uploadFile(MultipartFile file) throws IOException;
+
+    CloudinaryUploadResponse uploadFileWithPublicId(MultipartFile file) throws IOException;
+
+    /**
+     * Upload bất đồng bộ trên upload executor (bounded)
+     */
+    CompletableFuture<CloudinaryUploadResponse> uploadFileAsync(MultipartFile file);
+
+    /**
+     * Upload song song nhiều file, kết quả trả về đúng thứ tự đầu vào
+     * @throws IOException nếu bất kỳ file nào upload thất bại
+     */
+    List<String> uploadFiles(List<MultipartFile> files) throws IOException;
+
+    /**
+     * @return false nếu không xoá được; backend local không bao giờ xoá (object dùng chung theo hash nội dung)
+     */
+    boolean deleteImage(String publicId);
+}
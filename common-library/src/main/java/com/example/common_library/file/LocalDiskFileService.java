@@ -0,0 +1,50 @@
+package com.example.common_library.file;
+
+import com.example.common_library.dto.response.CloudinaryUploadResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Backend thay thế Cloudinary, ghi file xuống đĩa local qua {@link LocalStorageService}.
+ * Dùng khi chạy offline / đo throughput upload (defty.file.provider=local).
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "defty.file.provider", havingValue = "local")
+public class LocalDiskFileService extends AbstractFileUploadService {
+
+    private final LocalStorageService storageService;
+
+    public LocalDiskFileService(FileProperties fileProperties,
+                                LocalStorageService storageService,
+                                @Qualifier(FileUploadExecutorConfig.FILE_UPLOAD_EXECUTOR) ExecutorService uploadExecutor) {
+        super(fileProperties, uploadExecutor);
+        this.storageService = storageService;
+        log.info("Local disk file service ready.");
+    }
+
+    @Override
+    public CloudinaryUploadResponse uploadFileWithPublicId(MultipartFile file) throws IOException {
+        validate(file);
+        StoredFile stored = storageService.store(file);
+        return new CloudinaryUploadResponse(stored.getUrl(), stored.getKey());
+    }
+
+    /**
+     * Backend local không hỗ trợ xoá: object được đặt tên theo hash nội dung nên các upload trùng nội dung dùng chung
+     * một file, xoá theo một key sẽ làm hỏng các bản ghi khác, và chưa có bộ đếm tham chiếu để biết khi nào an toàn.
+     * Dung lượng thư mục lưu trữ vì vậy chỉ tăng; muốn dọn phải làm thủ công khi service dừng.
+     * @return luôn false: object vẫn còn trên đĩa
+     */
+    @Override
+    public boolean deleteImage(String publicId) {
+        log.warn("Delete is not supported by the local storage backend, object {} is kept on disk", publicId);
+        return false;
+    }
+}
@@ -0,0 +1,200 @@
+package com.example.common_library.file;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * StorageService lưu file trên đĩa của server, thay cho ServerFileService cũ.
+ * <ul>
+ *     <li>Content-addressed: object được đặt tên theo SHA-256 nội dung, file trùng nội dung chỉ lưu một lần.
+ *     Key = sha256 + đuôi file gốc, ví dụ {@code 9f86d0...0f00a08.mp3}.</li>
+ *     <li>Ghi bằng FileChannel.transferFrom, đọc theo khoảng byte bằng FileChannel.transferTo (sendfile).</li>
+ * </ul>
+ * Vì nội dung được dùng chung giữa các key trùng hash, chỉ gọi {@link #delete(String)} khi chắc chắn
+ * không còn bản ghi nào tham chiếu tới object đó.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "defty.file.provider", havingValue = "local")
+public class LocalStorageService implements StorageService {
+
+    private static final Pattern KEY_PATTERN = Pattern.compile("^([0-9a-f]{64})(\\.[a-z0-9]{1,8})?$");
+    private static final long TRANSFER_CHUNK = 8L * 1024 * 1024;
+
+    private final FileProperties fileProperties;
+    private final Path rootDir;
+    private final Path objectsDir;
+    private final Path tmpDir;
+
+    public LocalStorageService(FileProperties fileProperties) throws IOException {
+        this.fileProperties = fileProperties;
+        this.rootDir = Paths.get(fileProperties.getLocal().getRootDir()).toAbsolutePath().normalize();
+        this.objectsDir = rootDir.resolve("objects");
+        // tmp nằm cùng filesystem với objects để move được atomic
+        this.tmpDir = rootDir.resolve("tmp");
+        Files.createDirectories(objectsDir);
+        Files.createDirectories(tmpDir);
+        log.info("Local storage active at root: {}", rootDir);
+    }
+
+    @Override
+    public StoredFile store(MultipartFile file) throws IOException {
+        long maxSize = fileProperties.getUpload().getMaxFileSize();
+        if (file == null || file.isEmpty()) {
+            throw new IOException("File is empty or null.");
+        }
+        if (file.getSize() > maxSize) {
+            throw new IOException("File size exceeds " + (maxSize / (1024 * 1024)) + "MB limit.");
+        }
+
+        MessageDigest digest = newSha256();
+        Path tmp = Files.createTempFile(tmpDir, "upload-", ".part");
+        try {
+            long written = 0;
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest);
+                 ReadableByteChannel src = Channels.newChannel(in);
+                 FileChannel dst = FileChannel.open(tmp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                long n;
+                while ((n = dst.transferFrom(src, written, TRANSFER_CHUNK)) > 0) {
+                    written += n;
+                }
+            }
+
+            String sha256 = HexFormat.of().formatHex(digest.digest());
+            Path object = objectPath(sha256);
+            if (Files.exists(object)) {
+                log.debug("Deduplicated upload '{}' -> {}", file.getOriginalFilename(), sha256);
+            } else {
+                Files.createDirectories(object.getParent());
+                try {
+                    Files.move(tmp, object, StandardCopyOption.ATOMIC_MOVE);
+                } catch (FileAlreadyExistsException e) {
+                    // Request khác vừa ghi cùng nội dung, dùng lại object đó
+                    log.debug("Concurrent upload of {} already stored", sha256);
+                }
+            }
+
+            String key = sha256 + extensionOf(file.getOriginalFilename());
+            return toStoredFile(key, sha256, written, Files.getLastModifiedTime(object).toInstant());
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    @Override
+    public Optional<StoredFile> stat(String key) throws IOException {
+        Path object = resolve(key);
+        if (!Files.isRegularFile(object)) {
+            return Optional.empty();
+        }
+        BasicFileAttributes attrs = Files.readAttributes(object, BasicFileAttributes.class);
+        return Optional.of(toStoredFile(key, shaOf(key), attrs.size(), attrs.lastModifiedTime().toInstant()));
+    }
+
+    @Override
+    public boolean supportsRangedRead() {
+        return true;
+    }
+
+    @Override
+    public long read(String key, long position, long count, WritableByteChannel target) throws IOException {
+        try (FileChannel src = FileChannel.open(resolve(key), StandardOpenOption.READ)) {
+            long end = Math.min(src.size(), position + count);
+            long pos = position;
+            // transferTo có thể trả về ít hơn yêu cầu nên phải lặp
+            while (pos < end) {
+                long n = src.transferTo(pos, end - pos, target);
+                if (n <= 0) break;
+                pos += n;
+            }
+            return pos - position;
+        }
+    }
+
+    @Override
+    public boolean delete(String key) {
+        try {
+            return Files.deleteIfExists(resolve(key));
+        } catch (Exception e) {
+            log.error("Failed to delete {} from local storage: {}", key, e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public Optional<Path> localPath(String key) {
+        Path object = resolve(key);
+        return Files.isRegularFile(object) ? Optional.of(object) : Optional.empty();
+    }
+
+    private StoredFile toStoredFile(String key, String sha256, long size, Instant lastModified) {
+        return StoredFile.builder()
+                .key(key)
+                .url(fileProperties.getLocal().getPublicBaseUrl() + "/" + key)
+                .size(size)
+                .contentType(MediaTypeFactory.getMediaType(key)
+                        .map(MediaType::toString)
+                        .orElse(MediaType.APPLICATION_OCTET_STREAM_VALUE))
+                .sha256(sha256)
+                .lastModified(lastModified)
+                .build();
+    }
+
+    private Path resolve(String key) {
+        return objectPath(shaOf(key));
+    }
+
+    private Path objectPath(String sha256) {
+        return objectsDir.resolve(sha256.substring(0, 2)).resolve(sha256.substring(2, 4)).resolve(sha256);
+    }
+
+    private String shaOf(String key) {
+        Matcher matcher = key == null ? null : KEY_PATTERN.matcher(key);
+        if (matcher == null || !matcher.matches()) {
+            throw new IllegalArgumentException("Invalid storage key: " + key);
+        }
+        return matcher.group(1);
+    }
+
+    private String extensionOf(String filename) {
+        if (filename == null) return "";
+        int dotIndex = filename.lastIndexOf('.');
+        if (dotIndex < 0 || dotIndex == filename.length() - 1) return "";
+        String ext = filename.substring(dotIndex + 1).toLowerCase();
+        return ext.matches("[a-z0-9]{1,8}") ? "." + ext : "";
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
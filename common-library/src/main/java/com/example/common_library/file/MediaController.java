@@ -0,0 +1,142 @@
+package com.example.common_library.file;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Phục vụ file từ LocalStorageService: hỗ trợ Range (tua audio), ETag/Last-Modified (304)
+ * và sendfile của Tomcat khi connector hỗ trợ.
+ * Với Cloudinary, file được phục vụ trực tiếp qua url của CDN nên controller này không bật.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/media")
+@ConditionalOnProperty(name = "defty.file.provider", havingValue = "local")
+public class MediaController {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    // Object được đặt tên theo hash nội dung nên không bao giờ thay đổi
+    private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    private final StorageService storageService;
+
+    public MediaController(StorageService storageService) {
+        this.storageService = storageService;
+    }
+
+    @RequestMapping(value = "/{key}", method = {RequestMethod.GET, RequestMethod.HEAD})
+    public void serve(@PathVariable String key,
+                      HttpServletRequest request,
+                      HttpServletResponse response) throws IOException {
+        Optional<StoredFile> found;
+        try {
+            found = storageService.stat(key);
+        } catch (IllegalArgumentException e) {
+            found = Optional.empty();
+        }
+        if (found.isEmpty()) {
+            response.sendError(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+        StoredFile file = found.get();
+        String etag = "\"" + file.getSha256() + "\"";
+        long lastModified = file.getLastModified().toEpochMilli();
+
+        // Set ETag/Last-Modified và trả 304 nếu If-None-Match / If-Modified-Since khớp
+        if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+            return;
+        }
+
+        long length = file.getSize();
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        response.setContentType(file.getContentType());
+
+        long start = 0;
+        long end = length - 1;
+        HttpRange range = resolveRange(request, etag, lastModified);
+        if (range != null) {
+            try {
+                start = range.getRangeStart(length);
+                end = range.getRangeEnd(length);
+            } catch (IllegalArgumentException e) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.sendError(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                return;
+            }
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        }
+
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+        if (RequestMethod.HEAD.name().equals(request.getMethod()) || count <= 0) {
+            return;
+        }
+
+        Optional<Path> path = storageService.localPath(key);
+        if (path.isPresent() && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // Tomcat tự gửi file bằng sendfile sau khi servlet trả về, không copy qua user space
+            request.setAttribute(SENDFILE_FILENAME, path.get().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        storageService.read(key, start, count, Channels.newChannel(response.getOutputStream()));
+    }
+
+    /**
+     * Chỉ hỗ trợ một khoảng byte; nhiều khoảng (multipart/byteranges) thì trả nguyên file.
+     * If-Range không khớp ETag/Last-Modified hiện tại cũng trả nguyên file.
+     */
+    private HttpRange resolveRange(HttpServletRequest request, String etag, long lastModified) {
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader == null) {
+            return null;
+        }
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null) {
+            boolean isEtag = ifRange.startsWith("\"") || ifRange.startsWith("W/");
+            if (isEtag ? !ifRange.equals(etag) : !sameSecond(request, lastModified)) {
+                return null;
+            }
+        }
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            log.debug("Ignoring malformed Range header: {}", rangeHeader);
+            return null;
+        }
+    }
+
+    private boolean sameSecond(HttpServletRequest request, long lastModified) {
+        try {
+            long ifRangeDate = request.getDateHeader(HttpHeaders.IF_RANGE);
+            return ifRangeDate != -1 && ifRangeDate / 1000 == lastModified / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.common_library.file;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Lớp lưu trữ file dùng chung, backend được chọn bằng defty.file.provider (cloudinary | local).
+ */
+public interface StorageService {
+
+    StoredFile store(MultipartFile file) throws IOException;
+
+    Optional<StoredFile> stat(String key) throws IOException;
+
+    /**
+     * Backend có đọc được theo khoảng byte (Range) hay không.
+     * Nếu false, client phải đọc trực tiếp qua StoredFile.url.
+     */
+    boolean supportsRangedRead();
+
+    /**
+     * Ghi đoạn [position, position + count) của object vào target.
+     * @return số byte đã ghi
+     */
+    long read(String key, long position, long count, WritableByteChannel target) throws IOException;
+
+    boolean delete(String key);
+
+    /**
+     * Đường dẫn vật lý của object nếu backend lưu trên đĩa của server (dùng cho sendfile).
+     */
+    default Optional<Path> localPath(String key) {
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.common_library.file;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * Metadata của một object trong StorageService.
+ */
+@Getter
+@Builder
+public class StoredFile {
+    private final String key;
+    private final String url;
+    private final long size;
+    private final String contentType;
+    // null với backend không tính hash (Cloudinary)
+    private final String sha256;
+    private final Instant lastModified;
+}
@@ -0,0 +1,46 @@
+package com.example.common_library.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@Configuration
+@EnableConfigurationProperties(IdempotencyProperties.class)
+@ConditionalOnProperty(name = "defty.idempotency.enabled", havingValue = "true")
+public class IdempotencyConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "defty.idempotency.store", havingValue = "memory", matchIfMissing = true)
+    public IdempotencyStore inMemoryIdempotencyStore(IdempotencyProperties properties) {
+        return new InMemoryIdempotencyStore(properties.getMaxEntries());
+    }
+
+    /**
+     * Đăng ký sau Spring Security (order mặc định thấp nhất) để biết user hiện tại khi tạo key.
+     */
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(IdempotencyProperties properties,
+                                                                       IdempotencyStore idempotencyStore) {
+        FilterRegistrationBean<IdempotencyFilter> registration =
+                new FilterRegistrationBean<>(new IdempotencyFilter(properties, idempotencyStore));
+        registration.addUrlPatterns("/*");
+        return registration;
+    }
+
+    // Tách riêng để service không có spring-data-redis vẫn load được cấu hình này
+    @Configuration
+    @ConditionalOnClass(name = "org.springframework.data.redis.core.StringRedisTemplate")
+    @ConditionalOnProperty(name = "defty.idempotency.store", havingValue = "redis")
+    static class RedisStoreConfig {
+
+        @Bean
+        public IdempotencyStore redisIdempotencyStore(StringRedisTemplate redisTemplate, ObjectMapper objectMapper) {
+            return new RedisIdempotencyStore(redisTemplate, objectMapper);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.common_library.idempotency;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "defty.idempotency")
+public class IdempotencyProperties {
+    private boolean enabled = false;
+    private String headerName = "Idempotency-Key";
+    // Thời gian giữ response đã xong để replay
+    private Duration ttl = Duration.ofHours(24);
+    // Khoá "đang xử lý": ngắn, để replica chết giữa chừng không chặn key cả ngày
+    private Duration lockTtl = Duration.ofMinutes(1);
+    // Ant pattern của các endpoint POST/PUT/PATCH áp dụng, ví dụ /submission, /submission/excel-job
+    private List<String> paths = new ArrayList<>();
+    // memory | redis
+    private String store = "memory";
+    private int maxEntries = 10_000;
+    // Response lớn hơn ngưỡng này không được lưu để replay
+    private int maxBodyBytes = 256 * 1024;
+    // Body request (không phải multipart) được đọc trước để tính fingerprint; lớn hơn thì trả 413
+    private int maxRequestBytes = 1024 * 1024;
+}
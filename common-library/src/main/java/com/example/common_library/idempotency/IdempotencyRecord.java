@@ -0,0 +1,24 @@
+package com.example.common_library.idempotency;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Trạng thái của một Idempotency-Key: đang xử lý, hoặc đã xong kèm response để replay.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyRecord {
+    private boolean completed;
+    // method + URI + SHA-256 của body, để phát hiện cùng key nhưng khác request
+    private String fingerprint;
+    private int status;
+    private String contentType;
+    private byte[] body;
+
+    public static IdempotencyRecord inProgress(String fingerprint) {
+        return new IdempotencyRecord(false, fingerprint, 0, null, null);
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.common_library.idempotency;
+
+import java.time.Duration;
+import java.util.Optional;
+
+public interface IdempotencyStore {
+
+    /**
+     * Đánh dấu key đang xử lý nếu chưa tồn tại (atomic).
+     * @return empty nếu request này giành được key; ngược lại là record hiện có
+     */
+    Optional<IdempotencyRecord> tryBegin(String key, IdempotencyRecord inProgress, Duration ttl);
+
+    void complete(String key, IdempotencyRecord record, Duration ttl);
+
+    /**
+     * Bỏ key (request lỗi) để client có thể gửi lại.
+     */
+    void release(String key);
+}
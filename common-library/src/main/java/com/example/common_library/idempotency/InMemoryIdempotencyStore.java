@@ -0,0 +1,58 @@
+package com.example.common_library.idempotency;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Store trong bộ nhớ của một instance; dùng khi chỉ chạy một replica hoặc khi không có Redis.
+ */
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private static final int PURGE_EVERY = 256;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicInteger writes = new AtomicInteger();
+    private final int maxEntries;
+
+    public InMemoryIdempotencyStore(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> tryBegin(String key, IdempotencyRecord inProgress, Duration ttl) {
+        maybePurge();
+        long now = System.currentTimeMillis();
+        Entry fresh = new Entry(inProgress, now + ttl.toMillis());
+        Entry current = entries.compute(key, (k, existing) ->
+                existing == null || existing.expiresAt <= now ? fresh : existing);
+        return current == fresh ? Optional.empty() : Optional.of(current.record);
+    }
+
+    @Override
+    public void complete(String key, IdempotencyRecord record, Duration ttl) {
+        entries.put(key, new Entry(record, System.currentTimeMillis() + ttl.toMillis()));
+    }
+
+    @Override
+    public void release(String key) {
+        entries.remove(key);
+    }
+
+    private void maybePurge() {
+        if (writes.incrementAndGet() % PURGE_EVERY != 0 && entries.size() < maxEntries) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.expiresAt <= now);
+        // Vẫn đầy thì bỏ bớt các entry đã hoàn tất (đang xử lý thì giữ lại)
+        if (entries.size() >= maxEntries) {
+            entries.values().removeIf(entry -> entry.record.isCompleted());
+        }
+    }
+
+    private record Entry(IdempotencyRecord record, long expiresAt) {
+    }
+}
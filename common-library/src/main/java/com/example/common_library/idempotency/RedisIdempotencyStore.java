@@ -0,0 +1,68 @@
+package com.example.common_library.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Store dùng chung giữa các replica: SET NX để giành key, value là IdempotencyRecord dạng JSON.
+ */
+@Slf4j
+public class RedisIdempotencyStore implements IdempotencyStore {
+
+    private static final String PREFIX = "idempotency:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public RedisIdempotencyStore(StringRedisTemplate redisTemplate, ObjectMapper objectMapper) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> tryBegin(String key, IdempotencyRecord inProgress, Duration ttl) {
+        String redisKey = PREFIX + key;
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(redisKey, write(inProgress), ttl);
+        if (Boolean.TRUE.equals(acquired)) {
+            return Optional.empty();
+        }
+        String existing = redisTemplate.opsForValue().get(redisKey);
+        if (existing == null) {
+            // Key vừa hết hạn giữa hai lệnh, thử giành lại một lần
+            acquired = redisTemplate.opsForValue().setIfAbsent(redisKey, write(inProgress), ttl);
+            return Boolean.TRUE.equals(acquired) ? Optional.empty() : Optional.of(inProgress);
+        }
+        return Optional.of(read(existing));
+    }
+
+    @Override
+    public void complete(String key, IdempotencyRecord record, Duration ttl) {
+        redisTemplate.opsForValue().set(PREFIX + key, write(record), ttl);
+    }
+
+    @Override
+    public void release(String key) {
+        redisTemplate.delete(PREFIX + key);
+    }
+
+    private String write(IdempotencyRecord record) {
+        try {
+            return objectMapper.writeValueAsString(record);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to serialize idempotency record", e);
+        }
+    }
+
+    private IdempotencyRecord read(String value) {
+        try {
+            return objectMapper.readValue(value, IdempotencyRecord.class);
+        } catch (Exception e) {
+            log.warn("Corrupted idempotency record, treating as in progress: {}", e.getMessage());
+            return IdempotencyRecord.inProgress(null);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.common_library.json;
+
+import com.example.common_library.exceptions.JsonHandlerException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache ObjectReader/ObjectWriter theo kiểu cho các DTO nóng (Kafka message, response client).
+ * Reader/writer bất biến và thread-safe; giữ lại giúp bỏ qua bước tra cứu (de)serializer root mỗi lần gọi.
+ */
+@Component
+public class JsonCodecs {
+
+    private final ObjectMapper objectMapper;
+    private final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    public JsonCodecs(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public ObjectReader reader(Class<?> type) {
+        return readers.computeIfAbsent(type, objectMapper::readerFor);
+    }
+
+    public ObjectWriter writer(Class<?> type) {
+        return writers.computeIfAbsent(type, objectMapper::writerFor);
+    }
+
+    public <T> T read(String json, Class<T> type) {
+        try {
+            return reader(type).readValue(json);
+        } catch (JsonProcessingException e) {
+            throw new JsonHandlerException("Cannot parse JSON to " + type.getSimpleName() + ": " + e.getOriginalMessage());
+        }
+    }
+
+    public <T> T read(byte[] json, Class<T> type) {
+        try {
+            return reader(type).readValue(json);
+        } catch (IOException e) {
+            throw new JsonHandlerException("Cannot parse JSON to " + type.getSimpleName() + ": " + e.getMessage());
+        }
+    }
+
+    public String write(Object value) {
+        try {
+            return writer(value.getClass()).writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new JsonHandlerException("Cannot serialize " + value.getClass().getSimpleName() + ": " + e.getOriginalMessage());
+        }
+    }
+
+    public byte[] writeBytes(Object value) {
+        try {
+            return writer(value.getClass()).writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new JsonHandlerException("Cannot serialize " + value.getClass().getSimpleName() + ": " + e.getOriginalMessage());
+        }
+    }
+}
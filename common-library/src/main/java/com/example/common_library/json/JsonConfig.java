@@ -0,0 +1,18 @@
+package com.example.common_library.json;
+
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JsonConfig {
+
+    /**
+     * Áp cấu hình của {@link JsonMappers} lên ObjectMapper do Spring Boot tạo, để MVC, Feign, Kafka
+     * và {@link JsonCodecs} cùng dùng một mapper đã tinh chỉnh.
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer deftyJacksonCustomizer() {
+        return builder -> builder.postConfigurer(JsonMappers::applyDefaults);
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.common_library.json;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+/**
+ * Cấu hình Jackson dùng chung cho mọi service.
+ * Bean ObjectMapper của Spring được áp cùng cấu hình qua {@link JsonConfig}; code ngoài Spring
+ * (benchmark, util tĩnh) lấy mapper từ {@link #shared()} thay vì {@code new ObjectMapper()}.
+ */
+public final class JsonMappers {
+
+    private static final ObjectMapper SHARED = applyDefaults(JsonMapper.builder().build());
+
+    private JsonMappers() {
+    }
+
+    /**
+     * Mapper dùng chung, thread-safe sau khi cấu hình xong. Không được đổi cấu hình sau khi lấy ra;
+     * cần biến thể khác thì dùng {@code reader()/writer()} hoặc {@link #create()}.
+     */
+    public static ObjectMapper shared() {
+        return SHARED;
+    }
+
+    public static ObjectMapper create() {
+        return applyDefaults(JsonMapper.builder().build());
+    }
+
+    public static ObjectMapper applyDefaults(ObjectMapper mapper) {
+        // Module đã đăng ký (vd Spring Boot tự tìm JavaTimeModule) sẽ được Jackson bỏ qua, không bị nhân đôi
+        mapper.registerModule(new JavaTimeModule());
+        // Blackbird thay accessor reflection bằng lambda sinh lúc runtime -> (de)serialize POJO nhanh hơn
+        mapper.registerModule(new BlackbirdModule());
+        mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        mapper.disable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
+        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        // Không dùng @JsonView, bỏ bước kiểm tra view cho mọi property
+        mapper.disable(MapperFeature.DEFAULT_VIEW_INCLUSION);
+        return mapper;
+    }
+}
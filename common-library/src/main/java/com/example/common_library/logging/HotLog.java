@@ -0,0 +1,153 @@
+package com.example.common_library.logging;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Logger cho hot path (mỗi request / mỗi phần tử trong vòng lặp).
+ * <ul>
+ *     <li>Kiểm tra level trước khi làm bất cứ việc gì; tham số dạng {@link Supplier} chỉ được tính khi thực sự log.</li>
+ *     <li>Các hàm {@code sampled*} chỉ ghi 1 trên N lần gọi, N cấu hình theo package qua
+ *     {@code defty.logging.sampling.rates}.</li>
+ *     <li>Overload số tham số cố định để tránh tạo mảng varargs.</li>
+ * </ul>
+ * Khai báo: {@code private static final HotLog hotLog = HotLog.getLogger(Foo.class);}
+ */
+public final class HotLog {
+
+    private final Logger delegate;
+    private final AtomicLong counter = new AtomicLong();
+    private volatile int sampleEvery;
+    private volatile int generation = -1;
+
+    private HotLog(Logger delegate) {
+        this.delegate = delegate;
+    }
+
+    public static HotLog getLogger(Class<?> type) {
+        return new HotLog(LoggerFactory.getLogger(type));
+    }
+
+    public static HotLog getLogger(String name) {
+        return new HotLog(LoggerFactory.getLogger(name));
+    }
+
+    public Logger delegate() {
+        return delegate;
+    }
+
+    // ===== DEBUG =====
+
+    public void debug(String msg) {
+        delegate.debug(msg);
+    }
+
+    public void debug(String format, Supplier<?> arg) {
+        if (delegate.isDebugEnabled()) {
+            delegate.debug(format, arg.get());
+        }
+    }
+
+    public void debug(String format, Supplier<?> arg1, Supplier<?> arg2) {
+        if (delegate.isDebugEnabled()) {
+            delegate.debug(format, arg1.get(), arg2.get());
+        }
+    }
+
+    public void sampledDebug(String msg) {
+        if (delegate.isDebugEnabled() && sample()) {
+            delegate.debug(msg);
+        }
+    }
+
+    public void sampledDebug(String format, Object arg) {
+        if (delegate.isDebugEnabled() && sample()) {
+            delegate.debug(format, arg);
+        }
+    }
+
+    public void sampledDebug(String format, Object arg1, Object arg2) {
+        if (delegate.isDebugEnabled() && sample()) {
+            delegate.debug(format, arg1, arg2);
+        }
+    }
+
+    // ===== INFO =====
+
+    public void info(String msg) {
+        delegate.info(msg);
+    }
+
+    public void info(String format, Supplier<?> arg) {
+        if (delegate.isInfoEnabled()) {
+            delegate.info(format, arg.get());
+        }
+    }
+
+    public void info(String format, Supplier<?> arg1, Supplier<?> arg2) {
+        if (delegate.isInfoEnabled()) {
+            delegate.info(format, arg1.get(), arg2.get());
+        }
+    }
+
+    public void sampledInfo(String msg) {
+        if (delegate.isInfoEnabled() && sample()) {
+            delegate.info(msg);
+        }
+    }
+
+    public void sampledInfo(String format, Object arg) {
+        if (delegate.isInfoEnabled() && sample()) {
+            delegate.info(format, arg);
+        }
+    }
+
+    public void sampledInfo(String format, Object arg1, Object arg2) {
+        if (delegate.isInfoEnabled() && sample()) {
+            delegate.info(format, arg1, arg2);
+        }
+    }
+
+    public void sampledInfo(String format, Object arg1, Object arg2, Object arg3) {
+        if (delegate.isInfoEnabled() && sample()) {
+            delegate.info(format, arg1, arg2, arg3);
+        }
+    }
+
+    public void sampledInfo(String format, Supplier<?> arg) {
+        if (delegate.isInfoEnabled() && sample()) {
+            delegate.info(format, arg.get());
+        }
+    }
+
+    // ===== WARN / ERROR: không lấy mẫu =====
+
+    public void warn(String format, Object arg) {
+        delegate.warn(format, arg);
+    }
+
+    public void warn(String format, Object arg1, Object arg2) {
+        delegate.warn(format, arg1, arg2);
+    }
+
+    public void error(String msg, Throwable t) {
+        delegate.error(msg, t);
+    }
+
+    private boolean sample() {
+        int every = sampleEvery();
+        return every <= 1 || counter.getAndIncrement() % every == 0;
+    }
+
+    private int sampleEvery() {
+        int current = HotLogSampling.generation();
+        if (generation != current) {
+            sampleEvery = HotLogSampling.rateFor(delegate.getName());
+            generation = current;
+        }
+        return sampleEvery;
+    }
+}
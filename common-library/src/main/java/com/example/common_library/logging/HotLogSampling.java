@@ -0,0 +1,41 @@
+package com.example.common_library.logging;
+
+import java.util.Map;
+
+/**
+ * Bảng tỉ lệ lấy mẫu theo package, dùng chung cho mọi {@link HotLog}.
+ * Khớp theo prefix package dài nhất; không khớp thì dùng defaultRate.
+ */
+final class HotLogSampling {
+
+    private static volatile Map<String, Integer> rates = Map.of();
+    private static volatile int defaultRate = 1;
+    private static volatile int generation = 0;
+
+    private HotLogSampling() {
+    }
+
+    static synchronized void configure(Map<String, Integer> newRates, int newDefaultRate) {
+        rates = Map.copyOf(newRates);
+        defaultRate = Math.max(1, newDefaultRate);
+        generation++;
+    }
+
+    static int generation() {
+        return generation;
+    }
+
+    static int rateFor(String loggerName) {
+        String bestMatch = null;
+        int rate = defaultRate;
+        for (Map.Entry<String, Integer> entry : rates.entrySet()) {
+            String pkg = entry.getKey();
+            boolean matches = loggerName.equals(pkg) || loggerName.startsWith(pkg + ".");
+            if (matches && (bestMatch == null || pkg.length() > bestMatch.length())) {
+                bestMatch = pkg;
+                rate = Math.max(1, entry.getValue());
+            }
+        }
+        return rate;
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.common_library.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.ILoggerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(LoggingProperties.class)
+public class LoggingConfig {
+
+    public LoggingConfig(LoggingProperties loggingProperties) {
+        LoggingProperties.Sampling sampling = loggingProperties.getSampling();
+        HotLogSampling.configure(sampling.getRates(), sampling.getDefaultRate());
+        if (loggingProperties.getAsync().isEnabled()) {
+            installAsyncAppenders(loggingProperties.getAsync());
+        }
+    }
+
+    /**
+     * Bọc các appender của root logger (console, file...) bằng AsyncAppender với queue giới hạn,
+     * để thread xử lý request không phải chờ I/O ghi log.
+     */
+    private void installAsyncAppenders(LoggingProperties.Async async) {
+        ILoggerFactory factory = LoggerFactory.getILoggerFactory();
+        if (!(factory instanceof LoggerContext context)) {
+            log.warn("Async logging skipped, logger factory is not logback: {}", factory.getClass().getName());
+            return;
+        }
+        ch.qos.logback.classic.Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+
+        List<Appender<ILoggingEvent>> appenders = new ArrayList<>();
+        for (Iterator<Appender<ILoggingEvent>> it = root.iteratorForAppenders(); it.hasNext(); ) {
+            Appender<ILoggingEvent> appender = it.next();
+            if (!(appender instanceof AsyncAppender)) {
+                appenders.add(appender);
+            }
+        }
+
+        for (Appender<ILoggingEvent> appender : appenders) {
+            AsyncAppender asyncAppender = new AsyncAppender();
+            asyncAppender.setContext(context);
+            asyncAppender.setName("ASYNC-" + appender.getName());
+            asyncAppender.setQueueSize(async.getQueueSize());
+            asyncAppender.setDiscardingThreshold(async.getDiscardingThreshold());
+            asyncAppender.setNeverBlock(async.isNeverBlock());
+            asyncAppender.setIncludeCallerData(false);
+            asyncAppender.addAppender(appender);
+            asyncAppender.start();
+
+            root.detachAppender(appender);
+            root.addAppender(asyncAppender);
+        }
+        log.info("Async logging enabled for {} appender(s), queueSize={}", appenders.size(), async.getQueueSize());
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.common_library.logging;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "defty.logging")
+public class LoggingProperties {
+    private Sampling sampling = new Sampling();
+    private Async async = new Async();
+
+    @Data
+    public static class Sampling {
+        // 1 = ghi mọi lần gọi
+        private int defaultRate = 1;
+        // key là package, ví dụ "[com.submission_service.service]": 100
+        private Map<String, Integer> rates = new HashMap<>();
+    }
+
+    @Data
+    public static class Async {
+        private boolean enabled = true;
+        private int queueSize = 8192;
+        // Khi còn trống ít hơn ngưỡng này, bỏ log TRACE/DEBUG/INFO; -1 = mặc định của logback (queueSize / 5)
+        private int discardingThreshold = -1;
+        // true: queue đầy thì bỏ mọi log, kể cả WARN/ERROR (discardingThreshold chỉ giữ chúng khi được phép chặn).
+        // Mặc định false: queue đầy thì WARN/ERROR chờ chỗ trống, TRACE/DEBUG/INFO đã bị bỏ từ ngưỡng discarding
+        private boolean neverBlock = false;
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.common_library.pagination;
+
+public enum CountMode {
+    // Không đếm, chỉ trả hasNext (rẻ nhất)
+    NONE,
+    // COUNT(*) theo đúng Specification
+    EXACT,
+    // Ước lượng từ thống kê của PostgreSQL (pg_class.reltuples), chỉ áp dụng khi không có điều kiện lọc
+    ESTIMATED
+}
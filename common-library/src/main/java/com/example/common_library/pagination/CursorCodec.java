@@ -0,0 +1,99 @@
+package com.example.common_library.pagination;
+
+import com.example.common_library.exceptions.BadRequestException;
+import com.example.common_library.json.JsonMappers;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Mã hoá cursor dạng opaque: base64url của {"s": chữ ký sort, "v": [giá trị các cột sort]}.
+ * Chữ ký sort giúp từ chối cursor được tạo với cách sort khác.
+ */
+final class CursorCodec {
+
+    private static final ObjectMapper MAPPER = JsonMappers.shared();
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private CursorCodec() {
+    }
+
+    static String encode(List<Object> values, Sort sort) {
+        List<String> raw = new ArrayList<>(values.size());
+        for (Object value : values) {
+            if (value == null) {
+                throw new IllegalStateException("Keyset sort properties must not be null");
+            }
+            raw.add(value instanceof Enum<?> e ? e.name() : value.toString());
+        }
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("s", signature(sort));
+        payload.put("v", raw);
+        try {
+            return ENCODER.encodeToString(MAPPER.writeValueAsBytes(payload));
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to encode cursor", e);
+        }
+    }
+
+    static List<String> decode(String cursor, Sort sort) {
+        Map<String, Object> payload;
+        try {
+            payload = MAPPER.readValue(DECODER.decode(cursor.getBytes(StandardCharsets.US_ASCII)),
+                    new TypeReference<>() {});
+        } catch (Exception e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+        if (!signature(sort).equals(payload.get("s")) || !(payload.get("v") instanceof List<?> values)
+                || values.size() != sort.toList().size()) {
+            throw new BadRequestException("Cursor does not match the requested sort");
+        }
+        List<String> result = new ArrayList<>(values.size());
+        for (Object value : values) {
+            result.add(String.valueOf(value));
+        }
+        return result;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static Object convert(String raw, Class<?> type) {
+        try {
+            if (type == String.class) return raw;
+            if (type == Long.class || type == long.class) return Long.valueOf(raw);
+            if (type == Integer.class || type == int.class) return Integer.valueOf(raw);
+            if (type == Short.class || type == short.class) return Short.valueOf(raw);
+            if (type == Double.class || type == double.class) return Double.valueOf(raw);
+            if (type == Boolean.class || type == boolean.class) return Boolean.valueOf(raw);
+            if (type == UUID.class) return UUID.fromString(raw);
+            if (type == LocalDateTime.class) return LocalDateTime.parse(raw);
+            if (type == LocalDate.class) return LocalDate.parse(raw);
+            if (type == Instant.class) return Instant.parse(raw);
+            if (type == OffsetDateTime.class) return OffsetDateTime.parse(raw);
+            if (type.isEnum()) return Enum.valueOf((Class<Enum>) type, raw);
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+        throw new IllegalArgumentException("Unsupported keyset property type: " + type.getName());
+    }
+
+    private static String signature(Sort sort) {
+        StringBuilder sb = new StringBuilder();
+        for (Sort.Order order : sort) {
+            sb.append(order.getProperty()).append(order.isAscending() ? '+' : '-');
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.common_library.pagination;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+@Builder
+public class KeysetPage<T> {
+    private final List<T> content;
+    // Truyền lại vào request tiếp theo; null khi đã hết dữ liệu
+    private final String nextCursor;
+    private final boolean hasNext;
+    private final int size;
+    // null khi CountMode.NONE hoặc không ước lượng được
+    private final Long totalElements;
+
+    public <R> KeysetPage<R> map(Function<? super T, ? extends R> mapper) {
+        return KeysetPage.<R>builder()
+                .content(content.stream().<R>map(mapper).toList())
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .size(size)
+                .totalElements(totalElements)
+                .build();
+    }
+}
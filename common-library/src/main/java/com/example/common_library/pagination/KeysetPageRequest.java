@@ -0,0 +1,52 @@
+package com.example.common_library.pagination;
+
+import lombok.Getter;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Yêu cầu phân trang theo keyset (cursor).
+ * Sort luôn được bổ sung "id" làm khoá phụ để thứ tự là duy nhất, các cột sort không được null.
+ */
+@Getter
+public class KeysetPageRequest {
+
+    public static final String ID_PROPERTY = "id";
+
+    private final int size;
+    private final String cursor;
+    private final Sort sort;
+    private final CountMode countMode;
+
+    private KeysetPageRequest(int size, String cursor, Sort sort, CountMode countMode) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must be at least 1");
+        }
+        this.size = size;
+        this.cursor = (cursor == null || cursor.isBlank()) ? null : cursor;
+        this.sort = withIdTieBreaker(sort);
+        this.countMode = countMode;
+    }
+
+    public static KeysetPageRequest of(int size, String cursor, Sort sort) {
+        return new KeysetPageRequest(size, cursor, sort, CountMode.NONE);
+    }
+
+    public KeysetPageRequest withCountMode(CountMode countMode) {
+        return new KeysetPageRequest(size, cursor, sort, countMode);
+    }
+
+    public boolean isFirstPage() {
+        return cursor == null;
+    }
+
+    private static Sort withIdTieBreaker(Sort sort) {
+        if (sort == null || sort.isUnsorted()) {
+            return Sort.by(Sort.Direction.DESC, ID_PROPERTY);
+        }
+        if (sort.getOrderFor(ID_PROPERTY) != null) {
+            return sort;
+        }
+        Sort.Direction lastDirection = sort.toList().get(sort.toList().size() - 1).getDirection();
+        return sort.and(Sort.by(lastDirection, ID_PROPERTY));
+    }
+}
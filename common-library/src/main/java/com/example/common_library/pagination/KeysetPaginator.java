@@ -0,0 +1,151 @@
+package com.example.common_library.pagination;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Phân trang keyset (cursor) cho mọi entity, dùng chung Specification với các API hiện có.
+ * <pre>
+ * KeysetPage&lt;Submission&gt; page = keysetPaginator.findPage(Submission.class, spec,
+ *         KeysetPageRequest.of(20, cursor, Sort.by(Sort.Direction.DESC, "createdDate")));
+ * </pre>
+ * Khác với PageRequest.of(page, size): không OFFSET và không COUNT mặc định, trang sâu tốn như trang đầu.
+ */
+@Slf4j
+@Component
+public class KeysetPaginator {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final Map<Class<?>, Optional<String>> tableNames = new ConcurrentHashMap<>();
+
+    public <T> KeysetPage<T> findPage(Class<T> entityType, Specification<T> spec, KeysetPageRequest request) {
+        Sort sort = request.getSort();
+        List<Sort.Order> orders = sort.toList();
+        int size = request.getSize();
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = cb.createQuery(entityType);
+        Root<T> root = query.from(entityType);
+
+        List<Predicate> predicates = new ArrayList<>(2);
+        if (spec != null) {
+            Predicate predicate = spec.toPredicate(root, query, cb);
+            if (predicate != null) {
+                predicates.add(predicate);
+            }
+        }
+        if (!request.isFirstPage()) {
+            List<String> raw = CursorCodec.decode(request.getCursor(), sort);
+            List<Object> values = new ArrayList<>(raw.size());
+            for (int i = 0; i < orders.size(); i++) {
+                Class<?> type = KeysetSpecifications.path(root, orders.get(i).getProperty()).getJavaType();
+                values.add(CursorCodec.convert(raw.get(i), type));
+            }
+            predicates.add(KeysetSpecifications.<T>after(sort, values).toPredicate(root, query, cb));
+        }
+
+        query.select(root)
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        // Lấy dư một hàng để biết còn trang sau hay không
+        List<T> rows = entityManager.createQuery(query)
+                .setMaxResults(size + 1)
+                .getResultList();
+
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? new ArrayList<>(rows.subList(0, size)) : rows;
+        String nextCursor = hasNext ? CursorCodec.encode(keyValues(content.get(size - 1), orders), sort) : null;
+
+        return KeysetPage.<T>builder()
+                .content(content)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .size(size)
+                .totalElements(count(entityType, spec, request.getCountMode()))
+                .build();
+    }
+
+    private List<Object> keyValues(Object entity, List<Sort.Order> orders) {
+        BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(entity);
+        List<Object> values = new ArrayList<>(orders.size());
+        for (Sort.Order order : orders) {
+            values.add(wrapper.getPropertyValue(order.getProperty()));
+        }
+        return values;
+    }
+
+    private <T> Long count(Class<T> entityType, Specification<T> spec, CountMode countMode) {
+        return switch (countMode) {
+            case NONE -> null;
+            case EXACT -> exactCount(entityType, spec);
+            // Có điều kiện lọc thì thống kê cả bảng không còn đúng, không trả số sai
+            case ESTIMATED -> spec == null ? estimatedCount(entityType) : null;
+        };
+    }
+
+    private <T> Long exactCount(Class<T> entityType, Specification<T> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<T> root = query.from(entityType);
+        query.select(cb.count(root));
+        if (spec != null) {
+            Predicate predicate = spec.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private Long estimatedCount(Class<?> entityType) {
+        Optional<String> tableName = tableNames.computeIfAbsent(entityType, this::resolveTableName);
+        if (tableName.isEmpty()) {
+            return null;
+        }
+        try {
+            Object result = entityManager
+                    .createNativeQuery("SELECT reltuples::bigint FROM pg_class WHERE oid = to_regclass(:table)")
+                    .setParameter("table", tableName.get())
+                    .getSingleResult();
+            long estimate = ((Number) result).longValue();
+            // reltuples = -1 khi bảng chưa từng được ANALYZE
+            return estimate >= 0 ? estimate : null;
+        } catch (Exception e) {
+            log.debug("Row estimate unavailable for {}: {}", tableName.get(), e.getMessage());
+            return null;
+        }
+    }
+
+    private Optional<String> resolveTableName(Class<?> entityType) {
+        SessionFactoryImplementor sessionFactory = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class);
+        EntityPersister persister = sessionFactory.getMappingMetamodel().getEntityDescriptor(entityType);
+        if (persister instanceof AbstractEntityPersister entityPersister) {
+            return Optional.of(entityPersister.getTableName());
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.common_library.pagination;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class KeysetSpecifications {
+
+    private KeysetSpecifications() {
+    }
+
+    /**
+     * Điều kiện "đứng sau" một hàng theo thứ tự sort:
+     * (a > v1) OR (a = v1 AND b > v2) OR ... (dùng &lt; cho cột DESC).
+     * Có index khớp thứ tự sort thì mỗi trang là một lần index range scan, không phụ thuộc độ sâu trang.
+     */
+    public static <T> Specification<T> after(Sort sort, List<?> values) {
+        return (root, query, cb) -> {
+            List<Sort.Order> orders = sort.toList();
+            List<Predicate> alternatives = new ArrayList<>(orders.size());
+            for (int i = 0; i < orders.size(); i++) {
+                List<Predicate> conjunction = new ArrayList<>(i + 1);
+                for (int j = 0; j < i; j++) {
+                    conjunction.add(cb.equal(path(root, orders.get(j).getProperty()), values.get(j)));
+                }
+                conjunction.add(beyond(cb, path(root, orders.get(i).getProperty()), orders.get(i), values.get(i)));
+                alternatives.add(cb.and(conjunction.toArray(new Predicate[0])));
+            }
+            return cb.or(alternatives.toArray(new Predicate[0]));
+        };
+    }
+
+    static <T> Path<?> path(Root<T> root, String property) {
+        Path<?> path = root;
+        for (String part : property.split("\\.")) {
+            path = path.get(part);
+        }
+        return path;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Predicate beyond(CriteriaBuilder cb, Path<?> path, Sort.Order order, Object value) {
+        Path<Comparable> comparable = (Path<Comparable>) path;
+        return order.isAscending()
+                ? cb.greaterThan(comparable, (Comparable) value)
+                : cb.lessThan(comparable, (Comparable) value);
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.common_library.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exporter không cần collector ngoài: giữ các span gần nhất trong ring buffer
+ * và nếu cấu hình fileDir thì nối thêm vào file JSONL xoay vòng theo kích thước (mỗi dòng một span).
+ * Dùng chung cho các service và gateway để mọi file span cùng một format.
+ * Được gọi từ thread của BatchSpanProcessor nên không nằm trên đường xử lý request.
+ */
+@Slf4j
+public class LocalSpanExporter implements SpanExporter {
+
+    private static final AttributeKey<String> SERVICE_NAME = AttributeKey.stringKey("service.name");
+
+    private final int capacity;
+    private final ArrayDeque<SpanRecord> buffer;
+    private final ObjectMapper objectMapper;
+    private final SpanFileWriter fileWriter;
+
+    public LocalSpanExporter(TracingProperties properties, String serviceName, ObjectMapper objectMapper) throws IOException {
+        this.capacity = Math.max(0, properties.getBufferSize());
+        this.buffer = new ArrayDeque<>(capacity);
+        this.objectMapper = objectMapper;
+        if (properties.getFileDir() != null && !properties.getFileDir().isBlank()) {
+            this.fileWriter = new SpanFileWriter(Paths.get(properties.getFileDir()), serviceName,
+                    properties.getMaxFileSize().toBytes(), properties.getMaxFiles());
+            log.info("Local span exporter writing to {} (max {} x {})", fileWriter.currentFile().toAbsolutePath(),
+                    properties.getMaxFiles() + 1, properties.getMaxFileSize());
+        } else {
+            this.fileWriter = null;
+        }
+    }
+
+    @Override
+    public CompletableResultCode export(Collection<SpanData> spans) {
+        List<SpanRecord> records = new ArrayList<>(spans.size());
+        for (SpanData span : spans) {
+            records.add(toRecord(span));
+        }
+        if (capacity > 0) {
+            synchronized (buffer) {
+                for (SpanRecord record : records) {
+                    if (buffer.size() == capacity) {
+                        buffer.pollFirst();
+                    }
+                    buffer.addLast(record);
+                }
+            }
+        }
+        if (fileWriter != null) {
+            try {
+                List<String> lines = new ArrayList<>(records.size());
+                for (SpanRecord record : records) {
+                    lines.add(objectMapper.writeValueAsString(record));
+                }
+                fileWriter.write(lines);
+            } catch (IOException e) {
+                log.warn("Failed to write spans to file: {}", e.getMessage());
+                return CompletableResultCode.ofFailure();
+            }
+        }
+        return CompletableResultCode.ofSuccess();
+    }
+
+    /**
+     * Các span của một trace, sắp theo thời điểm bắt đầu.
+     */
+    public List<SpanRecord> getTrace(String traceId) {
+        List<SpanRecord> result = new ArrayList<>();
+        synchronized (buffer) {
+            for (SpanRecord record : buffer) {
+                if (record.getTraceId().equals(traceId)) {
+                    result.add(record);
+                }
+            }
+        }
+        result.sort(Comparator.comparingLong(SpanRecord::getStartEpochMicros));
+        return result;
+    }
+
+    /**
+     * Các span đi vào service này (SERVER / CONSUMER / không có parent) gần nhất, mới nhất trước.
+     */
+    public List<SpanRecord> getRecentEntrySpans(int limit) {
+        List<SpanRecord> result = new ArrayList<>();
+        synchronized (buffer) {
+            Iterator<SpanRecord> it = buffer.descendingIterator();
+            while (it.hasNext() && result.size() < limit) {
+                SpanRecord record = it.next();
+                if (record.getParentSpanId() == null || record.getKind().equals("SERVER") || record.getKind().equals("CONSUMER")) {
+                    result.add(record);
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        if (fileWriter != null) {
+            try {
+                fileWriter.flush();
+            } catch (IOException e) {
+                return CompletableResultCode.ofFailure();
+            }
+        }
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        if (fileWriter != null) {
+            try {
+                fileWriter.close();
+            } catch (IOException e) {
+                return CompletableResultCode.ofFailure();
+            }
+        }
+        return CompletableResultCode.ofSuccess();
+    }
+
+    private SpanRecord toRecord(SpanData span) {
+        Map<String, String> attributes = new LinkedHashMap<>();
+        span.getAttributes().forEach((key, value) -> attributes.put(key.getKey(), String.valueOf(value)));
+        String parentSpanId = span.getParentSpanContext().isValid() ? span.getParentSpanId() : null;
+        return SpanRecord.builder()
+                .traceId(span.getTraceId())
+                .spanId(span.getSpanId())
+                .parentSpanId(parentSpanId)
+                .service(span.getResource().getAttribute(SERVICE_NAME))
+                .name(span.getName())
+                .kind(span.getKind().name())
+                .startEpochMicros(TimeUnit.NANOSECONDS.toMicros(span.getStartEpochNanos()))
+                .durationMicros(TimeUnit.NANOSECONDS.toMicros(span.getEndEpochNanos() - span.getStartEpochNanos()))
+                .status(span.getStatus().getStatusCode().name())
+                .attributes(attributes)
+                .build();
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.common_library.tracing;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Ghi span ra {@code <dir>/<service>-spans.jsonl}, mỗi dòng một span. File vượt maxFileBytes thì được đổi tên thành
+ * {@code <service>-spans.1.jsonl} (các file cũ lùi số), chỉ giữ maxFiles file cũ: tổng dung lượng tối đa
+ * khoảng (maxFiles + 1) x maxFileBytes. Các hàm đều synchronized nên gọi được từ nhiều thread.
+ */
+final class SpanFileWriter implements Closeable {
+
+    private static final int LINE_SEPARATOR_BYTES = System.lineSeparator().getBytes(StandardCharsets.UTF_8).length;
+
+    private final Path dir;
+    private final String baseName;
+    private final long maxFileBytes;
+    private final int maxFiles;
+    private BufferedWriter writer;
+    private long size;
+
+    SpanFileWriter(Path dir, String serviceName, long maxFileBytes, int maxFiles) throws IOException {
+        this.dir = dir;
+        this.baseName = serviceName + "-spans";
+        this.maxFileBytes = Math.max(1, maxFileBytes);
+        this.maxFiles = Math.max(0, maxFiles);
+        Files.createDirectories(dir);
+        open();
+    }
+
+    Path currentFile() {
+        return dir.resolve(baseName + ".jsonl");
+    }
+
+    synchronized void write(List<String> lines) throws IOException {
+        for (String line : lines) {
+            long bytes = line.getBytes(StandardCharsets.UTF_8).length + LINE_SEPARATOR_BYTES;
+            if (size > 0 && size + bytes > maxFileBytes) {
+                rotate();
+            }
+            writer.write(line);
+            writer.newLine();
+            size += bytes;
+        }
+        writer.flush();
+    }
+
+    synchronized void flush() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        writer.close();
+    }
+
+    private void open() throws IOException {
+        Path file = currentFile();
+        writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        size = Files.size(file);
+    }
+
+    private void rotate() throws IOException {
+        writer.close();
+        if (maxFiles == 0) {
+            Files.delete(currentFile());
+        } else {
+            Files.deleteIfExists(rolledFile(maxFiles));
+            for (int i = maxFiles - 1; i >= 1; i--) {
+                Path from = rolledFile(i);
+                if (Files.exists(from)) {
+                    Files.move(from, rolledFile(i + 1), StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            Files.move(currentFile(), rolledFile(1), StandardCopyOption.REPLACE_EXISTING);
+        }
+        open();
+    }
+
+    private Path rolledFile(int index) {
+        return dir.resolve(baseName + "." + index + ".jsonl");
+    }
+}
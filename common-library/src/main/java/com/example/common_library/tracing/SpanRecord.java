@@ -0,0 +1,24 @@
+package com.example.common_library.tracing;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * Bản ghi span đã kết thúc, ở dạng dễ đọc / serialize.
+ */
+@Getter
+@Builder
+public class SpanRecord {
+    private final String traceId;
+    private final String spanId;
+    private final String parentSpanId;
+    private final String service;
+    private final String name;
+    private final String kind;
+    private final long startEpochMicros;
+    private final long durationMicros;
+    private final String status;
+    private final Map<String, String> attributes;
+}
@@ -0,0 +1,43 @@
+package com.example.common_library.tracing;
+
+import com.example.common_library.response.ApiResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Xem nhanh các span đã ghi nhận trong service hiện tại, không cần Jaeger/Zipkin.
+ * Span có thể chứa câu SQL và id người dùng nên chỉ admin được gọi.
+ */
+@RestController
+@PreAuthorize("hasAnyAuthority('ROLE_admin', 'ROLE_system-admin')")
+@RequestMapping("/internal/traces")
+@ConditionalOnProperty(name = "defty.tracing.local.enabled", havingValue = "true", matchIfMissing = true)
+public class TraceController {
+
+    private final LocalSpanExporter localSpanExporter;
+
+    public TraceController(LocalSpanExporter localSpanExporter) {
+        this.localSpanExporter = localSpanExporter;
+    }
+
+    @GetMapping
+    public ApiResponse<List<SpanRecord>> getRecentTraces(@RequestParam(defaultValue = "50") int limit) {
+        return ApiResponse.<List<SpanRecord>>builder()
+                .result(localSpanExporter.getRecentEntrySpans(Math.min(limit, 500)))
+                .build();
+    }
+
+    @GetMapping("/{traceId}")
+    public ApiResponse<List<SpanRecord>> getTrace(@PathVariable String traceId) {
+        return ApiResponse.<List<SpanRecord>>builder()
+                .result(localSpanExporter.getTrace(traceId))
+                .build();
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.common_library.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+
+/**
+ * Span được tạo bởi Micrometer Observation (HTTP server, Feign, Kafka, JDBC) qua bridge OpenTelemetry.
+ * Spring Boot tự đưa mọi bean SpanExporter vào BatchSpanProcessor, nên chỉ cần khai báo exporter local ở đây.
+ */
+@Configuration
+@EnableConfigurationProperties(TracingProperties.class)
+@ConditionalOnProperty(name = "defty.tracing.local.enabled", havingValue = "true", matchIfMissing = true)
+public class TracingConfig {
+
+    @Bean
+    public LocalSpanExporter localSpanExporter(TracingProperties tracingProperties,
+                                               @Value("${spring.application.name:application}") String serviceName) throws IOException {
+        // ObjectMapper riêng: chỉ serialize SpanRecord, không phụ thuộc cấu hình mapper của service
+        return new LocalSpanExporter(tracingProperties, serviceName, new ObjectMapper());
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.common_library.tracing;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@Data
+@ConfigurationProperties(prefix = "defty.tracing.local")
+public class TracingProperties {
+    // Exporter local: giữ span gần nhất trong bộ nhớ và (tuỳ chọn) ghi ra file JSONL
+    private boolean enabled = true;
+    // Số span giữ trong bộ nhớ cho /internal/traces; 0 = không giữ (chỉ ghi file)
+    private int bufferSize = 4096;
+    // Để trống (mặc định) thì không ghi file; mỗi service ghi <file-dir>/<service>-spans.jsonl
+    private String fileDir;
+    // File vượt kích thước này thì xoay vòng, chỉ giữ max-files file cũ
+    private DataSize maxFileSize = DataSize.ofMegabytes(50);
+    private int maxFiles = 3;
+}
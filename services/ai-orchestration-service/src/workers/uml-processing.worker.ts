@@ -13,6 +13,7 @@ import sendFeedBack from "../client/feedback-service.client";
 
 const KAFKA_TOPIC_UML_SUBMISSION_PROCESSED = process.env.KAFKA_TOPIC_UML_SUBMISSION_PROCESSED || 'uml_submission.processed';
 const QUEUE_CONCURRENCY = parseInt(process.env.QUEUE_CONCURRENCY || '50');
+const AI_MODEL_NAME = process.env.AI_MODEL || process.env.AI_PROVIDER || 'gemini';
 
 umlProcessingQueue.process(
     QUEUE_CONCURRENCY,
@@ -31,12 +32,14 @@ umlProcessingQueue.process(
                 throw new UmlProcessingError('Type miss match');
             }
 
-            // await publishMessage(KAFKA_TOPIC_UML_SUBMISSION_PROCESSED, {
-            //     submissionId: job.data.id,
-            //     typeUmlName: job.data.typeUmlName,
-            //     status: 'success',
-            //     data
-            // });
+            await publishMessage(KAFKA_TOPIC_UML_SUBMISSION_PROCESSED, {
+                submissionId: job.data.id,
+                typeUmlName: job.data.typeUmlName,
+                status: 'success',
+                score: data.referenceScore?.total,
+                aiModelName: AI_MODEL_NAME,
+                data
+            });
 
             // await sendFeedBack(job.data.id, data, 'gemini');
 
@@ -92,13 +95,16 @@ umlProcessingQueue.process(
                 return { processingError: true };
             }
 
-            await publishMessage(KAFKA_TOPIC_UML_SUBMISSION_PROCESSED, {
-                submissionId: job.data.id,
-                typeUmlName: job.data.typeUmlName,
-                status: 'failed',
-                error: error.message || 'Lỗi không xác định',
-                retryable: true
-            });
+            // Chỉ báo failed ở lần thử cuối: submission-service coi FAILED là trạng thái cuối
+            const attempts = job.opts.attempts ?? 1;
+            if (job.attemptsMade + 1 >= attempts) {
+                await publishMessage(KAFKA_TOPIC_UML_SUBMISSION_PROCESSED, {
+                    submissionId: job.data.id,
+                    typeUmlName: job.data.typeUmlName,
+                    status: 'failed',
+                    error: error.message || 'Lỗi không xác định'
+                });
+            }
 
             logger.error({
                 message: 'Worker failed UML job - will retry',
@@ -3,36 +3,32 @@ package com.defty.class_management_service.mapper;
 import com.defty.class_management_service.dto.request.ClassRequest;
 import com.defty.class_management_service.dto.response.ClassResponse;
 import com.defty.class_management_service.entity.ClassEntity;
-import com.defty.class_management_service.entity.CourseEntity;
 import com.defty.class_management_service.repository.IEnrollmentRepository;
-import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.mapstruct.AfterMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.stereotype.Component;
 
-@Component
-@RequiredArgsConstructor
-public class ClassMapper {
-    private final ModelMapper modelMapper;
+@Mapper(config = MappingConfig.class)
+public abstract class ClassMapper {
     @Autowired
-    private final IEnrollmentRepository enrollmentRepository;
-    public ClassEntity toClassEntity(ClassRequest classRequest){
-        ClassEntity classEntity = modelMapper.map(classRequest, ClassEntity.class);
-        return classEntity;
-    }
-    public ClassResponse toClassResponse(ClassEntity classEntity) {
-        ClassResponse classResponse = modelMapper.map(classEntity, ClassResponse.class);
+    protected IEnrollmentRepository enrollmentRepository;
+
+    // courseEntity được service gắn sau khi kiểm tra course tồn tại
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "courseEntity", ignore = true)
+    public abstract ClassEntity toClassEntity(ClassRequest classRequest);
+
+    @Mapping(target = "currentStudents", ignore = true)
+    @Mapping(target = "courseId", source = "courseEntity.id")
+    @Mapping(target = "courseColor", source = "courseEntity.color")
+    public abstract ClassResponse toClassResponse(ClassEntity classEntity);
 
+    @AfterMapping
+    protected void fillCurrentStudents(ClassEntity classEntity, @MappingTarget ClassResponse classResponse) {
         classResponse.setCurrentStudents(
                 enrollmentRepository.findAllActiveByClassId(classEntity.getId()).size()
         );
-        if (classEntity.getCourseEntity() != null) {
-            CourseEntity courseEntity = classEntity.getCourseEntity();
-            classResponse.setCourseId(courseEntity.getId());
-            classResponse.setCourseColor(courseEntity.getColor());
-        }
-
-        return classResponse;
     }
-
 }
@@ -0,0 +1,19 @@
+package com.defty.content_service.dto.event;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Đề bài hoặc một assignment-class-detail vừa thay đổi; service khác cache dữ liệu đề thì xoá theo id tương ứng.
+ * Sửa/xoá assignment gửi {@code assignmentId}, bỏ giao cho lớp gửi {@code assignmentClassDetailId}.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class AssignmentChangedEvent {
+    Long assignmentId;
+    Long assignmentClassDetailId;
+}
@@ -0,0 +1,48 @@
+package com.defty.content_service.event;
+
+import com.defty.content_service.dto.event.AssignmentChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Gửi AssignmentChangedEvent lên Kafka sau khi transaction commit, để bên nhận không đọc lại dữ liệu cũ.
+ * Gửi lỗi chỉ log: cache phía nhận có TTL ngắn nên dữ liệu cũ tự hết hạn.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class AssignmentEventPublisher {
+
+    KafkaTemplate<String, String> kafkaTemplate;
+    ObjectMapper objectMapper;
+
+    @NonFinal
+    @Value("${content.events.assignment-topic:content.assignment.changed}")
+    String assignmentTopic;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void publish(AssignmentChangedEvent event) {
+        try {
+            String key = String.valueOf(event.getAssignmentId() != null ? event.getAssignmentId() : event.getAssignmentClassDetailId());
+            kafkaTemplate.send(assignmentTopic, key, objectMapper.writeValueAsString(event))
+                    .whenComplete((result, ex) -> {
+                        if (ex != null) {
+                            log.warn("Error publishing assignment change {}: {}", key, ex.getMessage());
+                        }
+                    });
+        } catch (JsonProcessingException | KafkaException e) {
+            log.warn("Error publishing assignment change: {}", e.getMessage());
+        }
+    }
+}
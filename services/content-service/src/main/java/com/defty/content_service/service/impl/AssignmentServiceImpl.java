@@ -1,6 +1,7 @@
 package com.defty.content_service.service.impl;
 
 import com.defty.content_service.client.ClassServiceClient;
+import com.defty.content_service.dto.event.AssignmentChangedEvent;
 import com.defty.content_service.dto.request.*;
 import com.defty.content_service.dto.response.*;
 import com.defty.content_service.entity.*;
@@ -18,6 +19,7 @@ import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -38,6 +40,7 @@ class AssignmentServiceImpl implements AssignmentService {
     ModuleRepository moduleRepository;
     ModuleSolutionRepository moduleSolutionRepository;
     AssignmentClassDetailRepository assignmentClassDetailRepository;
+    ApplicationEventPublisher eventPublisher;
 
     @Override
     public Page<AssignmentResponse> getAllAssignments(Long classId, Long typeUmlId, String title, Pageable pageable) {
@@ -188,6 +191,7 @@ class AssignmentServiceImpl implements AssignmentService {
         Optional<AssignmentClassDetail> detail = assignmentClassDetailRepository.findById(assignmentClassDetailId);
         if (detail.isPresent()) {
             assignmentClassDetailRepository.delete(detail.get());
+            eventPublisher.publishEvent(AssignmentChangedEvent.builder().assignmentClassDetailId(assignmentClassDetailId).build());
         } else {
             throw new NotFoundException("AssignmentClassDetail not found with id: " + assignmentClassDetailId);
         }
@@ -206,6 +210,7 @@ class AssignmentServiceImpl implements AssignmentService {
                 .orElseThrow(() -> new NotFoundException("Assignment not found"));
         assignment.setIsActive(-1);
         assignmentRepository.save(assignment);
+        eventPublisher.publishEvent(AssignmentChangedEvent.builder().assignmentId(assignmentId).build());
     }
 
     @Override
@@ -660,6 +665,8 @@ class AssignmentServiceImpl implements AssignmentService {
             }
         }
 
+        // Đề bài, module hoặc đáp án đổi: submission-service xoá metadata đã cache (gửi sau commit)
+        eventPublisher.publishEvent(AssignmentChangedEvent.builder().assignmentId(assignment.getId()).build());
         return toAssignmentResponse(assignment);
     }
 
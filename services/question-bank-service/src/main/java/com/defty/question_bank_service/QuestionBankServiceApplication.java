@@ -7,7 +7,6 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.context.annotation.ComponentScan;
-import org.springframework.context.annotation.FilterType;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.scheduling.annotation.EnableScheduling;
@@ -26,11 +25,7 @@ import org.springframework.scheduling.annotation.EnableScheduling;
         basePackages = {
                 "com.defty.question_bank_service",
                 "com.example.common_library"
-        },
-        excludeFilters = @ComponentScan.Filter(
-                type = FilterType.ASSIGNABLE_TYPE,
-                classes = com.example.common_library.configuration.MapperConfig.class
-        )
+        }
 )
 @EnableScheduling
 public class QuestionBankServiceApplication {
@@ -1,14 +1,18 @@
 package com.defty.question_bank_service.dto.response.client;
 
 import com.defty.question_bank_service.dto.response.DirectionSetMinimalDTO;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.util.List;
 import java.util.UUID;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class TestSetQuestionsResponse {
     private UUID testSetId;
     private String testSetSlug;
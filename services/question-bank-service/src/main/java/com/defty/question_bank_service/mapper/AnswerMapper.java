@@ -3,27 +3,22 @@ package com.defty.question_bank_service.mapper;
 import com.defty.question_bank_service.dto.request.AnswerRequest;
 import com.defty.question_bank_service.dto.response.AnswerResponse;
 import com.defty.question_bank_service.entity.AnswerEntity;
-import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
-import org.springframework.stereotype.Component;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
 
-@Component
-@RequiredArgsConstructor
-public class AnswerMapper {
+@Mapper(config = MappingConfig.class)
+public interface AnswerMapper {
 
-    private final ModelMapper modelMapper;
+    // question được service gắn sau khi kiểm tra questionId
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "question", ignore = true)
+    AnswerEntity toEntity(AnswerRequest request);
 
-    public AnswerEntity toEntity(AnswerRequest request) {
-        return modelMapper.map(request, AnswerEntity.class);
-    }
+    @Mapping(target = "questionId", source = "question.id")
+    AnswerResponse toResponse(AnswerEntity entity);
 
-    public AnswerResponse toResponse(AnswerEntity entity) {
-        AnswerResponse response = modelMapper.map(entity, AnswerResponse.class);
-        response.setQuestionId(entity.getQuestion().getId());
-        return response;
-    }
-
-    public void updateEntity(AnswerRequest request, AnswerEntity entity) {
-        modelMapper.map(request, entity);
-    }
-}
\ No newline at end of file
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "question", ignore = true)
+    void updateEntity(AnswerRequest request, @MappingTarget AnswerEntity entity);
+}
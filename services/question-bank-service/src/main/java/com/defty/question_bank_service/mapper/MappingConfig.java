@@ -0,0 +1,18 @@
+package com.defty.question_bank_service.mapper;
+
+import org.mapstruct.Builder;
+import org.mapstruct.MapperConfig;
+import org.mapstruct.ReportingPolicy;
+
+/**
+ * Cấu hình chung cho mapper MapStruct (sinh code lúc compile, không dùng reflection như ModelMapper).
+ * - Bỏ qua field đích không có nguồn tương ứng, giống hành vi ModelMapper trước đây
+ * - Tắt builder: @Builder của Lombok không chứa field của BaseEntity/BaseResponse, nên dùng setter
+ */
+@MapperConfig(
+        componentModel = "spring",
+        unmappedTargetPolicy = ReportingPolicy.IGNORE,
+        builder = @Builder(disableBuilder = true)
+)
+public interface MappingConfig {
+}
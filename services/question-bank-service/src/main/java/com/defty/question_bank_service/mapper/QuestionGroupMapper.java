@@ -1,57 +1,47 @@
 package com.defty.question_bank_service.mapper;
 
 import com.defty.question_bank_service.dto.request.QuestionGroupRequest;
-import com.defty.question_bank_service.dto.response.FileProcessingResponse;
 import com.defty.question_bank_service.dto.response.QuestionGroupResponse;
-import com.defty.question_bank_service.dto.response.QuestionTagResponse;
 import com.defty.question_bank_service.entity.QuestionGroupEntity;
 import com.defty.question_bank_service.enums.Status;
-import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
-import org.springframework.stereotype.Component;
+import org.mapstruct.AfterMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+import org.springframework.beans.factory.annotation.Autowired;
 
 import java.util.stream.Collectors;
 
-@Component
-@RequiredArgsConstructor
-public class QuestionGroupMapper {
+@Mapper(config = MappingConfig.class, uses = FileProcessingMapper.class)
+public abstract class QuestionGroupMapper {
 
-    private final ModelMapper modelMapper;
-    private final FileMapper fileMapper;
-    private final QuestionMapper questionMapper;
+    @Autowired
+    protected FileMapper fileMapper;
+    @Autowired
+    protected QuestionMapper questionMapper;
 
-    public QuestionGroupResponse toResponse(QuestionGroupEntity entity) {
-        QuestionGroupResponse response = modelMapper.map(entity, QuestionGroupResponse.class);
+    // sourceFileProcessing map qua FileProcessingMapper; files/questions/tags lọc bản ghi đã xóa trong afterMapping
+    @Mapping(target = "files", ignore = true)
+    @Mapping(target = "questions", ignore = true)
+    @Mapping(target = "tags", ignore = true)
+    public abstract QuestionGroupResponse toResponse(QuestionGroupEntity entity);
 
-        // Map source
-        response.setSource(entity.getSource());
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "source", ignore = true)
+    @Mapping(target = "sourceFileProcessing", ignore = true)
+    @Mapping(target = "questions", ignore = true)
+    @Mapping(target = "files", ignore = true)
+    public abstract QuestionGroupEntity toEntity(QuestionGroupRequest request);
 
-        // Map sourceFileProcessing nếu có
-        if (entity.getSourceFileProcessing() != null) {
-            FileProcessingResponse fpResponse = new FileProcessingResponse();
-            fpResponse.setId(entity.getSourceFileProcessing().getId());
-            fpResponse.setTestSetId(entity.getSourceFileProcessing().getTestSet() != null
-                    ? entity.getSourceFileProcessing().getTestSet().getId()
-                    : null);
-            fpResponse.setTestSetName(entity.getSourceFileProcessing().getTestSet() != null
-                    ? entity.getSourceFileProcessing().getTestSet().getTestName()
-                    : null);
-            fpResponse.setPartType(entity.getSourceFileProcessing().getPartType() != null
-                    ? entity.getSourceFileProcessing().getPartType().name()
-                    : null);
-            fpResponse.setStatus(entity.getSourceFileProcessing().getStatus());
-            fpResponse.setTotalQuestionsFound(entity.getSourceFileProcessing().getTotalQuestionsFound());
-            fpResponse.setQuestionsInserted(entity.getSourceFileProcessing().getQuestionsInserted());
-            fpResponse.setQuestionsDuplicated(entity.getSourceFileProcessing().getQuestionsDuplicated());
-            fpResponse.setQuestionsFailed(entity.getSourceFileProcessing().getQuestionsFailed());
-            fpResponse.setManuallyResolved(entity.getSourceFileProcessing().getManuallyResolved());
-            fpResponse.setExistingQuestionsCount(entity.getSourceFileProcessing().getExistingQuestionsCount());
-            fpResponse.setErrorMessage(entity.getSourceFileProcessing().getErrorMessage());
-            fpResponse.setIssueDetails(entity.getSourceFileProcessing().getIssueDetails());
-
-            response.setSourceFileProcessing(fpResponse);
-        }
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "source", ignore = true)
+    @Mapping(target = "sourceFileProcessing", ignore = true)
+    @Mapping(target = "questions", ignore = true)
+    @Mapping(target = "files", ignore = true)
+    public abstract void updateEntity(QuestionGroupRequest request, @MappingTarget QuestionGroupEntity entity);
 
+    @AfterMapping
+    protected void mapChildren(QuestionGroupEntity entity, @MappingTarget QuestionGroupResponse response) {
         // Files
         if (entity.getFiles() != null) {
             response.setFiles(
@@ -77,25 +67,9 @@ public class QuestionGroupMapper {
                             .flatMap(q -> q.getQuestionTagMappings().stream())
                             .filter(mapping -> mapping.getQuestionTag() != null &&
                                     !mapping.getStatus().equals(Status.DELETED.getCode()))
-                            .map(mapping -> {
-                                QuestionTagResponse tagResponse = new QuestionTagResponse();
-                                tagResponse.setId(mapping.getQuestionTag().getId());
-                                tagResponse.setTagName(mapping.getQuestionTag().getTagName());
-                                tagResponse.setDescription(mapping.getQuestionTag().getDescription());
-                                return tagResponse;
-                            })
+                            .map(mapping -> questionMapper.toTagSummary(mapping.getQuestionTag()))
                             .collect(Collectors.toSet())
             );
         }
-
-        return response;
-    }
-
-    public QuestionGroupEntity toEntity(QuestionGroupRequest request) {
-        return modelMapper.map(request, QuestionGroupEntity.class);
-    }
-
-    public void updateEntity(QuestionGroupRequest request, QuestionGroupEntity entity) {
-        modelMapper.map(request, entity);
     }
-}
\ No newline at end of file
+}
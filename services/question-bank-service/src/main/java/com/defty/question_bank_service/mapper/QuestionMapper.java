@@ -1,42 +1,52 @@
 package com.defty.question_bank_service.mapper;
 
 import com.defty.question_bank_service.dto.request.QuestionRequest;
-import com.defty.question_bank_service.dto.response.AnswerResponse;
 import com.defty.question_bank_service.dto.response.QuestionResponse;
 import com.defty.question_bank_service.dto.response.QuestionTagResponse;
 import com.defty.question_bank_service.entity.QuestionEntity;
-import com.defty.question_bank_service.entity.QuestionTagMappingEntity;
+import com.defty.question_bank_service.entity.QuestionTagEntity;
 import com.defty.question_bank_service.enums.Status;
-import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
-import org.springframework.stereotype.Component;
+import org.mapstruct.AfterMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+import org.springframework.beans.factory.annotation.Autowired;
 
 import java.util.stream.Collectors;
 
-@Component
-@RequiredArgsConstructor
-public class QuestionMapper {
+@Mapper(config = MappingConfig.class)
+public abstract class QuestionMapper {
 
-    private final ModelMapper modelMapper;
+    @Autowired
+    protected AnswerMapper answerMapper;
 
-    public QuestionEntity toEntity(QuestionRequest request) {
-        return modelMapper.map(request, QuestionEntity.class);
-    }
+    // questionGroup được service gắn sau khi kiểm tra questionGroupId
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "questionGroup", ignore = true)
+    @Mapping(target = "answers", ignore = true)
+    @Mapping(target = "questionTagMappings", ignore = true)
+    public abstract QuestionEntity toEntity(QuestionRequest request);
 
-    public QuestionResponse toResponse(QuestionEntity entity) {
-        QuestionResponse response = modelMapper.map(entity, QuestionResponse.class);
+    // answers/tags cần lọc bản ghi đã xóa nên map tay trong afterMapping
+    @Mapping(target = "questionGroupId", source = "questionGroup.id")
+    @Mapping(target = "answers", ignore = true)
+    @Mapping(target = "tags", ignore = true)
+    public abstract QuestionResponse toResponse(QuestionEntity entity);
 
-        // Gắn groupId vào response
-        if (entity.getQuestionGroup() != null) {
-            response.setQuestionGroupId(entity.getQuestionGroup().getId());
-        }
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "questionGroup", ignore = true)
+    @Mapping(target = "answers", ignore = true)
+    @Mapping(target = "questionTagMappings", ignore = true)
+    public abstract void updateEntity(QuestionRequest request, @MappingTarget QuestionEntity entity);
 
+    @AfterMapping
+    protected void mapAnswersAndTags(QuestionEntity entity, @MappingTarget QuestionResponse response) {
         // Map answers
         if (entity.getAnswers() != null) {
             response.setAnswers(
                     entity.getAnswers().stream()
                             .filter(a -> !a.getStatus().equals(Status.DELETED.getCode())) // Bỏ câu trả lời đã xóa
-                            .map(answer -> modelMapper.map(answer, AnswerResponse.class))
+                            .map(answerMapper::toResponse)
                             .collect(Collectors.toSet())
             );
         }
@@ -47,21 +57,20 @@ public class QuestionMapper {
                     entity.getQuestionTagMappings().stream()
                             .filter(mapping -> mapping.getQuestionTag() != null &&
                                     !mapping.getStatus().equals(Status.DELETED.getCode()))
-                            .map(mapping -> {
-                                QuestionTagResponse tagResponse = new QuestionTagResponse();
-                                tagResponse.setId(mapping.getQuestionTag().getId());
-                                tagResponse.setTagName(mapping.getQuestionTag().getTagName());
-                                tagResponse.setDescription(mapping.getQuestionTag().getDescription());
-                                return tagResponse;
-                            })
+                            .map(mapping -> toTagSummary(mapping.getQuestionTag()))
                             .collect(Collectors.toSet())
             );
         }
-
-        return response;
     }
 
-    public void updateEntity(QuestionRequest request, QuestionEntity entity) {
-        modelMapper.map(request, entity);
+    /**
+     * Tag gắn kèm câu hỏi chỉ cần id, tên và mô tả (không kèm thông tin audit).
+     */
+    public QuestionTagResponse toTagSummary(QuestionTagEntity tag) {
+        QuestionTagResponse tagResponse = new QuestionTagResponse();
+        tagResponse.setId(tag.getId());
+        tagResponse.setTagName(tag.getTagName());
+        tagResponse.setDescription(tag.getDescription());
+        return tagResponse;
     }
-}
\ No newline at end of file
+}
@@ -3,26 +3,19 @@ package com.defty.question_bank_service.mapper;
 import com.defty.question_bank_service.dto.request.QuestionTagRequest;
 import com.defty.question_bank_service.dto.response.QuestionTagResponse;
 import com.defty.question_bank_service.entity.QuestionTagEntity;
-import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
-import org.springframework.stereotype.Component;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
 
-@Component
-@RequiredArgsConstructor
-public class QuestionTagMapper {
-    private final ModelMapper modelMapper;
-    public QuestionTagEntity toQuestionTagEntity(QuestionTagRequest request) {
-        QuestionTagEntity entity = modelMapper.map(request, QuestionTagEntity.class);
-        return entity;
-    }
+@Mapper(config = MappingConfig.class)
+public interface QuestionTagMapper {
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "questionTagMappings", ignore = true)
+    QuestionTagEntity toQuestionTagEntity(QuestionTagRequest request);
 
-    public QuestionTagResponse toQuestionTagResponse(QuestionTagEntity entity) {
-        QuestionTagResponse response = modelMapper.map(entity, QuestionTagResponse.class);
-        return response;
-    }
+    QuestionTagResponse toQuestionTagResponse(QuestionTagEntity entity);
 
-    public void updateQuestionTagFromRequest(QuestionTagRequest request, QuestionTagEntity entity) {
-        modelMapper.map(request, entity);
-        entity.setQuestionTagMappings(entity.getQuestionTagMappings());
-    }
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "questionTagMappings", ignore = true)
+    void updateQuestionTagFromRequest(QuestionTagRequest request, @MappingTarget QuestionTagEntity entity);
 }
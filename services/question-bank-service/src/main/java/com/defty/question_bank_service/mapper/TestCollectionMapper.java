@@ -4,33 +4,28 @@ import com.defty.question_bank_service.dto.request.TestCollectionRequest;
 import com.defty.question_bank_service.dto.response.TestCollectionResponse;
 import com.defty.question_bank_service.entity.TestCollectionEntity;
 import com.defty.question_bank_service.repository.ITestSetRepository;
-import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
-import org.springframework.stereotype.Component;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.springframework.beans.factory.annotation.Autowired;
 
-@Component
-@RequiredArgsConstructor
-public class TestCollectionMapper {
-    private final ModelMapper modelMapper;
-    private final ITestSetRepository testSetRepository;
-    public TestCollectionEntity toTestCollectionEntity(TestCollectionRequest request) {
-        TestCollectionEntity entity = modelMapper.map(request, TestCollectionEntity.class);
-        return entity;
-    }
+@Mapper(config = MappingConfig.class)
+public abstract class TestCollectionMapper {
+    @Autowired
+    protected ITestSetRepository testSetRepository;
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "testSets", ignore = true)
+    public abstract TestCollectionEntity toTestCollectionEntity(TestCollectionRequest request);
 
     public TestCollectionResponse toTestCollectionResponse(TestCollectionEntity entity) {
-        TestCollectionResponse response = modelMapper.map(entity, TestCollectionResponse.class);
+        TestCollectionResponse response = toTestCollectionPublicResponse(entity);
         long totalTests = testSetRepository.countByCollectionIdAndStatusNot(entity.getId(), -1);
         response.setTotalTests((int) totalTests);
-        response.setIsPublic(entity.isPublic());
         return response;
     }
 
-    public TestCollectionResponse toTestCollectionPublicResponse(TestCollectionEntity entity) {
-        TestCollectionResponse response = modelMapper.map(entity, TestCollectionResponse.class);
-        response.setIsPublic(entity.isPublic());
-        return response;
-    }
+    @Mapping(target = "isPublic", expression = "java(entity.isPublic())")
+    public abstract TestCollectionResponse toTestCollectionPublicResponse(TestCollectionEntity entity);
 
     public void updateTestCollectionFromRequest(TestCollectionRequest request, TestCollectionEntity entity) {
         entity.setCollectionName(request.getCollectionName());
@@ -40,4 +35,4 @@ public class TestCollectionMapper {
             entity.setTotalTests(request.getTotalTests());
         }
     }
-}
\ No newline at end of file
+}
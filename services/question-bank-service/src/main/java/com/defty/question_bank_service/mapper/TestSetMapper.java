@@ -3,38 +3,36 @@ package com.defty.question_bank_service.mapper;
 import com.defty.question_bank_service.dto.request.TestSetRequest;
 import com.defty.question_bank_service.dto.response.TestSetResponse;
 import com.defty.question_bank_service.entity.TestSetEntity;
-import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
-import org.springframework.stereotype.Component;
+import org.mapstruct.AfterMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
 
-@Component
-@RequiredArgsConstructor
-public class TestSetMapper {
-
-    private final ModelMapper modelMapper;
+@Mapper(config = MappingConfig.class)
+public interface TestSetMapper {
 
     // ===== CREATE =====
-    public TestSetEntity toTestSetEntity(TestSetRequest request) {
-        TestSetEntity entity = modelMapper.map(request, TestSetEntity.class);
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "collection", ignore = true)
+    @Mapping(target = "testQuestionGroups", ignore = true)
+    @Mapping(target = "fileProcesses", ignore = true)
+    @Mapping(target = "stats", ignore = true)
+    TestSetEntity toTestSetEntity(TestSetRequest request);
+
+    @AfterMapping
+    default void markPrivate(TestSetRequest request, @MappingTarget TestSetEntity entity) {
         entity.setPublic(false);
-        return entity;
     }
 
     // ===== RESPONSE =====
-    public TestSetResponse toTestSetResponse(TestSetEntity entity) {
-        TestSetResponse response = modelMapper.map(entity, TestSetResponse.class);
-
-        response.setIsPublic(entity.isPublic()); // ✅ map isPublic sang response
-
-        if (entity.getCollection() != null) {
-            response.setCollectionId(entity.getCollection().getId());
-            response.setCollectionName(entity.getCollection().getCollectionName());
-        }
-
-        return response;
-    }
-
-    public TestSetResponse toPublicTestSetResponse(TestSetEntity entity) {
+    @Mapping(target = "isPublic", expression = "java(entity.isPublic())")
+    @Mapping(target = "collectionId", source = "collection.id")
+    @Mapping(target = "collectionName", source = "collection.collectionName")
+    @Mapping(target = "attemptCount", ignore = true)
+    @Mapping(target = "commentCount", ignore = true)
+    TestSetResponse toTestSetResponse(TestSetEntity entity);
+
+    default TestSetResponse toPublicTestSetResponse(TestSetEntity entity) {
         TestSetResponse response = toTestSetResponse(entity);
 
         if (entity.getStats() != null) {
@@ -49,8 +47,8 @@ public class TestSetMapper {
     }
 
     // ===== UPDATE =====
-    public void updateTestSetFromRequest(TestSetRequest request, TestSetEntity entity) {
+    default void updateTestSetFromRequest(TestSetRequest request, TestSetEntity entity) {
         entity.setTestName(request.getTestName());
         entity.setDescription(request.getDescription());
     }
-}
\ No newline at end of file
+}
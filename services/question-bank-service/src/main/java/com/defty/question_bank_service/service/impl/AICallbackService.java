@@ -9,6 +9,7 @@ import com.defty.question_bank_service.service.IAICallbackService;
 import com.example.common_library.exceptions.AppException;
 import com.example.common_library.exceptions.ErrorCode;
 import com.example.common_library.exceptions.NotFoundException;
+import com.example.common_library.logging.HotLog;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,6 +24,8 @@ import java.util.*;
 @Slf4j
 public class AICallbackService implements IAICallbackService {
 
+    private static final HotLog hotLog = HotLog.getLogger(AICallbackService.class);
+
     // File Processing Status Constants
     private static final int STATUS_COMPLETED = 1;
     private static final int STATUS_PROCESSING = 2;
@@ -217,8 +220,9 @@ public class AICallbackService implements IAICallbackService {
             mapping.setQuestionPartOrder(wrapper.getQuestionGroupOrder());
             testQuestionGroupRepository.save(mapping);
 
-            log.info("Created question group: {} with notes: {}",
-                    questionGroup.getId(), questionGroup.getNotes());
+            final QuestionGroupEntity createdGroup = questionGroup;
+            hotLog.debug("Created question group: {} with notes: {}",
+                    createdGroup::getId, createdGroup::getNotes);
 
         } catch (Exception e) {
             log.error("Failed to create question group for order {}: {}",
@@ -247,9 +251,9 @@ public class AICallbackService implements IAICallbackService {
                 createQuestionWithAnswers(questionGroup, qData);
                 stats.questionsInserted++;
 
-                log.debug("Successfully created question {} with {} answers",
-                        qData.getQuestionNumber(),
-                        qData.getAnswers() != null ? qData.getAnswers().size() : 0);
+                hotLog.debug("Successfully created question {} with {} answers",
+                        qData::getQuestionNumber,
+                        () -> qData.getAnswers() != null ? qData.getAnswers().size() : 0);
 
             } catch (Exception e) {
                 stats.questionsFailed++;
@@ -305,7 +309,7 @@ public class AICallbackService implements IAICallbackService {
 
         answerRepository.saveAll(answers);
 
-        log.debug("Saved {} answers for question {}", answers.size(), qData.getQuestionNumber());
+        hotLog.debug("Saved {} answers for question {}", answers::size, qData::getQuestionNumber);
     }
 
     /**
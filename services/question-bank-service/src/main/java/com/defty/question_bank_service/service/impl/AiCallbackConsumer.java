@@ -4,7 +4,7 @@ import com.defty.question_bank_service.dto.internal.AICallbackMessage;
 import com.defty.question_bank_service.dto.internal.AICallbackRequest;
 import com.defty.question_bank_service.dto.internal.TestSetData;
 import com.defty.question_bank_service.service.IAICallbackService;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.common_library.json.JsonCodecs;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
@@ -17,12 +17,12 @@ import org.springframework.stereotype.Service;
 public class AiCallbackConsumer {
 
     private final IAICallbackService aiCallbackService;
+    private final JsonCodecs jsonCodecs;
 
     @KafkaListener(topics = "${app.kafka-topic-test-set-completed}", groupId = "question-bank-service")
     public void handleAiCallback(@Payload String messageJson) {
         try {
-            ObjectMapper objectMapper = new ObjectMapper();
-            AICallbackMessage message = objectMapper.readValue(messageJson, AICallbackMessage.class);
+            AICallbackMessage message = jsonCodecs.read(messageJson, AICallbackMessage.class);
 
             log.info("Received AI callback - uploadId: {}, filePath: {}",
                     message.getUploadId(), message.getFileStoragePath());
@@ -2,7 +2,7 @@ package com.defty.question_bank_service.service.impl;
 
 import com.example.common_library.exceptions.AppException;
 import com.example.common_library.exceptions.ErrorCode;
-//import com.example.common_library.file.CloudinaryFileService;
+import com.example.common_library.file.FileUploadService;
 import com.defty.question_bank_service.dto.response.FileResponse;
 import com.defty.question_bank_service.entity.FileEntity;
 import com.defty.question_bank_service.entity.QuestionGroupEntity;
@@ -33,7 +33,7 @@ public class FileService implements IFileService {
 
     private final IFileRepository fileRepository;
     private final IQuestionGroupRepository groupRepository;
-//    private final CloudinaryFileService cloudinaryFileService;
+    private final FileUploadService fileUploadService;
     private final FileMapper fileMapper;
 
     @Override
@@ -62,12 +62,12 @@ public class FileService implements IFileService {
         QuestionGroupEntity group = groupRepository.findByIdAndNotDeleted(questionGroupId, Status.DELETED.getCode())
                 .orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "Question group not found or deleted"));
 
-        // Upload file lên Cloudinary và lấy URL
-//        String fileUrl = cloudinaryFileService.uploadFile(file);
+        // Upload file lên storage đang cấu hình (Cloudinary / local) và lấy URL
+        String fileUrl = fileUploadService.uploadFile(file);
 
         FileEntity entity = new FileEntity();
         entity.setType(type);
-//        entity.setUrl(fileUrl);
+        entity.setUrl(fileUrl);
         entity.setDisplayOrder(displayOrder);
         entity.setQuestionGroup(group);
         entity.setStatus(Status.ACTIVE.getCode());
@@ -83,10 +83,10 @@ public class FileService implements IFileService {
         QuestionGroupEntity group = groupRepository.findByIdAndNotDeleted(questionGroupId, Status.DELETED.getCode())
                 .orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "Question group not found or deleted"));
 
-//        String fileUrl = cloudinaryFileService.uploadFile(file);
+        String fileUrl = fileUploadService.uploadFile(file);
 
         existing.setType(type);
-//        existing.setUrl(fileUrl);
+        existing.setUrl(fileUrl);
         existing.setDisplayOrder(displayOrder);
         existing.setQuestionGroup(group);
 
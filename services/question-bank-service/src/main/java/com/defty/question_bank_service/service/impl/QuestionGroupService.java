@@ -12,7 +12,7 @@ import com.defty.question_bank_service.enums.Status;
 import com.defty.question_bank_service.mapper.QuestionGroupMapper;
 import com.defty.question_bank_service.repository.*;
 import com.defty.question_bank_service.service.IQuestionGroupService;
-import com.example.common_library.file.CloudinaryFileService;
+import com.example.common_library.file.FileUploadService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
@@ -35,7 +35,7 @@ public class QuestionGroupService implements IQuestionGroupService {
     private final IQuestionTagRepository questionTagRepository;
     private final IQuestionTagMappingRepository questionTagMappingRepository;
     private final QuestionGroupMapper mapper;
-    private final CloudinaryFileService cloudinaryFileService;
+    private final FileUploadService fileUploadService;
 //    private final ServerFileService serverFileService;
 //    private final FileUrlUtil fileUrlUtil;
 
@@ -346,6 +346,7 @@ public class QuestionGroupService implements IQuestionGroupService {
         if (fileRequests == null || fileRequests.isEmpty()) return;
 
         int uploadIndex = 0;
+        List<MultipartFile> filesToUpload = new ArrayList<>(fileRequests.size());
 
         for (FileBulkRequest fileReq : fileRequests) {
             if (fileReq.getId() != null)
@@ -358,10 +359,17 @@ public class QuestionGroupService implements IQuestionGroupService {
             if (file.isEmpty())
                 throw new AppException(ErrorCode.BAD_REQUEST, "Uploaded file cannot be empty");
 
-            String fileUrl = cloudinaryFileService.uploadFile(file);
+            filesToUpload.add(file);
+        }
+
+        // Upload song song, thứ tự url khớp với thứ tự fileRequests
+        List<String> fileUrls = fileUploadService.uploadFiles(filesToUpload);
+
+        for (int i = 0; i < fileRequests.size(); i++) {
+            FileBulkRequest fileReq = fileRequests.get(i);
 
             FileEntity entity = new FileEntity();
-            entity.setUrl(fileUrl);
+            entity.setUrl(fileUrls.get(i));
             entity.setType(fileReq.getType());
             entity.setDisplayOrder(fileReq.getDisplayOrder() != null ? fileReq.getDisplayOrder() : 0);
             entity.setStatus(Status.ACTIVE.getCode());
@@ -507,14 +515,21 @@ public class QuestionGroupService implements IQuestionGroupService {
         }
 
         int uploadIndex = 0;
-
+        List<MultipartFile> filesToUpload = new ArrayList<>();
         for (FileBulkRequest fileReq : fileRequests) {
             if (fileReq.getId() == null) {
                 if (uploadedFiles == null || uploadIndex >= uploadedFiles.size())
                     throw new AppException(ErrorCode.BAD_REQUEST, "Missing file for CREATE");
+                filesToUpload.add(uploadedFiles.get(uploadIndex++));
+            }
+        }
+
+        // Upload song song các file mới trước, sau đó gán url theo thứ tự
+        Iterator<String> uploadedUrls = fileUploadService.uploadFiles(filesToUpload).iterator();
 
-                MultipartFile file = uploadedFiles.get(uploadIndex++);
-                String url = cloudinaryFileService.uploadFile(file);
+        for (FileBulkRequest fileReq : fileRequests) {
+            if (fileReq.getId() == null) {
+                String url = uploadedUrls.next();
 
                 FileEntity newFile = new FileEntity();
                 newFile.setUrl(url);
@@ -0,0 +1,206 @@
+package com.defty.question_bank_service.benchmark;
+
+import com.defty.question_bank_service.dto.internal.AICallbackMessage;
+import com.defty.question_bank_service.dto.internal.Answer;
+import com.defty.question_bank_service.dto.internal.Question;
+import com.defty.question_bank_service.dto.internal.QuestionGroup;
+import com.defty.question_bank_service.dto.internal.TestQuestionGroupWrapper;
+import com.defty.question_bank_service.dto.internal.TestSetData;
+import com.defty.question_bank_service.dto.internal.TestSetInfo;
+import com.defty.question_bank_service.dto.request.DirectionContentDTO;
+import com.defty.question_bank_service.dto.response.DirectionSetMinimalDTO;
+import com.defty.question_bank_service.dto.response.client.AnswerMinimalDTO;
+import com.defty.question_bank_service.dto.response.client.FileMinimalDTO;
+import com.defty.question_bank_service.dto.response.client.QuestionGroupMinimalDTO;
+import com.defty.question_bank_service.dto.response.client.QuestionMinimalDTO;
+import com.defty.question_bank_service.dto.response.client.TestSetQuestionsResponse;
+import com.defty.question_bank_service.enums.FileType;
+import com.defty.question_bank_service.enums.ToeicPart;
+import com.example.common_library.json.JsonMappers;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * So sánh chi phí (de)serialize 2 DTO nóng:
+ * - AICallbackMessage: message Kafka từ AI service (trước đây mỗi message tạo một ObjectMapper mới)
+ * - TestSetQuestionsResponse: response client trả đề thi đầy đủ
+ *
+ * Chạy: mvn test-compile exec:java -Dexec.classpathScope=test
+ *        -Dexec.mainClass=com.defty.question_bank_service.benchmark.JsonRoundTripBenchmark
+ * (hoặc chạy main() từ IDE). Không chạy trong mvn test.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonRoundTripBenchmark {
+
+    /** Số question group trong một đề; part 7 thường 15 nhóm, cả đề TOEIC ~ 150 nhóm */
+    @Param({"15", "150"})
+    private int groups;
+
+    private ObjectMapper defaultMapper;
+    private ObjectReader callbackReader;
+    private ObjectReader testSetReader;
+    private ObjectWriter testSetWriter;
+
+    private String callbackJson;
+    private TestSetQuestionsResponse testSet;
+    private byte[] testSetJson;
+
+    @Setup
+    public void setUp() throws Exception {
+        defaultMapper = new ObjectMapper();
+        ObjectMapper tuned = JsonMappers.create();
+        callbackReader = tuned.readerFor(AICallbackMessage.class);
+        testSetReader = tuned.readerFor(TestSetQuestionsResponse.class);
+        testSetWriter = tuned.writerFor(TestSetQuestionsResponse.class);
+
+        callbackJson = defaultMapper.writeValueAsString(callbackMessage(groups));
+        testSet = testSetResponse(groups);
+        testSetJson = defaultMapper.writeValueAsBytes(testSet);
+    }
+
+    // ---- AICallbackMessage: chỉ đọc (consumer Kafka) ----
+
+    @Benchmark
+    public AICallbackMessage callbackNewMapperPerMessage() throws Exception {
+        return new ObjectMapper().readValue(callbackJson, AICallbackMessage.class);
+    }
+
+    @Benchmark
+    public AICallbackMessage callbackDefaultMapper() throws Exception {
+        return defaultMapper.readValue(callbackJson, AICallbackMessage.class);
+    }
+
+    @Benchmark
+    public AICallbackMessage callbackTunedReader() throws Exception {
+        return callbackReader.readValue(callbackJson);
+    }
+
+    // ---- TestSetQuestionsResponse: ghi rồi đọc lại (server -> client service) ----
+
+    @Benchmark
+    public byte[] testSetWriteDefaultMapper() throws Exception {
+        return defaultMapper.writeValueAsBytes(testSet);
+    }
+
+    @Benchmark
+    public byte[] testSetWriteTunedWriter() throws Exception {
+        return testSetWriter.writeValueAsBytes(testSet);
+    }
+
+    @Benchmark
+    public TestSetQuestionsResponse testSetRoundTripDefaultMapper() throws Exception {
+        return defaultMapper.readValue(defaultMapper.writeValueAsBytes(testSet), TestSetQuestionsResponse.class);
+    }
+
+    @Benchmark
+    public TestSetQuestionsResponse testSetRoundTripTunedCodecs() throws Exception {
+        return testSetReader.readValue(testSetWriter.writeValueAsBytes(testSet));
+    }
+
+    @Benchmark
+    public TestSetQuestionsResponse testSetReadTunedReader() throws Exception {
+        return testSetReader.readValue(testSetJson);
+    }
+
+    private static AICallbackMessage callbackMessage(int groups) {
+        List<TestQuestionGroupWrapper> wrappers = new ArrayList<>(groups);
+        int questionNumber = 1;
+        for (int g = 0; g < groups; g++) {
+            List<Question> questions = new ArrayList<>();
+            for (int q = 0; q < 3; q++) {
+                List<Answer> answers = new ArrayList<>();
+                for (int a = 0; a < 4; a++) {
+                    answers.add(new Answer("Answer option " + a + " for question " + questionNumber, a, a == 0));
+                }
+                questions.add(new Question(questionNumber, "What is the main purpose of the passage " + questionNumber + "?", answers));
+                questionNumber++;
+            }
+            QuestionGroup group = new QuestionGroup(ToeicPart.PART_7, "Transcript of group " + g + " ".repeat(200), questions);
+            wrappers.add(new TestQuestionGroupWrapper(g + 1, group));
+        }
+        TestSetData data = new TestSetData(new TestSetInfo("ETS 2024 Test 1", "Generated test set"), wrappers);
+        return new AICallbackMessage(UUID.randomUUID().toString(), "uploads/ets-2024-test-1.pdf", "COMPLETED",
+                null, null, data, null);
+    }
+
+    private static TestSetQuestionsResponse testSetResponse(int groups) {
+        List<QuestionGroupMinimalDTO> groupDtos = new ArrayList<>(groups);
+        int questionNumber = 1;
+        for (int g = 0; g < groups; g++) {
+            List<QuestionMinimalDTO> questions = new ArrayList<>();
+            for (int q = 0; q < 3; q++) {
+                List<AnswerMinimalDTO> answers = new ArrayList<>();
+                for (int a = 0; a < 4; a++) {
+                    answers.add(AnswerMinimalDTO.builder()
+                            .id(UUID.randomUUID())
+                            .content("Answer option " + a)
+                            .answerOrder(a + 1)
+                            .build());
+                }
+                questions.add(QuestionMinimalDTO.builder()
+                        .id(UUID.randomUUID())
+                        .questionNumber(questionNumber++)
+                        .questionText("What is the main purpose of the passage?")
+                        .answers(answers)
+                        .build());
+            }
+            groupDtos.add(QuestionGroupMinimalDTO.builder()
+                    .id(UUID.randomUUID())
+                    .questionPart(ToeicPart.PART_7)
+                    .questionGroupOrder(g + 1)
+                    .passageText("Passage text " + g + " ".repeat(200))
+                    .files(List.of(FileMinimalDTO.builder()
+                            .id(UUID.randomUUID())
+                            .url("https://cdn.example.com/media/" + g + ".png")
+                            .fileType(FileType.IMAGE)
+                            .displayOrder(1)
+                            .build()))
+                    .questions(questions)
+                    .build());
+        }
+        Map<String, DirectionContentDTO> directions = new LinkedHashMap<>();
+        for (ToeicPart part : ToeicPart.values()) {
+            directions.put(part.name(), new DirectionContentDTO("Directions for " + part.name(), null));
+        }
+        return TestSetQuestionsResponse.builder()
+                .testSetId(UUID.randomUUID())
+                .testSetSlug("ets-2024-test-1")
+                .testName("ETS 2024 Test 1")
+                .questionGroups(groupDtos)
+                .directionSet(new DirectionSetMinimalDTO(UUID.randomUUID(), directions))
+                .build();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JsonRoundTripBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
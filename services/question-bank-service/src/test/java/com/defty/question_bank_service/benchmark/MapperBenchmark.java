@@ -0,0 +1,150 @@
+package com.defty.question_bank_service.benchmark;
+
+import com.defty.question_bank_service.dto.response.AnswerResponse;
+import com.defty.question_bank_service.dto.response.TestSetResponse;
+import com.defty.question_bank_service.entity.AnswerEntity;
+import com.defty.question_bank_service.entity.QuestionEntity;
+import com.defty.question_bank_service.entity.TestCollectionEntity;
+import com.defty.question_bank_service.entity.TestSetEntity;
+import com.defty.question_bank_service.mapper.AnswerMapper;
+import com.defty.question_bank_service.mapper.AnswerMapperImpl;
+import com.defty.question_bank_service.mapper.TestSetMapper;
+import com.defty.question_bank_service.mapper.TestSetMapperImpl;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.convention.MatchingStrategies;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * So sánh MapStruct (code sinh lúc compile) với ModelMapper STRICT (cấu hình cũ) khi map một trang danh sách.
+ * GCProfiler in thêm gc.alloc.rate.norm = số byte cấp phát cho mỗi lần map cả trang.
+ *
+ * Chạy main() từ IDE hoặc qua exec:java với classpathScope=test. Không chạy trong mvn test.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    /** Kích thước trang của các API danh sách */
+    @Param({"20", "200"})
+    private int pageSize;
+
+    private ModelMapper modelMapper;
+    private AnswerMapper answerMapper;
+    private TestSetMapper testSetMapper;
+
+    private List<AnswerEntity> answers;
+    private List<TestSetEntity> testSets;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        modelMapper.getConfiguration().setMatchingStrategy(MatchingStrategies.STRICT);
+        answerMapper = new AnswerMapperImpl();
+        testSetMapper = new TestSetMapperImpl();
+
+        QuestionEntity question = new QuestionEntity();
+        question.setId(UUID.randomUUID());
+        TestCollectionEntity collection = new TestCollectionEntity();
+        collection.setId(UUID.randomUUID());
+        collection.setCollectionName("ETS 2024");
+
+        answers = new ArrayList<>(pageSize);
+        testSets = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            AnswerEntity answer = new AnswerEntity();
+            answer.setId(UUID.randomUUID());
+            answer.setContent("Answer option " + i);
+            answer.setAnswerOrder(i % 4 + 1);
+            answer.setIsCorrect(i % 4 == 0);
+            answer.setQuestion(question);
+            answer.setCreatedDate(LocalDateTime.now());
+            answer.setCreatedBy("admin");
+            answers.add(answer);
+
+            TestSetEntity testSet = new TestSetEntity();
+            testSet.setId(UUID.randomUUID());
+            testSet.setTestName("Test " + i);
+            testSet.setSlug("test-" + i);
+            testSet.setTestNumber(i);
+            testSet.setDescription("Full TOEIC test " + i);
+            testSet.setTotalQuestions(200);
+            testSet.setCollection(collection);
+            testSet.setCreatedDate(LocalDateTime.now());
+            testSet.setCreatedBy("admin");
+            testSets.add(testSet);
+        }
+    }
+
+    @Benchmark
+    public List<AnswerResponse> answersModelMapper() {
+        List<AnswerResponse> result = new ArrayList<>(answers.size());
+        for (AnswerEntity answer : answers) {
+            AnswerResponse response = modelMapper.map(answer, AnswerResponse.class);
+            response.setQuestionId(answer.getQuestion().getId());
+            result.add(response);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<AnswerResponse> answersMapStruct() {
+        List<AnswerResponse> result = new ArrayList<>(answers.size());
+        for (AnswerEntity answer : answers) {
+            result.add(answerMapper.toResponse(answer));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<TestSetResponse> testSetsModelMapper() {
+        List<TestSetResponse> result = new ArrayList<>(testSets.size());
+        for (TestSetEntity testSet : testSets) {
+            TestSetResponse response = modelMapper.map(testSet, TestSetResponse.class);
+            response.setIsPublic(testSet.isPublic());
+            response.setCollectionId(testSet.getCollection().getId());
+            response.setCollectionName(testSet.getCollection().getCollectionName());
+            result.add(response);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<TestSetResponse> testSetsMapStruct() {
+        List<TestSetResponse> result = new ArrayList<>(testSets.size());
+        for (TestSetEntity testSet : testSets) {
+            result.add(testSetMapper.toTestSetResponse(testSet));
+        }
+        return result;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(MapperBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,34 @@
+package com.submission_service.burst;
+
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.FixedBackOff;
+
+@Configuration
+@EnableConfigurationProperties(BurstProperties.class)
+public class BurstConfig {
+
+    public static final String BURST_LISTENER_FACTORY = "burstListenerContainerFactory";
+
+    /**
+     * Listener theo lô; lỗi flush thì thử lại không giới hạn thay vì bỏ qua record như error handler mặc định,
+     * vì sinh viên đã nhận id của bài nằm trong lô đó.
+     */
+    @Bean(BURST_LISTENER_FACTORY)
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> burstListenerContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<Object, Object> consumerFactory,
+            BurstProperties properties) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, consumerFactory);
+        factory.setBatchListener(true);
+        factory.setCommonErrorHandler(new DefaultErrorHandler(
+                new FixedBackOff(properties.getRetryInterval().toMillis(), FixedBackOff.UNLIMITED_ATTEMPTS)));
+        return factory;
+    }
+}
@@ -0,0 +1,24 @@
+package com.submission_service.burst;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "defty.burst")
+public class BurstProperties {
+    // Bật trong đợt thi: bài exam mode ghi vào topic (write-behind) rồi mới được flush xuống Postgres theo lô.
+    // Chỉ ảnh hưởng phía ghi; SubmissionBatchWriter luôn chạy để xả hết topic sau khi tắt
+    private boolean enabled = false;
+    // Topic đệm bài nộp, key = studentId
+    private String topic = "submission.burst";
+    // Số id (submission, submission_content) lấy trước từ sequence mỗi lần
+    private int idBlockSize = 200;
+    // Số record tối đa một lần flush (max.poll.records của consumer)
+    private int maxBatchSize = 500;
+    // Chờ Kafka xác nhận ghi (acks=all) trước khi trả id cho sinh viên; là tổng max.block.ms + delivery.timeout.ms của producer đệm
+    private Duration sendTimeout = Duration.ofSeconds(5);
+    // Flush lỗi tạm thời (DB down) thì thử lại mãi với khoảng này, không bỏ bài nào
+    private Duration retryInterval = Duration.ofSeconds(2);
+}
@@ -0,0 +1,174 @@
+package com.submission_service.burst;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.submission_service.enums.SubmissionStatus;
+import com.submission_service.model.dto.response.AssignmentClassDetailResponse;
+import com.submission_service.model.entity.Submission;
+import com.submission_service.model.event.SubmissionWriteEvent;
+import com.submission_service.repository.ILatestExamSubmissionRepository;
+import com.submission_service.service.ISubmissionGradingService;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Flush topic đệm xuống Postgres: mỗi lô một transaction, insert bằng JDBC batch (Hibernate không batch được
+ * insert của id IDENTITY). Insert {@code on conflict do nothing} theo id đã cấp nên đọc lại lô (rebalance, retry) không tạo bài trùng.
+ * Chỉ bài vừa insert mới được đưa đi chấm; bài đã flush mà chưa kịp gửi chấm (replica chết) sẽ bị quét TIMED_OUT như luồng thường.
+ * Listener luôn chạy, kể cả khi tắt burst mode: bài còn nằm trong topic lúc tắt (hoặc từ replica khác) vẫn phải được ghi xuống DB.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class SubmissionBatchWriter {
+
+    static final String INSERT_CONTENT_SQL = "insert into submission_content (id, student_plantumlcode) " +
+            "values (:contentId, :studentPlantUmlCode) on conflict (id) do nothing";
+
+    static final String INSERT_SUBMISSION_SQL = "insert into submission (id, createddate, status, student_id, " +
+            "assignment_class_detail_id, class_id, module_id, assignment_id, type_uml, structural_similarity, normalized_hash, " +
+            "feedback_cache_key, duplicate_of_submission_id, duplicate_similarity, exam_mode, content_id, submission_status) " +
+            "values (:id, :createdDate, 1, :studentId, :assignmentClassDetailId, :classId, :moduleId, :assignmentId, :typeUml, " +
+            ":structuralSimilarity, :normalizedHash, :feedbackCacheKey, :duplicateOfSubmissionId, :duplicateSimilarity, " +
+            ":examMode, :contentId, :submissionStatus) on conflict (id) do nothing";
+
+    NamedParameterJdbcTemplate jdbcTemplate;
+    TransactionTemplate transactionTemplate;
+    ISubmissionGradingService submissionGradingService;
+    ObjectMapper objectMapper;
+
+    @KafkaListener(topics = "${defty.burst.topic:submission.burst}",
+            groupId = "${spring.application.name}-burst-writer",
+            containerFactory = BurstConfig.BURST_LISTENER_FACTORY,
+            properties = "max.poll.records=${defty.burst.max-batch-size:500}")
+    public void flush(List<String> messages) {
+        List<SubmissionWriteEvent> events = new ArrayList<>(messages.size());
+        for (String message : messages) {
+            try {
+                events.add(objectMapper.readValue(message, SubmissionWriteEvent.class));
+            } catch (Exception e) {
+                log.error("Skip unreadable buffered submission: {}", e.getMessage());
+            }
+        }
+
+        List<SubmissionWriteEvent> inserted;
+        try {
+            inserted = transactionTemplate.execute(tx -> write(events));
+        } catch (DataIntegrityViolationException e) {
+            // Một bài vi phạm ràng buộc làm hỏng cả lô: ghi lại từng bài, chỉ bỏ bài lỗi. Lỗi khác (DB down) ném ra để thử lại lô
+            log.warn("Batch of {} buffered submissions rejected, retrying one by one: {}", events.size(), e.getMessage());
+            inserted = writeOneByOne(events);
+        }
+        log.info("Flushed {} buffered submission(s), {} new", events.size(), inserted.size());
+        inserted.forEach(this::startGrading);
+    }
+
+    private List<SubmissionWriteEvent> writeOneByOne(List<SubmissionWriteEvent> events) {
+        List<SubmissionWriteEvent> inserted = new ArrayList<>();
+        for (SubmissionWriteEvent event : events) {
+            try {
+                inserted.addAll(transactionTemplate.execute(tx -> write(List.of(event))));
+            } catch (DataIntegrityViolationException e) {
+                log.error("Drop buffered submission {} of student {}: {}", event.getId(), event.getStudentId(), e.getMessage());
+            }
+        }
+        return inserted;
+    }
+
+    private List<SubmissionWriteEvent> write(List<SubmissionWriteEvent> events) {
+        if (events.isEmpty()) {
+            return List.of();
+        }
+        jdbcTemplate.batchUpdate(INSERT_CONTENT_SQL, params(events));
+        int[] rows = jdbcTemplate.batchUpdate(INSERT_SUBMISSION_SQL, params(events));
+
+        List<SubmissionWriteEvent> inserted = new ArrayList<>();
+        List<SqlParameterSource> latest = new ArrayList<>();
+        for (int i = 0; i < events.size(); i++) {
+            if (rows[i] == 0) {
+                continue;
+            }
+            SubmissionWriteEvent event = events.get(i);
+            inserted.add(event);
+            if (event.isExamMode()) {
+                latest.add(new MapSqlParameterSource()
+                        .addValue("classId", event.getClassId())
+                        .addValue("assignmentClassDetailId", event.getAssignmentClassDetailId())
+                        .addValue("studentId", event.getStudentId())
+                        .addValue("submissionId", event.getId())
+                        .addValue("submittedAt", event.getCreatedDate()));
+            }
+        }
+        if (!latest.isEmpty()) {
+            jdbcTemplate.batchUpdate(ILatestExamSubmissionRepository.UPSERT_SQL, latest.toArray(SqlParameterSource[]::new));
+        }
+        return inserted;
+    }
+
+    private static SqlParameterSource[] params(List<SubmissionWriteEvent> events) {
+        return events.stream()
+                .map(event -> new MapSqlParameterSource()
+                        .addValue("id", event.getId())
+                        .addValue("contentId", event.getContentId())
+                        .addValue("studentPlantUmlCode", event.getStudentPlantUmlCode())
+                        .addValue("createdDate", event.getCreatedDate())
+                        .addValue("studentId", event.getStudentId())
+                        .addValue("assignmentClassDetailId", event.getAssignmentClassDetailId())
+                        .addValue("classId", event.getClassId())
+                        .addValue("moduleId", event.getModuleId())
+                        .addValue("assignmentId", event.getAssignmentId())
+                        // type_uml lưu theo ordinal như mapping mặc định của entity
+                        .addValue("typeUml", event.getTypeUml().ordinal())
+                        .addValue("structuralSimilarity", event.getStructuralSimilarity())
+                        .addValue("normalizedHash", event.getNormalizedHash())
+                        .addValue("feedbackCacheKey", event.getFeedbackCacheKey())
+                        .addValue("duplicateOfSubmissionId", event.getDuplicateOfSubmissionId())
+                        .addValue("duplicateSimilarity", event.getDuplicateSimilarity())
+                        .addValue("examMode", event.isExamMode())
+                        .addValue("submissionStatus", SubmissionStatus.SUBMITTED.name()))
+                .toArray(SqlParameterSource[]::new);
+    }
+
+    private void startGrading(SubmissionWriteEvent event) {
+        Submission submission = Submission.builder()
+                .studentId(event.getStudentId())
+                .assignmentClassDetailId(event.getAssignmentClassDetailId())
+                .classId(event.getClassId())
+                .moduleId(event.getModuleId())
+                .assignmentId(event.getAssignmentId())
+                .typeUml(event.getTypeUml())
+                .structuralSimilarity(event.getStructuralSimilarity())
+                .normalizedHash(event.getNormalizedHash())
+                .feedbackCacheKey(event.getFeedbackCacheKey())
+                .examMode(event.isExamMode())
+                .build();
+        submission.setId(event.getId());
+        submission.setCreatedDate(event.getCreatedDate());
+        submission.setStudentPlantUMLCode(event.getStudentPlantUmlCode());
+        try {
+            if (!submissionGradingService.reuseFeedback(submission)) {
+                submissionGradingService.dispatch(submission, AssignmentClassDetailResponse.builder()
+                        .assignmentId(event.getAssignmentId())
+                        .solutionCode(event.getSolutionCode())
+                        .assignmentDescription(event.getAssignmentDescription())
+                        .moduleDescription(event.getModuleDescription())
+                        .build());
+            }
+        } catch (RuntimeException e) {
+            // Bài đã nằm trong DB: không ném ra để khỏi flush lại cả lô, quét timeout sẽ xử lý bài này
+            log.error("Cannot start grading buffered submission {}: {}", event.getId(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.submission_service.burst;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Cấp id cho bài nộp trước khi có dòng trong DB, lấy theo khối từ chính sequence của cột IDENTITY
+ * nên không trùng với id Hibernate cấp ở luồng thường. Id giữa các replica không còn tăng theo thời gian nộp.
+ */
+@Component
+public class SubmissionIdAllocator {
+
+    private static final String NEXT_IDS_SQL = "select nextval(pg_get_serial_sequence(?, 'id')) from generate_series(1, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BurstProperties properties;
+    private final IdBlock submissionIds = new IdBlock("submission");
+    private final IdBlock contentIds = new IdBlock("submission_content");
+
+    public SubmissionIdAllocator(JdbcTemplate jdbcTemplate, BurstProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+    }
+
+    public long nextSubmissionId() {
+        return submissionIds.next();
+    }
+
+    public long nextContentId() {
+        return contentIds.next();
+    }
+
+    private final class IdBlock {
+        private final String table;
+        private final Deque<Long> ids = new ArrayDeque<>();
+
+        private IdBlock(String table) {
+            this.table = table;
+        }
+
+        synchronized long next() {
+            if (ids.isEmpty()) {
+                ids.addAll(jdbcTemplate.queryForList(NEXT_IDS_SQL, Long.class, table, properties.getIdBlockSize()));
+            }
+            return ids.pollFirst();
+        }
+    }
+}
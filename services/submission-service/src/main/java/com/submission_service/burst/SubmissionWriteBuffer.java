@@ -0,0 +1,138 @@
+package com.submission_service.burst;
+
+import com.example.common_library.exceptions.ServiceUnavailableException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.submission_service.model.dto.response.AssignmentClassDetailResponse;
+import com.submission_service.model.entity.Submission;
+import com.submission_service.model.event.SubmissionWriteEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Ghi bài exam mode vào topic đệm thay vì insert trực tiếp. Trả về khi Kafka đã xác nhận ghi (acks=all,
+ * producer idempotent) nên bài không mất kể cả khi replica chết trước lúc flush; {@link SubmissionBatchWriter} flush theo lô.
+ * <p>
+ * Producer riêng có {@code max.block.ms + delivery.timeout.ms} nằm trong {@code send-timeout}: hết hạn thì chính producer
+ * báo lỗi và record chắc chắn không được ghi, nên quay về luồng thường an toàn. Không thể có chuyện trả lỗi cho client
+ * (filter idempotency nhả key, client gửi lại được id mới) trong khi record cũ vẫn được giao sau đó thành bài trùng.
+ */
+@Slf4j
+@Component
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class SubmissionWriteBuffer {
+
+    // Chờ thêm sau send-timeout để nhận kết quả chắc chắn từ producer thay vì tự bỏ cuộc trước
+    static final long RESULT_GRACE_MILLIS = 1000;
+
+    BurstProperties properties;
+    SubmissionIdAllocator idAllocator;
+    KafkaTemplate<String, Object> kafkaTemplate;
+    ObjectMapper objectMapper;
+
+    public SubmissionWriteBuffer(BurstProperties properties,
+                                 SubmissionIdAllocator idAllocator,
+                                 ProducerFactory<String, Object> producerFactory,
+                                 ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.idAllocator = idAllocator;
+        // Không khai báo thành bean: thêm một KafkaTemplate bean sẽ làm Spring Boot bỏ KafkaTemplate mặc định
+        this.kafkaTemplate = new KafkaTemplate<>(producerFactory, producerOverrides(properties.getSendTimeout()));
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Chia send-timeout: 1/5 cho {@code send()} chờ metadata/bộ đệm (max.block.ms), phần còn lại cho việc giao record
+     * (delivery.timeout.ms, bao gồm cả các lần retry của producer).
+     */
+    static Map<String, Object> producerOverrides(Duration sendTimeout) {
+        long total = Math.max(1000, sendTimeout.toMillis());
+        long maxBlock = total / 5;
+        long delivery = total - maxBlock;
+        Map<String, Object> overrides = new HashMap<>();
+        overrides.put(ProducerConfig.ACKS_CONFIG, "all");
+        overrides.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        overrides.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, maxBlock);
+        overrides.put(ProducerConfig.LINGER_MS_CONFIG, 0);
+        // Kafka yêu cầu delivery.timeout.ms >= linger.ms + request.timeout.ms
+        overrides.put(ProducerConfig.REQUEST_TIMEOUT_MS_CONFIG, (int) delivery);
+        overrides.put(ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG, (int) delivery);
+        return overrides;
+    }
+
+    @PreDestroy
+    void close() {
+        kafkaTemplate.destroy();
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Gán id rồi đẩy bài vào topic đệm. Trả về {@code false} (và bỏ id đã gán) nếu chắc chắn chưa ghi được,
+     * để service lưu theo luồng thường.
+     */
+    public boolean append(Submission submission, AssignmentClassDetailResponse assignmentClassDetail) {
+        try {
+            submission.setId(idAllocator.nextSubmissionId());
+            submission.getContent().setId(idAllocator.nextContentId());
+            submission.setCreatedDate(LocalDateTime.now());
+            String message = objectMapper.writeValueAsString(toEvent(submission, assignmentClassDetail));
+            kafkaTemplate.send(properties.getTopic(), String.valueOf(submission.getStudentId()), message)
+                    .get(properties.getSendTimeout().toMillis() + RESULT_GRACE_MILLIS, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            // Không xảy ra khi producer tự hết hạn trước; nếu có thì record vẫn có thể được ghi nên không lưu theo luồng thường
+            log.error("Timed out buffering submission {}", submission.getId());
+            throw new ServiceUnavailableException("Submission is taking longer than expected, please retry");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Submission was interrupted, please retry");
+        } catch (ExecutionException | JsonProcessingException | RuntimeException e) {
+            log.warn("Cannot buffer submission of student {}, saving directly: {}", submission.getStudentId(), e.getMessage());
+            submission.setId(null);
+            submission.getContent().setId(null);
+            submission.setCreatedDate(null);
+            return false;
+        }
+    }
+
+    private static SubmissionWriteEvent toEvent(Submission submission, AssignmentClassDetailResponse detail) {
+        return SubmissionWriteEvent.builder()
+                .id(submission.getId())
+                .contentId(submission.getContent().getId())
+                .studentId(submission.getStudentId())
+                .classId(submission.getClassId())
+                .moduleId(submission.getModuleId())
+                .assignmentClassDetailId(submission.getAssignmentClassDetailId())
+                .assignmentId(submission.getAssignmentId())
+                .typeUml(submission.getTypeUml())
+                .examMode(submission.isExamMode())
+                .studentPlantUmlCode(submission.getStudentPlantUMLCode())
+                .structuralSimilarity(submission.getStructuralSimilarity())
+                .normalizedHash(submission.getNormalizedHash())
+                .feedbackCacheKey(submission.getFeedbackCacheKey())
+                .duplicateOfSubmissionId(submission.getDuplicateOfSubmissionId())
+                .duplicateSimilarity(submission.getDuplicateSimilarity())
+                .createdDate(submission.getCreatedDate())
+                .solutionCode(detail.getSolutionCode())
+                .assignmentDescription(detail.getAssignmentDescription())
+                .moduleDescription(detail.getModuleDescription())
+                .build();
+    }
+}
@@ -0,0 +1,19 @@
+package com.submission_service.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "defty.grading")
+public class GradingProperties {
+    // Topic gửi bài cho grader, key = assignmentId
+    private String submissionTopic = "umlDiagram.submission";
+    // Topic ai-orchestration-service trả kết quả về (KAFKA_TOPIC_UML_SUBMISSION_PROCESSED)
+    private String resultTopic = "uml_submission.processed";
+    // Bài ở SUBMITTED/QUEUED quá thời gian này bị chuyển TIMED_OUT
+    private Duration timeout = Duration.ofMinutes(2);
+    // Quét định kỳ các bài bị kẹt (vd. timer bị mất do service restart)
+    private Duration sweepInterval = Duration.ofMinutes(1);
+}
@@ -1,8 +1,11 @@
 package com.submission_service.controller;
 
 import com.example.common_library.response.ApiResponse;
+import com.submission_service.enums.ExportFormat;
 import com.submission_service.enums.TypeUml;
+import com.submission_service.feedbackjob.FeedbackJobExporter;
 import com.submission_service.model.dto.response.AutoFeedbackLLMJobDetailResponse;
+import com.submission_service.model.dto.response.AutoFeedbackLLMJobProgressResponse;
 import com.submission_service.model.dto.response.AutoFeedbackLLMJobResponse;
 import com.submission_service.model.entity.AutoFeedbackLLMJob;
 import com.submission_service.service.AutoFeedbackLLMJobService;
@@ -13,9 +16,14 @@ import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import org.springframework.data.domain.Page;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -28,6 +36,7 @@ import java.util.List;
 public class AutoFeedbackLLMJobController {
 
     AutoFeedbackLLMJobService autoFeedbackLLMJobService;
+    FeedbackJobExporter feedbackJobExporter;
 
     @PostMapping()
     ApiResponse<Long> addAutoFeedbackLLMJob(@RequestPart MultipartFile file) {
@@ -45,6 +54,26 @@ public class AutoFeedbackLLMJobController {
                 .build();
     }
 
+    @GetMapping("/{jobId}/progress")
+    ApiResponse<AutoFeedbackLLMJobProgressResponse> getAutoFeedbackLLMJobProgress(@PathVariable Long jobId) {
+        AutoFeedbackLLMJobProgressResponse response= autoFeedbackLLMJobService.getAutoFeedbackLLMJobProgress(jobId);
+        return ApiResponse.<AutoFeedbackLLMJobProgressResponse>builder()
+                .result(response)
+                .build();
+    }
+
+    @GetMapping("/{jobId}/export")
+    ResponseEntity<StreamingResponseBody> exportAutoFeedbackLLMJob(@PathVariable Long jobId,
+                                                                   @RequestParam(value = "format", defaultValue = "xlsx") String format) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        AutoFeedbackLLMJob job = feedbackJobExporter.findJob(jobId);
+        String fileName = "feedback-job-" + jobId + "." + exportFormat.getExtension();
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .body(feedbackJobExporter.export(job, exportFormat));
+    }
+
     @GetMapping()
     ApiResponse<Page<AutoFeedbackLLMJobResponse>> getAutoFeedbackLLMJobs(@RequestParam(required = false) String title,
                                              @RequestParam(required = false) TypeUml typeUml,
@@ -0,0 +1,61 @@
+package com.submission_service.controller;
+
+import com.submission_service.enums.TypeUml;
+import com.submission_service.render.RenderedDiagram;
+import com.submission_service.service.DiagramService;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+
+@RestController
+@RequestMapping("/submission/diagram")
+@RequiredArgsConstructor
+@Validated
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class DiagramController {
+
+    static final MediaType SVG = MediaType.valueOf("image/svg+xml");
+
+    DiagramService diagramService;
+
+    @PostMapping(value = "/svg", consumes = MediaType.TEXT_PLAIN_VALUE)
+    ResponseEntity<String> renderSvg(@RequestBody String plantUmlCode, WebRequest request) {
+        return toResponse(diagramService.renderSource(plantUmlCode), request);
+    }
+
+    @GetMapping("/submission/{submissionId}")
+    ResponseEntity<String> renderSubmission(@PathVariable Long submissionId, WebRequest request) {
+        return toResponse(diagramService.renderSubmission(submissionId), request);
+    }
+
+    @GetMapping("/solution/{moduleId}")
+    ResponseEntity<String> renderSolution(@PathVariable Long moduleId,
+                                          @RequestParam(required = false) TypeUml typeUml,
+                                          @RequestParam(required = false) Long assignmentId,
+                                          WebRequest request) {
+        return toResponse(diagramService.renderSolution(moduleId, typeUml, assignmentId), request);
+    }
+
+    // ETag = hash nội dung: trình duyệt gửi If-None-Match thì trả 304, không tải lại SVG
+    private ResponseEntity<String> toResponse(RenderedDiagram diagram, WebRequest request) {
+        String etag = "\"" + diagram.hash() + "\"";
+        CacheControl cacheControl = CacheControl.maxAge(Duration.ofMinutes(10)).cachePrivate();
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .contentType(SVG)
+                .body(diagram.svg());
+    }
+}
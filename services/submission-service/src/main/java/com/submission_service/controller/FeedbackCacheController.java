@@ -0,0 +1,27 @@
+package com.submission_service.controller;
+
+import com.example.common_library.response.ApiResponse;
+import com.submission_service.feedbackcache.FeedbackCache;
+import com.submission_service.feedbackcache.FeedbackCacheStatsResponse;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/submission/feedback-cache")
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class FeedbackCacheController {
+
+    FeedbackCache feedbackCache;
+
+    @GetMapping("/stats")
+    ApiResponse<FeedbackCacheStatsResponse> getStats() {
+        return ApiResponse.<FeedbackCacheStatsResponse>builder()
+                .result(feedbackCache.stats())
+                .build();
+    }
+}
@@ -8,6 +8,7 @@ import com.submission_service.model.dto.response.LastSubmissionResonse;
 import com.submission_service.model.dto.response.SubmissionDetailResponse;
 import com.submission_service.model.dto.response.SubmissionResponse;
 import com.submission_service.service.SubmissionService;
+import com.submission_service.umldiff.UmlDiffResult;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import lombok.AccessLevel;
@@ -54,6 +55,14 @@ public class SubmissionController {
                 .build();
     }
 
+    @GetMapping("/{id}/structural-diff")
+    ApiResponse<UmlDiffResult> getStructuralDiff(@PathVariable Long id) {
+        UmlDiffResult response = submissionService.getStructuralDiff(id);
+        return ApiResponse.<UmlDiffResult>builder()
+                .result(response)
+                .build();
+    }
+
     @GetMapping({"/detail/{id}"})
     ApiResponse<SubmissionDetailResponse> getSubmissionStudentFeedback(@PathVariable Long id) { //ok
         SubmissionDetailResponse submissionResponses =submissionService.getSubmissionStudentFeedback(id);
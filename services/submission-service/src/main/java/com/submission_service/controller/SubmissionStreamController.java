@@ -0,0 +1,63 @@
+package com.submission_service.controller;
+
+import com.example.common_library.exceptions.ForbiddenException;
+import com.example.common_library.exceptions.NotFoundException;
+import com.example.common_library.utils.UserUtils;
+import com.submission_service.enums.SubmissionStatus;
+import com.submission_service.model.dto.projection.SubmissionStatusView;
+import com.submission_service.model.event.SubmissionStatusEvent;
+import com.submission_service.push.SubmissionStreamRegistry;
+import com.submission_service.repository.ISubmissionRepository;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Stream SSE trạng thái chấm bài của sinh viên đang đăng nhập, thay cho việc poll {@code /submission/feedback/llm/{id}}.
+ * Truyền {@code submissionId} thì nhận ngay trạng thái hiện tại của bài đó, nên không lỡ kết quả về trước lúc kết nối.
+ */
+@RestController
+@RequestMapping("/submission/stream")
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class SubmissionStreamController {
+
+    SubmissionStreamRegistry streamRegistry;
+    ISubmissionRepository submissionRepository;
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    SseEmitter stream(@RequestParam(required = false) Long submissionId) {
+        Long userId = UserUtils.getCurrentUser().userId();
+        SubmissionStatusView current = null;
+        if (submissionId != null) {
+            current = submissionRepository.findStatusViewById(submissionId)
+                    .orElseThrow(() -> new NotFoundException("Submission not found"));
+            if (!current.studentId().equals(userId)) {
+                throw new ForbiddenException("Submission does not belong to current user");
+            }
+        }
+
+        // Đăng ký trước rồi mới đọc lại trạng thái: event tới giữa hai bước chỉ bị nhận trùng, không bị mất
+        SseEmitter emitter = streamRegistry.open(userId);
+        if (current != null) {
+            SubmissionStatusView latest = submissionRepository.findStatusViewById(submissionId).orElse(current);
+            streamRegistry.send(userId, emitter, SubmissionStatusEvent.builder()
+                    .submissionId(latest.id())
+                    .studentId(latest.studentId())
+                    .submissionStatus(latest.submissionStatus())
+                    .score(latest.score())
+                    .feedbackReady(latest.submissionStatus() == SubmissionStatus.SCORED)
+                    .occurredAt(LocalDateTime.now())
+                    .build());
+        }
+        return emitter;
+    }
+}
@@ -0,0 +1,44 @@
+package com.submission_service.enrichment;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(EnrichmentProperties.class)
+public class EnrichmentConfig {
+
+    public static final String ENRICHMENT_EXECUTOR = "enrichmentExecutor";
+
+    /**
+     * Pool riêng cho các lời gọi Feign song song, tách khỏi thread của Tomcat.
+     * Khi đầy thì thread gọi tự chạy lookup (CallerRuns) - chậm lại nhưng không mất dữ liệu.
+     */
+    @Bean(name = ENRICHMENT_EXECUTOR, destroyMethod = "shutdown")
+    public ExecutorService enrichmentExecutor(EnrichmentProperties properties) {
+        AtomicInteger counter = new AtomicInteger();
+        ThreadFactory threadFactory = r -> {
+            Thread t = new Thread(r, "enrichment-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+        log.info("Enrichment executor: threads={}, queueCapacity={}", properties.getThreads(), properties.getQueueCapacity());
+        return new ThreadPoolExecutor(
+                properties.getThreads(),
+                properties.getThreads(),
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                threadFactory,
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+    }
+}
@@ -0,0 +1,18 @@
+package com.submission_service.enrichment;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "defty.enrichment")
+public class EnrichmentProperties {
+    // Thời gian chờ tối đa cho cả 3 lookup; quá hạn thì trả về dữ liệu đang có (partial)
+    private Duration timeout = Duration.ofSeconds(2);
+    // TTL ngắn: tên user/assignment/class ít đổi, chấp nhận trễ vài chục giây
+    private Duration cacheTtl = Duration.ofSeconds(30);
+    private int cacheMaxEntries = 10_000;
+    private int threads = 6;
+    private int queueCapacity = 64;
+}
@@ -0,0 +1,204 @@
+package com.submission_service.enrichment;
+
+import com.submission_service.client.AuthServiceClient;
+import com.submission_service.client.ClassManagementServiceClient;
+import com.submission_service.client.ContentServiceClient;
+import com.submission_service.model.dto.response.AssignmentResponse;
+import com.submission_service.model.dto.response.ClassResponse;
+import com.submission_service.model.dto.response.UserResponse;
+import com.submission_service.model.dto.projection.SubmissionRef;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Lấy thông tin user (identity-service), assignment (content-service) và class (class-management-service)
+ * cho một trang submission.
+ * - 3 lookup chạy song song, thời gian trang ≈ lời gọi chậm nhất thay vì tổng 3 lời gọi
+ * - id đã có trong cache TTL ngắn không gọi lại
+ * - quá timeout hoặc service lỗi thì trả về phần có được (partial), mapper để trống các field thiếu
+ */
+@Slf4j
+@Component
+public class SubmissionEnricher {
+
+    private final AuthServiceClient authServiceClient;
+    private final ContentServiceClient contentServiceClient;
+    private final ClassManagementServiceClient classManagementServiceClient;
+    private final EnrichmentProperties properties;
+    private final ExecutorService executor;
+
+    private final TtlCache<Long, UserResponse> userCache;
+    private final TtlCache<Long, AssignmentResponse> assignmentCache;
+    private final TtlCache<Long, ClassResponse> classCache;
+
+    public SubmissionEnricher(AuthServiceClient authServiceClient,
+                              ContentServiceClient contentServiceClient,
+                              ClassManagementServiceClient classManagementServiceClient,
+                              EnrichmentProperties properties,
+                              @Qualifier(EnrichmentConfig.ENRICHMENT_EXECUTOR) ExecutorService executor) {
+        this.authServiceClient = authServiceClient;
+        this.contentServiceClient = contentServiceClient;
+        this.classManagementServiceClient = classManagementServiceClient;
+        this.properties = properties;
+        this.executor = executor;
+        this.userCache = new TtlCache<>(properties.getCacheTtl(), properties.getCacheMaxEntries());
+        this.assignmentCache = new TtlCache<>(properties.getCacheTtl(), properties.getCacheMaxEntries());
+        this.classCache = new TtlCache<>(properties.getCacheTtl(), properties.getCacheMaxEntries());
+    }
+
+    public SubmissionLookups enrich(Collection<? extends SubmissionRef> submissions) {
+        Set<Long> studentIds = new HashSet<>();
+        Set<Long> assignmentIds = new HashSet<>();
+        Set<Long> classIds = new HashSet<>();
+        for (SubmissionRef submission : submissions) {
+            addIfPresent(studentIds, submission.getStudentId());
+            addIfPresent(assignmentIds, submission.getAssignmentId());
+            addIfPresent(classIds, submission.getClassId());
+        }
+
+        long deadline = System.nanoTime() + properties.getTimeout().toNanos();
+        // Feign interceptor đọc header Authorization từ RequestContextHolder -> phải chuyển sang thread của pool
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+
+        Lookup<UserResponse> users = lookup("users", studentIds, userCache, deadline, requestAttributes,
+                ids -> authServiceClient.getExerciseMap(ids).getResult());
+        Lookup<AssignmentResponse> assignments = lookup("assignments", assignmentIds, assignmentCache, deadline, requestAttributes,
+                ids -> contentServiceClient.getExerciseMap(ids).getResult());
+        Lookup<ClassResponse> classes = lookup("classes", classIds, classCache, deadline, requestAttributes,
+                ids -> classManagementServiceClient.getClassesByIds(ids).getResult());
+
+        awaitUntil(deadline, users, assignments, classes);
+
+        boolean partial = !users.isComplete() || !assignments.isComplete() || !classes.isComplete();
+        return new SubmissionLookups(users.result(), assignments.result(), classes.result(), partial);
+    }
+
+    /**
+     * Tra cứu user theo lô (một lời gọi cho mọi id chưa có trong cache), dùng cho sinh viên và các giảng viên
+     * nhận xét ở trang chi tiết. Quá timeout thì trả về phần đã có.
+     */
+    public Map<Long, UserResponse> users(Collection<Long> userIds) {
+        Set<Long> ids = new HashSet<>();
+        for (Long userId : userIds) {
+            addIfPresent(ids, userId);
+        }
+        long deadline = System.nanoTime() + properties.getTimeout().toNanos();
+        Lookup<UserResponse> users = lookup("users", ids, userCache, deadline, RequestContextHolder.getRequestAttributes(),
+                missing -> authServiceClient.getExerciseMap(missing).getResult());
+        awaitUntil(deadline, users);
+        return users.result();
+    }
+
+    private <V> Lookup<V> lookup(String name,
+                                 Set<Long> ids,
+                                 TtlCache<Long, V> cache,
+                                 long deadline,
+                                 RequestAttributes requestAttributes,
+                                 Function<List<Long>, Map<Long, V>> fetch) {
+        Set<Long> missing = new HashSet<>();
+        Map<Long, V> cached = cache.getAll(ids, missing);
+        if (missing.isEmpty()) {
+            return new Lookup<>(name, cached, null);
+        }
+
+        CompletableFuture<Map<Long, V>> pending = CompletableFuture
+                .supplyAsync(() -> withRequestContext(requestAttributes, () -> {
+                    // Task bị xếp hàng quá deadline: request gốc có thể đã trả về, không gọi nữa
+                    if (System.nanoTime() - deadline > 0) {
+                        throw new CompletionException(new TimeoutException("Enrichment deadline passed before calling " + name));
+                    }
+                    Map<Long, V> result = fetch.apply(new ArrayList<>(missing));
+                    return result != null ? result : Map.<Long, V>of();
+                }), executor)
+                // Kể cả khi về trễ hơn timeout, kết quả vẫn vào cache cho lần tải trang sau
+                .whenComplete((result, ex) -> {
+                    if (ex == null) {
+                        cache.putAll(result);
+                    } else {
+                        log.warn("Enrichment lookup for {} failed: {}", name, ex.getMessage());
+                    }
+                });
+        return new Lookup<>(name, cached, pending);
+    }
+
+    private void awaitUntil(long deadline, Lookup<?>... lookups) {
+        List<CompletableFuture<?>> pending = new ArrayList<>();
+        for (Lookup<?> lookup : lookups) {
+            if (lookup.pending() != null) {
+                pending.add(lookup.pending());
+            }
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+        try {
+            CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new))
+                    .get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            for (Lookup<?> lookup : lookups) {
+                if (lookup.pending() != null && !lookup.pending().isDone()) {
+                    log.warn("Enrichment lookup for {} timed out after {}, returning partial data", lookup.name(), properties.getTimeout());
+                }
+            }
+        } catch (ExecutionException e) {
+            // Lỗi từng lookup đã được log trong whenComplete, phần còn lại vẫn dùng được
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static <T> T withRequestContext(RequestAttributes attributes, Supplier<T> action) {
+        RequestAttributes previous = RequestContextHolder.getRequestAttributes();
+        RequestContextHolder.setRequestAttributes(attributes);
+        try {
+            return action.get();
+        } finally {
+            if (previous != null) {
+                RequestContextHolder.setRequestAttributes(previous);
+            } else {
+                RequestContextHolder.resetRequestAttributes();
+            }
+        }
+    }
+
+    private static void addIfPresent(Set<Long> ids, Long id) {
+        if (id != null) {
+            ids.add(id);
+        }
+    }
+
+    private record Lookup<V>(String name, Map<Long, V> cached, CompletableFuture<Map<Long, V>> pending) {
+
+        boolean isComplete() {
+            return pending == null || (pending.isDone() && !pending.isCompletedExceptionally());
+        }
+
+        Map<Long, V> result() {
+            if (pending == null || !isComplete()) {
+                return cached;
+            }
+            Map<Long, V> merged = new HashMap<>(cached);
+            merged.putAll(pending.join());
+            return merged;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.submission_service.enrichment;
+
+import com.submission_service.model.dto.response.AssignmentResponse;
+import com.submission_service.model.dto.response.ClassResponse;
+import com.submission_service.model.dto.response.UserResponse;
+
+import java.util.Map;
+
+/**
+ * Kết quả enrich cho một trang submission. {@code partial = true} khi ít nhất một lookup bị timeout/lỗi,
+ * lúc đó các map chỉ chứa phần lấy được từ cache.
+ */
+public record SubmissionLookups(
+        Map<Long, UserResponse> users,
+        Map<Long, AssignmentResponse> assignments,
+        Map<Long, ClassResponse> classes,
+        boolean partial
+) {
+    public UserResponse user(Long studentId) {
+        return users.get(studentId);
+    }
+
+    public AssignmentResponse assignment(Long assignmentId) {
+        return assignments.get(assignmentId);
+    }
+
+    public ClassResponse classResponse(Long classId) {
+        return classes.get(classId);
+    }
+}
@@ -0,0 +1,67 @@
+package com.submission_service.enrichment;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache in-memory có TTL cho kết quả lookup theo id.
+ * Không cần LRU chính xác: khi vượt ngưỡng thì dọn entry hết hạn, nếu vẫn đầy thì xoá sạch.
+ */
+final class TtlCache<K, V> {
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+    private final int maxEntries;
+
+    TtlCache(Duration ttl, int maxEntries) {
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Trả về các giá trị còn hạn; id không có trong cache (hoặc đã hết hạn) được thêm vào {@code missing}.
+     */
+    Map<K, V> getAll(Collection<K> keys, Set<K> missing) {
+        long now = System.nanoTime();
+        Map<K, V> found = new HashMap<>();
+        for (K key : keys) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null && entry.expiresAt() - now > 0) {
+                found.put(key, entry.value());
+            } else {
+                missing.add(key);
+            }
+        }
+        return found;
+    }
+
+    void putAll(Map<K, V> values) {
+        if (ttlNanos <= 0 || values.isEmpty()) {
+            return;
+        }
+        if (entries.size() + values.size() > maxEntries) {
+            evictExpired();
+            if (entries.size() + values.size() > maxEntries) {
+                entries.clear();
+            }
+        }
+        long expiresAt = System.nanoTime() + ttlNanos;
+        values.forEach((key, value) -> {
+            if (key != null && value != null) {
+                entries.put(key, new Entry<>(value, expiresAt));
+            }
+        });
+    }
+
+    private void evictExpired() {
+        long now = System.nanoTime();
+        entries.values().removeIf(entry -> entry.expiresAt() - now <= 0);
+    }
+}
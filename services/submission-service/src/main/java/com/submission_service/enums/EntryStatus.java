@@ -0,0 +1,8 @@
+package com.submission_service.enums;
+
+public enum EntryStatus {
+    PENDING,
+    RUNNING,
+    DONE,
+    FAILED
+}
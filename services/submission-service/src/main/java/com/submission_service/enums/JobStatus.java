@@ -0,0 +1,13 @@
+package com.submission_service.enums;
+
+public enum JobStatus {
+    // Đang đọc file Excel và ghi entry
+    IMPORTING,
+    IMPORT_FAILED,
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    // Chạy xong nhưng có entry FAILED sau khi hết số lần retry
+    COMPLETED_WITH_ERRORS,
+    CANCELLED
+}
@@ -1,6 +1,40 @@
 package com.submission_service.enums;
 
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Trạng thái chấm bài tự động:
+ * SUBMITTED -> QUEUED (đã publish lên Kafka) -> SCORED | FAILED | TIMED_OUT.
+ * Kết quả về trễ vẫn được nhận sau TIMED_OUT; SCORED và FAILED là trạng thái cuối.
+ */
 public enum SubmissionStatus {
     SUBMITTED,
-    SCORED
+    QUEUED,
+    SCORED,
+    FAILED,
+    TIMED_OUT;
+
+    public boolean canTransitionTo(SubmissionStatus next) {
+        return switch (this) {
+            // Kết quả có thể về trước callback publish, nên SUBMITTED cũng được lên SCORED/FAILED
+            case SUBMITTED -> next == QUEUED || next == SCORED || next == FAILED || next == TIMED_OUT;
+            case QUEUED -> next == SCORED || next == FAILED || next == TIMED_OUT;
+            case TIMED_OUT -> next == SCORED || next == FAILED;
+            case SCORED, FAILED -> false;
+        };
+    }
+
+    /**
+     * Các trạng thái được phép chuyển sang {@code target}, dùng cho câu update có điều kiện.
+     */
+    public static Set<SubmissionStatus> sourcesOf(SubmissionStatus target) {
+        Set<SubmissionStatus> sources = EnumSet.noneOf(SubmissionStatus.class);
+        for (SubmissionStatus status : values()) {
+            if (status.canTransitionTo(target)) {
+                sources.add(status);
+            }
+        }
+        return sources;
+    }
 }
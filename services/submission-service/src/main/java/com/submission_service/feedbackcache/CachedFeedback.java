@@ -0,0 +1,25 @@
+package com.submission_service.feedbackcache;
+
+import java.util.Map;
+
+/**
+ * Nội dung FeedbackLLM dùng chung giữa Submission (feedback dạng jsonb + điểm) và
+ * AutoFeedbackLLMEntry (feedback dạng text, lưu trong {@code feedback.text}).
+ */
+public record CachedFeedback(Map<String, Object> feedback, String aiModelName, Double score) {
+
+    public static final String TEXT = "text";
+
+    public static CachedFeedback ofText(String text, String aiModelName) {
+        return new CachedFeedback(Map.of(TEXT, text), aiModelName, null);
+    }
+
+    /**
+     * Dạng text cho entry của job Excel: feedback text nếu có, ngược lại là toàn bộ map.
+     */
+    public String text() {
+        if (feedback == null) return null;
+        Object text = feedback.get(TEXT);
+        return text instanceof String s ? s : feedback.toString();
+    }
+}
@@ -0,0 +1,94 @@
+package com.submission_service.feedbackcache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Cache feedback LLM theo sơ đồ đã chuẩn hoá, lưu trên Redis để các replica dùng chung.
+ * Khoá tách theo pipeline ({@link FeedbackSource}): feedback jsonb + điểm của Submission và feedback text của job Excel
+ * không dùng lẫn cho nhau. Lỗi Redis chỉ coi như miss: cache không bao giờ làm hỏng việc chấm bài.
+ */
+@Slf4j
+@Component
+public class FeedbackCache {
+
+    private static final String PREFIX = "feedback:llm:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final FeedbackCacheProperties properties;
+    private final FeedbackCacheStats stats = new FeedbackCacheStats();
+
+    public FeedbackCache(StringRedisTemplate redisTemplate, ObjectMapper objectMapper, FeedbackCacheProperties properties) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    public String promptVersion() {
+        return properties.getPromptVersion();
+    }
+
+    public Optional<CachedFeedback> get(String key, FeedbackSource source) {
+        if (!properties.isEnabled() || key == null) {
+            return Optional.empty();
+        }
+        Optional<CachedFeedback> cached = read(redisKey(key, source));
+        if (cached.isPresent()) {
+            stats.hit(source);
+        } else {
+            stats.miss(source);
+        }
+        return cached;
+    }
+
+    public void put(String key, CachedFeedback feedback, FeedbackSource source) {
+        if (!properties.isEnabled() || key == null || feedback == null || feedback.feedback() == null) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(redisKey(key, source), objectMapper.writeValueAsString(feedback), properties.getTtl());
+            stats.put(source);
+        } catch (Exception e) {
+            log.warn("Feedback cache write failed: {}", e.getMessage());
+        }
+    }
+
+    public FeedbackCacheStatsResponse stats() {
+        Map<FeedbackSource, FeedbackCacheStatsResponse.SourceStats> sources = new EnumMap<>(FeedbackSource.class);
+        long hits = 0, misses = 0, puts = 0;
+        for (FeedbackSource source : FeedbackSource.values()) {
+            FeedbackCacheStatsResponse.SourceStats s = stats.snapshot(source);
+            sources.put(source, s);
+            hits += s.hits();
+            misses += s.misses();
+            puts += s.puts();
+        }
+        return new FeedbackCacheStatsResponse(properties.isEnabled(), properties.getPromptVersion(),
+                FeedbackCacheStatsResponse.SourceStats.of(hits, misses, puts), sources);
+    }
+
+    private static String redisKey(String key, FeedbackSource source) {
+        return PREFIX + source.name().toLowerCase() + ":" + key;
+    }
+
+    private Optional<CachedFeedback> read(String redisKey) {
+        try {
+            String json = redisTemplate.opsForValue().get(redisKey);
+            return json == null ? Optional.empty() : Optional.of(objectMapper.readValue(json, CachedFeedback.class));
+        } catch (Exception e) {
+            log.warn("Feedback cache read failed: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.submission_service.feedbackcache;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(FeedbackCacheProperties.class)
+public class FeedbackCacheConfig {
+}
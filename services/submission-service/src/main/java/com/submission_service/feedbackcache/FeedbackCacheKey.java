@@ -0,0 +1,23 @@
+package com.submission_service.feedbackcache;
+
+import com.submission_service.enums.TypeUml;
+import com.submission_service.render.PlantUmlSource;
+
+/**
+ * Khoá cache = SHA-256(sơ đồ sinh viên đã chuẩn hoá, hash đáp án đã chuẩn hoá, TypeUml, prompt version).
+ * Đáp án được định danh bằng hash nội dung thay vì id: job Excel chỉ có solution code, và sửa đáp án
+ * thì khoá cũng đổi theo.
+ */
+public final class FeedbackCacheKey {
+
+    private FeedbackCacheKey() {
+    }
+
+    public static String of(String studentCode, String solutionCode, TypeUml typeUml, String promptVersion) {
+        String solutionHash = solutionCode == null ? "-" : PlantUmlSource.hash(PlantUmlSource.normalize(solutionCode));
+        return PlantUmlSource.hash(PlantUmlSource.normalize(studentCode)
+                + "\u0000" + solutionHash
+                + "\u0000" + typeUml
+                + "\u0000" + promptVersion);
+    }
+}
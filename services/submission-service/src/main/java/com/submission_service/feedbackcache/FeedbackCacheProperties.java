@@ -0,0 +1,15 @@
+package com.submission_service.feedbackcache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "defty.feedback-cache")
+public class FeedbackCacheProperties {
+    private boolean enabled = true;
+    // Nằm trong khoá cache: đổi prompt (grader hoặc job) thì tăng version để feedback cũ không bị dùng lại
+    private String promptVersion = "v1";
+    private Duration ttl = Duration.ofDays(30);
+}
@@ -0,0 +1,36 @@
+package com.submission_service.feedbackcache;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bộ đếm hit/miss/put theo {@link FeedbackSource}, tính từ lúc instance khởi động.
+ */
+final class FeedbackCacheStats {
+
+    private final Map<FeedbackSource, LongAdder[]> counters = new EnumMap<>(FeedbackSource.class);
+
+    FeedbackCacheStats() {
+        for (FeedbackSource source : FeedbackSource.values()) {
+            counters.put(source, new LongAdder[]{new LongAdder(), new LongAdder(), new LongAdder()});
+        }
+    }
+
+    void hit(FeedbackSource source) {
+        counters.get(source)[0].increment();
+    }
+
+    void miss(FeedbackSource source) {
+        counters.get(source)[1].increment();
+    }
+
+    void put(FeedbackSource source) {
+        counters.get(source)[2].increment();
+    }
+
+    FeedbackCacheStatsResponse.SourceStats snapshot(FeedbackSource source) {
+        LongAdder[] c = counters.get(source);
+        return FeedbackCacheStatsResponse.SourceStats.of(c[0].sum(), c[1].sum(), c[2].sum());
+    }
+}
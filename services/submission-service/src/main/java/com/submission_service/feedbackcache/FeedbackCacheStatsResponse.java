@@ -0,0 +1,18 @@
+package com.submission_service.feedbackcache;
+
+import java.util.Map;
+
+/**
+ * hitRate tính theo phần trăm trên tổng số lần tra cache.
+ */
+public record FeedbackCacheStatsResponse(boolean enabled, String promptVersion, SourceStats total,
+                                         Map<FeedbackSource, SourceStats> sources) {
+
+    public record SourceStats(long hits, long misses, long puts, double hitRate) {
+
+        static SourceStats of(long hits, long misses, long puts) {
+            long lookups = hits + misses;
+            return new SourceStats(hits, misses, puts, lookups == 0 ? 0 : Math.round(hits * 10000.0 / lookups) / 100.0);
+        }
+    }
+}
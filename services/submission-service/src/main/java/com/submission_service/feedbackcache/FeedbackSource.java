@@ -0,0 +1,9 @@
+package com.submission_service.feedbackcache;
+
+/**
+ * Nơi đọc/ghi cache, để thống kê hit-rate riêng cho từng pipeline.
+ */
+public enum FeedbackSource {
+    SUBMISSION,
+    AUTO_FEEDBACK_ENTRY
+}
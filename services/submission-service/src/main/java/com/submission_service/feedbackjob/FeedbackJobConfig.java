@@ -0,0 +1,63 @@
+package com.submission_service.feedbackjob;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(FeedbackJobProperties.class)
+public class FeedbackJobConfig {
+
+    public static final String FEEDBACK_JOB_COORDINATOR = "feedbackJobCoordinator";
+    public static final String FEEDBACK_JOB_WORKERS = "feedbackJobWorkers";
+    public static final String FEEDBACK_JOB_IMPORTER = "feedbackJobImportExecutor";
+
+    /**
+     * Một thread duy nhất đọc entry theo trang và phát cho worker; các job xếp hàng lần lượt.
+     */
+    @Bean(name = FEEDBACK_JOB_COORDINATOR, destroyMethod = "shutdownNow")
+    public ExecutorService feedbackJobCoordinator() {
+        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), daemonThreads("feedback-job-coordinator-"));
+    }
+
+    /**
+     * Pool worker gọi LLM. Số task đang chạy/đợi được coordinator chặn bằng semaphore = concurrency,
+     * nên hàng đợi không bao giờ vượt quá kích thước pool.
+     */
+    @Bean(name = FEEDBACK_JOB_WORKERS, destroyMethod = "shutdownNow")
+    public ExecutorService feedbackJobWorkers(FeedbackJobProperties properties) {
+        int concurrency = Math.max(1, properties.getConcurrency());
+        log.info("Feedback job workers: concurrency={}, tokensPerMinute={}", concurrency, properties.getTokensPerMinute());
+        return new ThreadPoolExecutor(concurrency, concurrency, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(concurrency), daemonThreads("feedback-job-worker-"));
+    }
+
+    @Bean(name = FEEDBACK_JOB_IMPORTER, destroyMethod = "shutdown")
+    public ExecutorService feedbackJobImporter(FeedbackJobProperties properties) {
+        int threads = Math.max(1, properties.getImportThreads());
+        return new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, properties.getImportQueueCapacity())),
+                daemonThreads("feedback-job-import-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, prefix + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+}
@@ -0,0 +1,252 @@
+package com.submission_service.feedbackjob;
+
+import com.submission_service.enums.EntryStatus;
+import com.submission_service.enums.JobStatus;
+import com.submission_service.feedbackcache.CachedFeedback;
+import com.submission_service.feedbackcache.FeedbackCache;
+import com.submission_service.feedbackcache.FeedbackCacheKey;
+import com.submission_service.feedbackcache.FeedbackSource;
+import com.submission_service.model.entity.AutoFeedbackLLMEntry;
+import com.submission_service.model.entity.AutoFeedbackLLMJob;
+import com.submission_service.repository.AutoFeedbackLLMEntryRepository;
+import com.submission_service.repository.AutoFeedbackLLMJobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Chạy các AutoFeedbackLLMJob: gọi LLM cho từng entry với số luồng giới hạn và hạn mức token/phút.
+ * - Mỗi entry là một checkpoint: kết quả được ghi ngay khi xong, trạng thái PENDING/RUNNING/DONE/FAILED
+ * - Service chết giữa chừng: lúc khởi động entry RUNNING về lại PENDING và job dang dở được chạy tiếp
+ * - Lỗi tạm thời được retry với backoff lũy thừa, hết lượt thì entry FAILED (job vẫn chạy tiếp)
+ * - Tiến độ (processed/failed) cộng dồn trên bảng job để API progress đọc trực tiếp
+ */
+@Slf4j
+@Component
+public class FeedbackJobEngine {
+
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    private final AutoFeedbackLLMJobRepository jobRepository;
+    private final AutoFeedbackLLMEntryRepository entryRepository;
+    // null khi không cấu hình backend: không nhận job mới, job cũ giữ nguyên trạng thái chờ
+    private final LlmFeedbackClient llmFeedbackClient;
+    private final FeedbackJobProperties properties;
+    private final ExecutorService coordinator;
+    private final ExecutorService workers;
+    private final TokenRateLimiter rateLimiter;
+    private final FeedbackCache feedbackCache;
+    private final int concurrency;
+    // Job đã xếp hàng hoặc đang chạy, tránh submit trùng (upload + resume)
+    private final Set<Long> scheduledJobs = ConcurrentHashMap.newKeySet();
+
+    public FeedbackJobEngine(AutoFeedbackLLMJobRepository jobRepository,
+                             AutoFeedbackLLMEntryRepository entryRepository,
+                             ObjectProvider<LlmFeedbackClient> llmFeedbackClient,
+                             FeedbackJobProperties properties,
+                             FeedbackCache feedbackCache,
+                             @Qualifier(FeedbackJobConfig.FEEDBACK_JOB_COORDINATOR) ExecutorService coordinator,
+                             @Qualifier(FeedbackJobConfig.FEEDBACK_JOB_WORKERS) ExecutorService workers) {
+        this.jobRepository = jobRepository;
+        this.entryRepository = entryRepository;
+        this.llmFeedbackClient = llmFeedbackClient.getIfAvailable();
+        this.properties = properties;
+        this.feedbackCache = feedbackCache;
+        this.coordinator = coordinator;
+        this.workers = workers;
+        this.rateLimiter = new TokenRateLimiter(properties.getTokensPerMinute());
+        this.concurrency = Math.max(1, properties.getConcurrency());
+    }
+
+    public boolean hasBackend() {
+        return llmFeedbackClient != null;
+    }
+
+    public void submit(Long jobId) {
+        if (!hasBackend()) {
+            log.warn("Feedback job {} not started: no LLM backend configured (defty.feedback-job.backend)", jobId);
+            return;
+        }
+        if (!scheduledJobs.add(jobId)) {
+            log.debug("Feedback job {} already scheduled", jobId);
+            return;
+        }
+        try {
+            coordinator.execute(() -> {
+                try {
+                    runJob(jobId);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    log.warn("Feedback job {} interrupted, will resume on next startup", jobId);
+                } catch (Exception e) {
+                    log.error("Feedback job {} stopped unexpectedly: {}", jobId, e.getMessage(), e);
+                } finally {
+                    scheduledJobs.remove(jobId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            scheduledJobs.remove(jobId);
+            log.warn("Feedback job {} rejected (shutting down), will resume on next startup", jobId);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinishedJobs() {
+        if (!properties.isResumeOnStartup() || !hasBackend()) return;
+        // Giả định một instance xử lý job; chạy nhiều instance thì claim() vẫn chặn xử lý trùng entry
+        int reset = entryRepository.resetRunning();
+        List<Long> jobIds = jobRepository.findIdsByJobStatusIn(List.of(JobStatus.PENDING, JobStatus.RUNNING));
+        if (!jobIds.isEmpty() || reset > 0) {
+            log.info("Resuming {} feedback job(s), {} interrupted entr(ies) reset to PENDING", jobIds.size(), reset);
+        }
+        jobIds.forEach(this::submit);
+    }
+
+    private void runJob(Long jobId) throws InterruptedException {
+        Optional<AutoFeedbackLLMJob> loaded = jobRepository.findById(jobId);
+        if (loaded.isEmpty() || Boolean.TRUE.equals(loaded.get().getDeleted())) {
+            log.info("Feedback job {} not found or deleted, skipping", jobId);
+            return;
+        }
+        AutoFeedbackLLMJob job = loaded.get();
+        jobRepository.markRunning(jobId, LocalDateTime.now());
+        log.info("Feedback job {} started: total={}, processed={}", jobId, job.getTotalEntries(), job.getProcessedEntries());
+        long startNanos = System.nanoTime();
+
+        Semaphore inFlight = new Semaphore(concurrency);
+        long afterId = 0L;
+        int dispatched = 0;
+        boolean cancelled = false;
+        while (true) {
+            if (isDeleted(jobId)) {
+                cancelled = true;
+                break;
+            }
+            List<AutoFeedbackLLMEntry> page = entryRepository.findPageByJobAndStatus(
+                    jobId, EntryStatus.PENDING, afterId, PageRequest.of(0, Math.max(1, properties.getPageSize())));
+            if (page.isEmpty()) break;
+
+            for (AutoFeedbackLLMEntry entry : page) {
+                LlmFeedbackRequest request = new LlmFeedbackRequest(jobId, entry.getId(), job.getTypeUml(),
+                        job.getAssignment(), job.getSolutionCode(), entry.getStudentPlantUMLCode());
+                inFlight.acquire();
+                try {
+                    workers.execute(() -> {
+                        try {
+                            processEntry(request);
+                        } finally {
+                            inFlight.release();
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    inFlight.release();
+                    throw new InterruptedException("Worker pool shut down");
+                }
+                dispatched++;
+            }
+            afterId = page.get(page.size() - 1).getId();
+        }
+
+        // Đợi các entry đang chạy xong rồi mới chốt trạng thái job
+        inFlight.acquire(concurrency);
+        inFlight.release(concurrency);
+
+        JobStatus finalStatus;
+        if (cancelled) {
+            finalStatus = JobStatus.CANCELLED;
+        } else {
+            AutoFeedbackLLMJob finished = jobRepository.findById(jobId).orElse(job);
+            finalStatus = finished.getFailedEntries() != null && finished.getFailedEntries() > 0
+                    ? JobStatus.COMPLETED_WITH_ERRORS
+                    : JobStatus.COMPLETED;
+        }
+        jobRepository.markFinished(jobId, finalStatus, LocalDateTime.now());
+        log.info("Feedback job {} {}: {} entr(ies) in {} ms", jobId, finalStatus, dispatched,
+                Duration.ofNanos(System.nanoTime() - startNanos).toMillis());
+    }
+
+    private boolean isDeleted(Long jobId) {
+        return jobRepository.findById(jobId).map(j -> Boolean.TRUE.equals(j.getDeleted())).orElse(true);
+    }
+
+    private void processEntry(LlmFeedbackRequest request) {
+        if (entryRepository.claim(request.entryId()) == 0) {
+            return;
+        }
+        // Sơ đồ trùng (trong job này hoặc job khác) thì lấy feedback từ cache, không tốn token
+        String cacheKey = FeedbackCacheKey.of(request.studentPlantUMLCode(), request.solutionCode(),
+                request.typeUml(), feedbackCache.promptVersion());
+        Optional<CachedFeedback> cached = feedbackCache.get(cacheKey, FeedbackSource.AUTO_FEEDBACK_ENTRY);
+        if (cached.isPresent()) {
+            entryRepository.markDone(request.entryId(), cached.get().text(), 0);
+            jobRepository.incrementProcessed(request.jobId());
+            return;
+        }
+        int maxAttempts = Math.max(1, properties.getMaxAttempts());
+        String lastError = null;
+        int attempts = 0;
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            attempts = attempt;
+            int estimate = request.estimatedPromptTokens();
+            try {
+                rateLimiter.acquire(estimate);
+                LlmFeedbackResult result = llmFeedbackClient.generate(request);
+                rateLimiter.adjust((long) result.tokensUsed() - estimate);
+                entryRepository.markDone(request.entryId(), result.feedback(), attempt);
+                if (llmFeedbackClient.isCacheable()) {
+                    feedbackCache.put(cacheKey, CachedFeedback.ofText(result.feedback(), properties.getBackend()),
+                            FeedbackSource.AUTO_FEEDBACK_ENTRY);
+                }
+                jobRepository.incrementProcessed(request.jobId());
+                return;
+            } catch (InterruptedException e) {
+                // Để entry ở RUNNING: lần khởi động sau sẽ trả về PENDING và chạy lại
+                Thread.currentThread().interrupt();
+                return;
+            } catch (LlmBackendException e) {
+                lastError = e.getMessage();
+                if (!e.isRetryable()) break;
+            } catch (RuntimeException e) {
+                lastError = e.getClass().getSimpleName() + ": " + e.getMessage();
+            }
+            if (attempt < maxAttempts) {
+                log.warn("Feedback entry {} attempt {}/{} failed: {}", request.entryId(), attempt, maxAttempts, lastError);
+                try {
+                    Thread.sleep(backoff(attempt).toMillis());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+        log.error("Feedback entry {} of job {} failed: {}", request.entryId(), request.jobId(), lastError);
+        entryRepository.markFailed(request.entryId(), truncate(lastError), attempts);
+        jobRepository.incrementFailed(request.jobId());
+    }
+
+    private Duration backoff(int attempt) {
+        Duration initial = properties.getInitialBackoff();
+        Duration max = properties.getMaxBackoff();
+        Duration delay = initial.multipliedBy(1L << Math.min(attempt - 1, 20));
+        return delay.compareTo(max) > 0 ? max : delay;
+    }
+
+    private static String truncate(String error) {
+        if (error == null) return null;
+        return error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
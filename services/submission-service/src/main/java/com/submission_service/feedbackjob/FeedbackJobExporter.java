@@ -0,0 +1,186 @@
+package com.submission_service.feedbackjob;
+
+import com.example.common_library.exceptions.NotFoundException;
+import com.example.common_library.pagination.KeysetPage;
+import com.example.common_library.pagination.KeysetPageRequest;
+import com.example.common_library.pagination.KeysetPaginator;
+import com.submission_service.enums.ExportFormat;
+import com.submission_service.model.entity.AutoFeedbackLLMEntry;
+import com.submission_service.model.entity.AutoFeedbackLLMJob;
+import com.submission_service.repository.AutoFeedbackLLMJobRepository;
+import com.submission_service.repository.specification.AutoFeedbackLLMEntrySpecification;
+import jakarta.persistence.EntityManager;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * Xuất kết quả một AutoFeedbackLLMJob ra XLSX/CSV ghi thẳng vào response:
+ * đọc entry theo trang keyset (id tăng dần), ghi xong trang nào clear persistence context trang đó,
+ * nên heap không phụ thuộc số entry.
+ * File XLSX giữ bố cục của file nhập (metadata 4 dòng đầu, entry từ dòng 7) để nhập lại được.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class FeedbackJobExporter {
+
+    private static final int PAGE_SIZE = 500;
+    // Số dòng SXSSF giữ trong bộ nhớ, phần còn lại được flush ra file tạm
+    private static final int XLSX_WINDOW = 100;
+    private static final int XLSX_HEADER_ROW = 5;
+    private static final String[] HEADERS = {"Student Info", "PlantUML Code", "Feedback", "Status", "Attempts", "Error"};
+
+    AutoFeedbackLLMJobRepository jobRepository;
+    KeysetPaginator keysetPaginator;
+    EntityManager entityManager;
+
+    public AutoFeedbackLLMJob findJob(Long jobId) {
+        return jobRepository.findById(jobId)
+                .filter(job -> !Boolean.TRUE.equals(job.getDeleted()))
+                .orElseThrow(() -> new NotFoundException("AutoFeedbackLLMJob not found with id: " + jobId));
+    }
+
+    public StreamingResponseBody export(AutoFeedbackLLMJob job, ExportFormat format) {
+        return out -> {
+            long startNanos = System.nanoTime();
+            int rows = switch (format) {
+                case XLSX -> writeXlsx(job, out);
+                case CSV -> writeCsv(job, out);
+            };
+            log.info("Exported {} entries of job id={} as {} in {} ms", rows, job.getId(), format,
+                    (System.nanoTime() - startNanos) / 1_000_000);
+        };
+    }
+
+    private int writeXlsx(AutoFeedbackLLMJob job, OutputStream out) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(XLSX_WINDOW);
+        workbook.setCompressTempFiles(true);
+        try {
+            Sheet sheet = workbook.createSheet("Feedback");
+            writeCells(sheet.createRow(0), "Title", job.getTitle());
+            writeCells(sheet.createRow(1), "Assignment", job.getAssignment());
+            writeCells(sheet.createRow(2), "Solution Code", job.getSolutionCode());
+            writeCells(sheet.createRow(3), "Type UML", job.getTypeUml() == null ? null : job.getTypeUml().name());
+            writeCells(sheet.createRow(XLSX_HEADER_ROW), HEADERS);
+
+            int[] rowNum = {XLSX_HEADER_ROW + 1};
+            int count = forEachEntry(job.getId(), entry -> writeCells(sheet.createRow(rowNum[0]++), columns(entry)));
+            workbook.write(out);
+            return count;
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    private int writeCsv(AutoFeedbackLLMJob job, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        // BOM để Excel nhận đúng UTF-8 (tiếng Việt)
+        writer.write('\uFEFF');
+        writeCsvLine(writer, HEADERS);
+        int count;
+        try {
+            count = forEachEntry(job.getId(), entry -> {
+                try {
+                    writeCsvLine(writer, columns(entry));
+                } catch (IOException e) {
+                    throw new ExportAbortedException(e);
+                }
+            });
+        } catch (ExportAbortedException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+        return count;
+    }
+
+    private int forEachEntry(Long jobId, Consumer<AutoFeedbackLLMEntry> consumer) {
+        Specification<AutoFeedbackLLMEntry> spec = Specification
+                .where(AutoFeedbackLLMEntrySpecification.hasAutoFeedBackLLMJobId(jobId))
+                .and(AutoFeedbackLLMEntrySpecification.notDeleted());
+        Sort sort = Sort.by(Sort.Direction.ASC, KeysetPageRequest.ID_PROPERTY);
+
+        int count = 0;
+        String cursor = null;
+        do {
+            KeysetPage<AutoFeedbackLLMEntry> page = keysetPaginator.findPage(AutoFeedbackLLMEntry.class, spec,
+                    KeysetPageRequest.of(PAGE_SIZE, cursor, sort));
+            page.getContent().forEach(consumer);
+            count += page.getContent().size();
+            cursor = page.getNextCursor();
+            // Open-in-view gắn persistence context của request vào cả thread ghi StreamingResponseBody:
+            // không clear thì mọi entry đã ghi vẫn nằm trong context tới hết export
+            entityManager.clear();
+        } while (cursor != null);
+        return count;
+    }
+
+    private static String[] columns(AutoFeedbackLLMEntry entry) {
+        return new String[]{
+                entry.getStudentInfo(),
+                entry.getStudentPlantUMLCode(),
+                entry.getFeedBackLLM(),
+                entry.getEntryStatus() == null ? null : entry.getEntryStatus().name(),
+                entry.getAttempts() == null ? null : String.valueOf(entry.getAttempts()),
+                entry.getLastError()
+        };
+    }
+
+    private static void writeCells(Row row, String... values) {
+        int maxLength = SpreadsheetVersion.EXCEL2007.getMaxTextLength();
+        for (int i = 0; i < values.length; i++) {
+            String value = values[i];
+            if (value == null) continue;
+            // Ô Excel tối đa 32767 ký tự
+            row.createCell(i).setCellValue(value.length() > maxLength ? value.substring(0, maxLength) : value);
+        }
+    }
+
+    private static void writeCsvLine(Writer writer, String... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) writer.write(',');
+            String value = values[i];
+            if (value == null) continue;
+            boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                    || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+            if (quote) {
+                writer.write('"');
+                writer.write(value.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(value);
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    private static final class ExportAbortedException extends RuntimeException {
+        ExportAbortedException(IOException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized IOException getCause() {
+            return (IOException) super.getCause();
+        }
+    }
+}
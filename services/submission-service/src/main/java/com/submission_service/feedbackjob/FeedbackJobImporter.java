@@ -0,0 +1,183 @@
+package com.submission_service.feedbackjob;
+
+import com.submission_service.enums.EntryStatus;
+import com.submission_service.enums.JobStatus;
+import com.submission_service.enums.TypeUml;
+import com.submission_service.model.entity.AutoFeedbackLLMJob;
+import com.submission_service.repository.AutoFeedbackLLMJobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Nhập file Excel của AutoFeedbackLLMJob:
+ * - metadata (4 dòng đầu) đọc ngay trong request để tạo job và trả id về client
+ * - entries (từ dòng 7) đọc kiểu streaming ở thread nền, ghi DB theo lô bằng JDBC batch
+ * - nhập xong job chuyển PENDING và được đưa cho {@link FeedbackJobEngine}
+ */
+@Slf4j
+@Component
+public class FeedbackJobImporter {
+
+    private static final int METADATA_ROWS = 4;
+    private static final int FIRST_ENTRY_ROW = 6;
+
+    // Id của BaseEntity là IDENTITY nên Hibernate không gộp được INSERT; ghi entry trực tiếp bằng JDBC batch
+    private static final String INSERT_ENTRY_SQL = "insert into auto_feedback_llm_entry " +
+            "(auto_feedback_llm_job_id, student_info, student_plantumlcode, entry_status, attempts, deleted, createddate, status) " +
+            "values (?, ?, ?, ?, 0, false, ?, 1)";
+
+    private final AutoFeedbackLLMJobRepository jobRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final FeedbackJobEngine feedbackJobEngine;
+    private final FeedbackJobProperties properties;
+    private final ExecutorService importer;
+
+    public FeedbackJobImporter(AutoFeedbackLLMJobRepository jobRepository,
+                               JdbcTemplate jdbcTemplate,
+                               TransactionTemplate transactionTemplate,
+                               FeedbackJobEngine feedbackJobEngine,
+                               FeedbackJobProperties properties,
+                               @Qualifier(FeedbackJobConfig.FEEDBACK_JOB_IMPORTER) ExecutorService importer) {
+        this.jobRepository = jobRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.feedbackJobEngine = feedbackJobEngine;
+        this.properties = properties;
+        this.importer = importer;
+    }
+
+    public Long start(MultipartFile file) throws IOException {
+        // File multipart bị xoá khi request kết thúc -> chép ra file tạm cho thread nền
+        Path tempFile = Files.createTempFile("feedback-job-", ".xlsx");
+        try {
+            file.transferTo(tempFile);
+
+            Map<String, String> meta = new HashMap<>();
+            XlsxRowReader.read(tempFile, 2, (rowNum, cells) -> {
+                if (rowNum >= METADATA_ROWS) return false;
+                if (!cells[0].isEmpty() && !cells[1].isEmpty()) {
+                    meta.put(cells[0], cells[1]);
+                }
+                return true;
+            });
+
+            AutoFeedbackLLMJob job = AutoFeedbackLLMJob.builder()
+                    .title(meta.getOrDefault("Title", "Untitled"))
+                    .assignment(meta.getOrDefault("Assignment", ""))
+                    .solutionCode(meta.getOrDefault("Solution Code", ""))
+                    .typeUml(parseType(meta.get("Type UML")))
+                    .jobStatus(JobStatus.IMPORTING)
+                    .importHeartbeatAt(LocalDateTime.now())
+                    .build();
+            jobRepository.save(job);
+            log.info("Saved AutoFeedbackLLMJob to DB: id={}, title={}", job.getId(), job.getTitle());
+
+            Long jobId = job.getId();
+            importer.execute(() -> importEntries(jobId, tempFile));
+            return jobId;
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void failInterruptedImports() {
+        // File tạm không còn sau khi restart nên không nhập tiếp được. Chỉ đánh job có heartbeat quá hạn:
+        // job IMPORTING khác có thể đang được một replica còn sống nhập
+        LocalDateTime before = LocalDateTime.now().minus(properties.getImportStaleAfter());
+        int failed = jobRepository.failStaleImports(before);
+        if (failed > 0) {
+            log.warn("Marked {} interrupted feedback job import(s) as IMPORT_FAILED", failed);
+        }
+    }
+
+    private void importEntries(Long jobId, Path file) {
+        int batchSize = Math.max(1, properties.getImportBatchSize());
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        int[] count = {0};
+        long startNanos = System.nanoTime();
+        try {
+            XlsxRowReader.read(file, 2, (rowNum, cells) -> {
+                if (rowNum < FIRST_ENTRY_ROW) return true;
+                String studentInfo = cells[0];
+                String plantUMLCode = cells[1];
+                if (plantUMLCode.isBlank() && studentInfo.isBlank()) return true;
+
+                batch.add(new Object[]{jobId, studentInfo, plantUMLCode, EntryStatus.PENDING.name(),
+                        Timestamp.valueOf(LocalDateTime.now())});
+                if (batch.size() >= batchSize) {
+                    count[0] += flush(jobId, batch, count[0]);
+                }
+                return true;
+            });
+            count[0] += flush(jobId, batch, count[0]);
+
+            if (jobRepository.transitionJobStatus(jobId, JobStatus.IMPORTING, JobStatus.PENDING) == 0) {
+                log.warn("Feedback job {} is no longer IMPORTING, not starting it", jobId);
+                return;
+            }
+            log.info("Saved {} entries to DB for job id={} in {} ms", count[0], jobId,
+                    (System.nanoTime() - startNanos) / 1_000_000);
+            feedbackJobEngine.submit(jobId);
+        } catch (ImportAbortedException e) {
+            log.warn("Import of feedback job {} stopped after {} entries: job is no longer IMPORTING", jobId, count[0]);
+        } catch (IOException | RuntimeException e) {
+            log.error("Import of feedback job {} failed after {} entries: {}", jobId, count[0], e.getMessage(), e);
+            jobRepository.transitionJobStatus(jobId, JobStatus.IMPORTING, JobStatus.IMPORT_FAILED);
+        } finally {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("Could not delete temp file {}: {}", file, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Ghi một lô trong một transaction, cập nhật totalEntries để API progress thấy tiến độ nhập và heartbeat của lần nhập.
+     */
+    private int flush(Long jobId, List<Object[]> batch, int importedSoFar) {
+        if (batch.isEmpty()) return 0;
+        int size = batch.size();
+        transactionTemplate.executeWithoutResult(status -> {
+            // Cập nhật trước để khoá dòng job: job đã bị đánh IMPORT_FAILED thì rollback, không ghi thêm entry
+            if (jobRepository.updateImportProgress(jobId, importedSoFar + size, LocalDateTime.now()) == 0) {
+                throw new ImportAbortedException();
+            }
+            jdbcTemplate.batchUpdate(INSERT_ENTRY_SQL, batch);
+        });
+        batch.clear();
+        return size;
+    }
+
+    private static final class ImportAbortedException extends RuntimeException {
+    }
+
+    private TypeUml parseType(String type) {
+        if (type == null) return TypeUml.USE_CASE_DIAGRAM;
+        try {
+            return TypeUml.valueOf(type.toUpperCase());
+        } catch (Exception e) {
+            return TypeUml.USE_CASE_DIAGRAM;
+        }
+    }
+}
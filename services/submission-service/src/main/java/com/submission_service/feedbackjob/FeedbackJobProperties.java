@@ -0,0 +1,42 @@
+package com.submission_service.feedbackjob;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "defty.feedback-job")
+public class FeedbackJobProperties {
+    // Số entry gọi LLM đồng thời (cũng là số worker thread)
+    private int concurrency = 4;
+    // Hạn mức token/phút của backend LLM; <= 0 là không giới hạn
+    private long tokensPerMinute = 60_000;
+    // Số lần thử tối đa cho mỗi entry (tính cả lần đầu)
+    private int maxAttempts = 3;
+    private Duration initialBackoff = Duration.ofSeconds(1);
+    private Duration maxBackoff = Duration.ofSeconds(30);
+    // Số entry đọc từ DB mỗi lượt
+    private int pageSize = 100;
+    // Số entry ghi mỗi lô khi nhập file Excel
+    private int importBatchSize = 500;
+    // Số file được nhập song song; hàng đợi đầy thì request tự nhập (CallerRuns)
+    private int importThreads = 2;
+    private int importQueueCapacity = 16;
+    // Job IMPORTING không có tiến độ quá thời gian này coi như replica nhập đã chết (xử lý lúc khởi động)
+    private Duration importStaleAfter = Duration.ofMinutes(10);
+    // Tự chạy lại job PENDING/RUNNING khi service khởi động
+    private boolean resumeOnStartup = true;
+    // Backend LLM; không cấu hình thì job vẫn được nhập nhưng nằm ở PENDING, được chạy khi service khởi động lại có backend.
+    // "stub" chỉ dùng được ở profile test
+    private String backend;
+    private Stub stub = new Stub();
+
+    @Data
+    public static class Stub {
+        private Duration latency = Duration.ofMillis(800);
+        private int responseTokens = 400;
+        // Tỉ lệ lỗi giả lập (0..1) để thử cơ chế retry
+        private double failureRate = 0.0;
+    }
+}
@@ -0,0 +1,21 @@
+package com.submission_service.feedbackjob;
+
+import lombok.Getter;
+
+/**
+ * Lỗi từ backend LLM. {@code retryable = true} cho lỗi tạm thời (timeout, 429, 5xx).
+ */
+@Getter
+public class LlmBackendException extends RuntimeException {
+    private final boolean retryable;
+
+    public LlmBackendException(String message, boolean retryable) {
+        super(message);
+        this.retryable = retryable;
+    }
+
+    public LlmBackendException(String message, boolean retryable, Throwable cause) {
+        super(message, cause);
+        this.retryable = retryable;
+    }
+}
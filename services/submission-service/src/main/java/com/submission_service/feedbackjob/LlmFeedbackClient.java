@@ -0,0 +1,15 @@
+package com.submission_service.feedbackjob;
+
+/**
+ * Backend sinh feedback cho một entry. Được gọi song song từ các worker nên implementation phải thread-safe.
+ */
+public interface LlmFeedbackClient {
+    LlmFeedbackResult generate(LlmFeedbackRequest request);
+
+    /**
+     * Feedback của backend này có được ghi vào feedback cache để job khác dùng lại không (backend giả lập thì không).
+     */
+    default boolean isCacheable() {
+        return true;
+    }
+}
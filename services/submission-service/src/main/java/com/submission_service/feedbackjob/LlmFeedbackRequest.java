@@ -0,0 +1,24 @@
+package com.submission_service.feedbackjob;
+
+import com.submission_service.enums.TypeUml;
+
+public record LlmFeedbackRequest(
+        Long jobId,
+        Long entryId,
+        TypeUml typeUml,
+        String assignment,
+        String solutionCode,
+        String studentPlantUMLCode
+) {
+    /**
+     * Ước lượng số token của prompt (~4 ký tự/token) để xin hạn mức trước khi gọi backend.
+     */
+    public int estimatedPromptTokens() {
+        long chars = length(assignment) + length(solutionCode) + length(studentPlantUMLCode);
+        return (int) Math.max(1, chars / 4);
+    }
+
+    private static int length(String s) {
+        return s == null ? 0 : s.length();
+    }
+}
@@ -0,0 +1,7 @@
+package com.submission_service.feedbackjob;
+
+/**
+ * @param tokensUsed tổng token thực tế (prompt + completion) backend báo về, dùng để bù trừ rate limiter
+ */
+public record LlmFeedbackResult(String feedback, int tokensUsed) {
+}
@@ -0,0 +1,54 @@
+package com.submission_service.feedbackjob;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Backend giả lập để test/đo throughput của engine mà không tốn hạn mức LLM thật: chờ theo latency cấu hình
+ * rồi trả feedback cố định. Chỉ bật khi chạy profile test và đặt rõ {@code defty.feedback-job.backend=stub};
+ * feedback giả không bao giờ được ghi vào feedback cache.
+ */
+@Slf4j
+@Component
+@Profile("test")
+@ConditionalOnProperty(prefix = "defty.feedback-job", name = "backend", havingValue = "stub")
+public class StubLlmFeedbackClient implements LlmFeedbackClient {
+
+    private final FeedbackJobProperties.Stub stub;
+
+    public StubLlmFeedbackClient(FeedbackJobProperties properties) {
+        this.stub = properties.getStub();
+        log.warn("Using stub LLM backend: latency={}, failureRate={}", stub.getLatency(), stub.getFailureRate());
+    }
+
+    @Override
+    public boolean isCacheable() {
+        return false;
+    }
+
+    @Override
+    public LlmFeedbackResult generate(LlmFeedbackRequest request) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long latency = stub.getLatency().toMillis();
+        // Dao động +-25% cho giống độ trễ thật
+        long jitter = latency > 0 ? random.nextLong(-latency / 4, latency / 4 + 1) : 0;
+        try {
+            Thread.sleep(Math.max(0, latency + jitter));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LlmBackendException("Interrupted", false, e);
+        }
+        if (stub.getFailureRate() > 0 && random.nextDouble() < stub.getFailureRate()) {
+            throw new LlmBackendException("Stub backend simulated failure", true);
+        }
+
+        String code = request.studentPlantUMLCode() == null ? "" : request.studentPlantUMLCode();
+        long lines = code.isBlank() ? 0 : code.lines().count();
+        String feedback = "[stub] " + request.typeUml() + " - bài làm có " + lines + " dòng PlantUML.";
+        return new LlmFeedbackResult(feedback, request.estimatedPromptTokens() + stub.getResponseTokens());
+    }
+}
@@ -0,0 +1,61 @@
+package com.submission_service.feedbackjob;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token bucket theo token LLM/phút. Worker xin trước theo số token ước lượng,
+ * sau khi có kết quả thì bù trừ theo số token thực tế (có thể làm số dư âm tạm thời).
+ */
+final class TokenRateLimiter {
+
+    private static final long MIN_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+
+    private final long capacity;
+    private final double refillPerNano;
+    private double available;
+    private long lastRefill;
+
+    TokenRateLimiter(long tokensPerMinute) {
+        this.capacity = tokensPerMinute;
+        this.refillPerNano = tokensPerMinute / (double) TimeUnit.MINUTES.toNanos(1);
+        this.available = tokensPerMinute;
+        this.lastRefill = System.nanoTime();
+    }
+
+    boolean unlimited() {
+        return capacity <= 0;
+    }
+
+    void acquire(long tokens) throws InterruptedException {
+        if (unlimited()) return;
+        // Yêu cầu lớn hơn cả bucket thì chỉ chờ đầy bucket, tránh treo vĩnh viễn
+        long need = Math.min(tokens, capacity);
+        while (true) {
+            long waitNanos;
+            synchronized (this) {
+                refill();
+                if (available >= need) {
+                    available -= need;
+                    return;
+                }
+                waitNanos = (long) ((need - available) / refillPerNano);
+            }
+            TimeUnit.NANOSECONDS.sleep(Math.max(waitNanos, MIN_WAIT_NANOS));
+        }
+    }
+
+    /**
+     * @param delta token thực tế - token đã xin; dương thì trừ thêm, âm thì hoàn lại
+     */
+    synchronized void adjust(long delta) {
+        if (unlimited() || delta == 0) return;
+        refill();
+        available = Math.min(capacity, available - delta);
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        available = Math.min(capacity, available + (now - lastRefill) * refillPerNano);
+        lastRefill = now;
+    }
+}
@@ -0,0 +1,100 @@
+package com.submission_service.feedbackjob;
+
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Iterator;
+
+/**
+ * Đọc sheet đầu tiên của file .xlsx theo kiểu SAX: mỗi dòng được đẩy ra callback rồi bỏ đi,
+ * không dựng DOM của cả workbook như WorkbookFactory. Chỉ bảng shared strings được giữ trong bộ nhớ.
+ */
+final class XlsxRowReader {
+
+    @FunctionalInterface
+    interface RowHandler {
+        /**
+         * @param cells giá trị đã format và trim của {@code columns} cột đầu, ô trống là ""
+         * @return false để dừng đọc sớm
+         */
+        boolean onRow(int rowNum, String[] cells);
+    }
+
+    private XlsxRowReader() {
+    }
+
+    static void read(Path file, int columns, RowHandler handler) throws IOException {
+        try (OPCPackage pkg = OPCPackage.open(file.toFile(), PackageAccess.READ)) {
+            XSSFReader reader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+            StylesTable styles = reader.getStylesTable();
+            Iterator<InputStream> sheets = reader.getSheetsData();
+            if (!sheets.hasNext()) return;
+
+            try (InputStream sheet = sheets.next()) {
+                XMLReader parser = XMLHelper.newXMLReader();
+                parser.setContentHandler(new XSSFSheetXMLHandler(
+                        styles, null, strings, new RowCollector(columns, handler), new DataFormatter(), false));
+                parser.parse(new InputSource(sheet));
+            } catch (StopReading ignored) {
+                // handler yêu cầu dừng
+            }
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new IOException("Invalid xlsx file: " + e.getMessage(), e);
+        }
+    }
+
+    private static final class StopReading extends RuntimeException {
+        StopReading() {
+            super(null, null, false, false);
+        }
+    }
+
+    private static final class RowCollector implements XSSFSheetXMLHandler.SheetContentsHandler {
+        private final RowHandler handler;
+        private final String[] cells;
+
+        RowCollector(int columns, RowHandler handler) {
+            this.handler = handler;
+            this.cells = new String[columns];
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            Arrays.fill(cells, "");
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            if (!handler.onRow(rowNum, cells)) {
+                throw new StopReading();
+            }
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            if (cellReference == null || formattedValue == null) return;
+            int col = new CellReference(cellReference).getCol();
+            if (col < cells.length) {
+                cells[col] = formattedValue.trim();
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.submission_service.grading;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.submission_service.model.event.GradingResultEvent;
+import com.submission_service.service.ISubmissionGradingService;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Nhận kết quả chấm từ ai-orchestration-service. Tách khỏi SubmissionGradingServiceImpl để lời gọi
+ * {@code handleResult} đi qua proxy transaction; lỗi (kể cả JSON sai) được ném ra cho error handler của Kafka
+ * thử lại/đẩy sang DLT.
+ */
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class GradingResultListener {
+
+    ISubmissionGradingService submissionGradingService;
+    ObjectMapper objectMapper;
+
+    @KafkaListener(topics = "${defty.grading.result-topic:uml_submission.processed}", groupId = "uml-consumer-group")
+    public void listenGradingResult(String message) throws JsonProcessingException {
+        submissionGradingService.handleResult(objectMapper.readValue(message, GradingResultEvent.class));
+    }
+}
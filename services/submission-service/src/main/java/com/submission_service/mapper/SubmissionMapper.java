@@ -1,5 +1,6 @@
 package com.submission_service.mapper;
 
+import com.submission_service.model.dto.projection.SubmissionSummary;
 import com.submission_service.model.dto.request.SubmissionRequest;
 import com.submission_service.model.dto.response.*;
 import com.submission_service.model.entity.Submission;
@@ -15,7 +16,7 @@ public interface SubmissionMapper {
     @Mapping(target = "studentName", expression = "java(getStudentName(user))")
     @Mapping(target = "assignmentTitle", expression = "java(getAssignmentTitle(assignment))")
     SubmissionResponse toSubmissionResponse(
-            Submission submission,
+            SubmissionSummary submission,
             @Context UserResponse user,
             @Context AssignmentResponse assignment,
             @Context ClassResponse classResponse
@@ -0,0 +1,46 @@
+package com.submission_service.metadata;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.submission_service.model.event.AssignmentChangedEvent;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Cache metadata nằm trong bộ nhớ từng replica nên mỗi replica dùng consumer group riêng (theo {@code defty.instance-id})
+ * để nhận mọi event thay đổi. Luôn đọc từ offset mới nhất: lúc khởi động cache đang rỗng, event cũ không còn gì để xoá.
+ * Message lỗi định dạng được ném ra cho error handler của container (sang DLT).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class AssignmentChangeListener implements ConsumerSeekAware {
+
+    AssignmentMetadataCache assignmentMetadataCache;
+    ObjectMapper objectMapper;
+
+    @KafkaListener(topics = "${defty.assignment-metadata.invalidation-topic:content.assignment.changed}",
+            groupId = "${spring.application.name}-metadata-${defty.instance-id}",
+            autoStartup = "${defty.assignment-metadata.enabled:true}",
+            properties = "auto.offset.reset=latest")
+    public void listenAssignmentChanged(String message) throws JsonProcessingException {
+        AssignmentChangedEvent event = objectMapper.readValue(message, AssignmentChangedEvent.class);
+        assignmentMetadataCache.invalidate(event);
+        log.debug("Invalidated assignment metadata for assignment {} / assignment class detail {}",
+                event.getAssignmentId(), event.getAssignmentClassDetailId());
+    }
+
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        callback.seekToEnd(assignments.keySet());
+    }
+}
@@ -0,0 +1,122 @@
+package com.submission_service.metadata;
+
+import com.example.common_library.exceptions.FeignClientException;
+import com.example.common_library.exceptions.NotFoundException;
+import com.submission_service.client.ContentServiceClient;
+import com.submission_service.enums.TypeUml;
+import com.submission_service.model.dto.response.AssignmentClassDetailResponse;
+import com.submission_service.model.event.AssignmentChangedEvent;
+import feign.FeignException;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Metadata assignment-class-detail (đề, đáp án, module) dùng khi nộp bài, theo (assignmentClassDetailId, typeUml, moduleId).
+ * - chỉ đổi khi giảng viên sửa đề: content-service gửi AssignmentChangedEvent thì xoá ngay, TTL ngắn phòng khi lỡ event
+ * - các request cùng lúc trượt cache chờ chung một lời gọi content-service (single-flight), kể cả lúc cả lớp nộp bài thi
+ * - gọi Feign trên thread của request vì interceptor cần header Authorization của request hiện tại
+ */
+@Component
+public class AssignmentMetadataCache {
+
+    private record Key(Long assignmentClassDetailId, TypeUml typeUml, Long moduleId) {
+    }
+
+    private record Entry(CompletableFuture<AssignmentClassDetailResponse> value, long expiresAt) {
+    }
+
+    private final ContentServiceClient contentServiceClient;
+    private final AssignmentMetadataProperties properties;
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    // Tăng mỗi lần invalidate: lời gọi bắt đầu trước đó có thể đã đọc dữ liệu cũ, không được giữ lại kết quả
+    private final AtomicLong generation = new AtomicLong();
+
+    public AssignmentMetadataCache(ContentServiceClient contentServiceClient, AssignmentMetadataProperties properties) {
+        this.contentServiceClient = contentServiceClient;
+        this.properties = properties;
+    }
+
+    public AssignmentClassDetailResponse get(Long assignmentClassDetailId, TypeUml typeUml, Long moduleId) {
+        if (!properties.isEnabled()) {
+            return fetch(assignmentClassDetailId, typeUml, moduleId);
+        }
+        Key key = new Key(assignmentClassDetailId, typeUml, moduleId);
+        long now = System.nanoTime();
+        Entry loading = new Entry(new CompletableFuture<>(), now + properties.getTtl().toNanos());
+        Entry entry = entries.compute(key, (k, existing) ->
+                existing != null && existing.expiresAt() - now > 0 ? existing : loading);
+        if (entry != loading) {
+            return await(entry.value());
+        }
+
+        if (entries.size() > properties.getMaxEntries()) {
+            entries.values().removeIf(e -> e.expiresAt() - now <= 0);
+        }
+        long startGeneration = generation.get();
+        try {
+            AssignmentClassDetailResponse detail = fetch(assignmentClassDetailId, typeUml, moduleId);
+            loading.value().complete(detail);
+            if (generation.get() != startGeneration) {
+                entries.remove(key, loading);
+            }
+            return detail;
+        } catch (RuntimeException e) {
+            // Không cache lỗi: request sau gọi lại content-service
+            entries.remove(key, loading);
+            loading.value().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Xoá metadata liên quan tới đề/assignment-class-detail vừa đổi; lần nộp tiếp theo đọc lại từ content-service.
+     */
+    public void invalidate(AssignmentChangedEvent event) {
+        generation.incrementAndGet();
+        entries.entrySet().removeIf(e -> matches(e.getKey(), e.getValue(), event));
+    }
+
+    private static boolean matches(Key key, Entry entry, AssignmentChangedEvent event) {
+        if (event.getAssignmentClassDetailId() != null && event.getAssignmentClassDetailId().equals(key.assignmentClassDetailId())) {
+            return true;
+        }
+        if (event.getAssignmentId() == null) {
+            return false;
+        }
+        CompletableFuture<AssignmentClassDetailResponse> value = entry.value();
+        // Đang tải thì đã bị chặn bởi generation ở get()
+        return value.isDone() && !value.isCompletedExceptionally()
+                && Objects.equals(event.getAssignmentId(), value.join().getAssignmentId());
+    }
+
+    private AssignmentClassDetailResponse fetch(Long assignmentClassDetailId, TypeUml typeUml, Long moduleId) {
+        AssignmentClassDetailResponse detail;
+        try {
+            detail = contentServiceClient.getAssignmentClassDetail(assignmentClassDetailId,
+                    typeUml != null ? typeUml.name() : null, moduleId).getResult();
+        } catch (FeignException e) {
+            throw new FeignClientException("Failed to fetch assignment");
+        }
+        if (detail == null) {
+            throw new NotFoundException("Assignment not found");
+        }
+        return detail;
+    }
+
+    private static AssignmentClassDetailResponse await(CompletableFuture<AssignmentClassDetailResponse> value) {
+        try {
+            return value.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.submission_service.metadata;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(AssignmentMetadataProperties.class)
+public class AssignmentMetadataConfig {
+}
@@ -0,0 +1,17 @@
+package com.submission_service.metadata;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "defty.assignment-metadata")
+public class AssignmentMetadataProperties {
+    private boolean enabled = true;
+    // TTL ngắn: chặn trên thời gian dùng dữ liệu cũ nếu lỡ mất event thay đổi từ content-service
+    private Duration ttl = Duration.ofMinutes(2);
+    private int maxEntries = 1_000;
+    // content-service publish AssignmentChangedEvent lên topic này sau mỗi lần sửa/xoá/bỏ giao đề
+    private String invalidationTopic = "content.assignment.changed";
+}
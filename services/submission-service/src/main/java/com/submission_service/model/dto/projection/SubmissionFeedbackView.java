@@ -0,0 +1,10 @@
+package com.submission_service.model.dto.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Nhận xét của giảng viên cho trang chi tiết, đọc bằng một câu select thay vì load collection
+ * {@code Submission.submissionFeedbacks} (mỗi phần tử lại kéo theo Submission của nó).
+ */
+public record SubmissionFeedbackView(Long id, Long userId, String content, LocalDateTime createdDate, LocalDateTime modifiedDate) {
+}
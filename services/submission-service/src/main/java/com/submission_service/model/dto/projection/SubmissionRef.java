@@ -0,0 +1,12 @@
+package com.submission_service.model.dto.projection;
+
+/**
+ * Các id cần để enrich một dòng submission (user, assignment, class), dùng chung cho entity và projection.
+ */
+public interface SubmissionRef {
+    Long getStudentId();
+
+    Long getAssignmentId();
+
+    Long getClassId();
+}
@@ -0,0 +1,9 @@
+package com.submission_service.model.dto.projection;
+
+import com.submission_service.enums.SubmissionStatus;
+
+/**
+ * Trạng thái chấm của một bài nộp, đủ để dựng {@code SubmissionStatusEvent} mà không load entity.
+ */
+public record SubmissionStatusView(Long id, Long studentId, SubmissionStatus submissionStatus, Double score) {
+}
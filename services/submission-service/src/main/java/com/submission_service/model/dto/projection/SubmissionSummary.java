@@ -0,0 +1,28 @@
+package com.submission_service.model.dto.projection;
+
+import com.submission_service.enums.SubmissionStatus;
+import com.submission_service.enums.TypeUml;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Một dòng của danh sách submission: chỉ các cột hiển thị, không có source PlantUML và không kéo theo
+ * feedbackLLM/studentReviewLLMFeedback như khi load entity.
+ */
+@Getter
+@AllArgsConstructor
+public class SubmissionSummary implements SubmissionRef {
+    Long id;
+    Long studentId;
+    Long assignmentId;
+    Long classId;
+    TypeUml typeUml;
+    Double score;
+    Double structuralSimilarity;
+    Long duplicateOfSubmissionId;
+    Double duplicateSimilarity;
+    SubmissionStatus submissionStatus;
+    LocalDateTime createdDate;
+}
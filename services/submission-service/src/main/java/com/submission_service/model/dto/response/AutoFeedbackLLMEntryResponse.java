@@ -1,5 +1,6 @@
 package com.submission_service.model.dto.response;
 
+import com.submission_service.enums.EntryStatus;
 import lombok.*;
 import lombok.experimental.FieldDefaults;
 
@@ -17,5 +18,8 @@ public class AutoFeedbackLLMEntryResponse {
     String studentPlantUMLCode;
     String feedBackLLM;
     String studentInfo;
+    EntryStatus entryStatus;
+    Integer attempts;
+    String lastError;
     LocalDateTime createdDate;
 }
@@ -0,0 +1,25 @@
+package com.submission_service.model.dto.response;
+
+import com.submission_service.enums.JobStatus;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class AutoFeedbackLLMJobProgressResponse {
+    Long jobId;
+    JobStatus jobStatus;
+    Integer totalEntries;
+    Integer processedEntries;
+    Integer failedEntries;
+    Integer remainingEntries;
+    Double percent;
+    LocalDateTime startedAt;
+    LocalDateTime finishedAt;
+}
@@ -1,5 +1,6 @@
 package com.submission_service.model.dto.response;
 
+import com.submission_service.enums.JobStatus;
 import com.submission_service.enums.TypeUml;
 import com.submission_service.model.entity.AutoFeedbackLLMEntry;
 import jakarta.persistence.*;
@@ -21,5 +22,9 @@ public class AutoFeedbackLLMJobResponse {
     TypeUml typeUml;
     String assignment;
     String solutionCode;
+    JobStatus jobStatus;
+    Integer totalEntries;
+    Integer processedEntries;
+    Integer failedEntries;
     LocalDateTime createdDate;
 }
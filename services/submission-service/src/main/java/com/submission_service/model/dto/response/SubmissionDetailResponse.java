@@ -27,6 +27,9 @@ public class SubmissionDetailResponse {
     String studentPlantUMLCode;
     String solutionCode;
     Double score;
+    Double structuralSimilarity;
+    Long duplicateOfSubmissionId;
+    Double duplicateSimilarity;
     List<SubmissionFeedbackResponse> submissionFeedbackResponse;
     LocalDateTime createdDate;
 }
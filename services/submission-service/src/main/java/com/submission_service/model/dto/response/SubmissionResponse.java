@@ -21,8 +21,11 @@ public class  SubmissionResponse {
     String studentName;
     String studentCode;
     String assignmentTitle;
-    String studentPlantUMLCode;
     TypeUml typeUml;
     Double score;
+    Double structuralSimilarity;
+    Long duplicateOfSubmissionId;
+    Double duplicateSimilarity;
+    SubmissionStatus submissionStatus;
     LocalDateTime createdDate;
 }
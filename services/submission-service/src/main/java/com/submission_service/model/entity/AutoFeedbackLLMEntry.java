@@ -1,5 +1,6 @@
 package com.submission_service.model.entity;
 
+import com.submission_service.enums.EntryStatus;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.FieldDefaults;
@@ -20,8 +21,17 @@ public class AutoFeedbackLLMEntry extends BaseEntity {
     @Column(columnDefinition = "TEXT")
     String feedBackLLM;
 
-//    @Enumerated(EnumType.STRING)
-//    EntryStatus status;
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entry_status")
+    EntryStatus entryStatus = EntryStatus.PENDING;
+
+    @Builder.Default
+    @Column
+    Integer attempts = 0;
+
+    @Column(columnDefinition = "TEXT")
+    String lastError;
 
     @Column(columnDefinition = "TEXT")
     String studentInfo;
@@ -1,10 +1,12 @@
 package com.submission_service.model.entity;
 
+import com.submission_service.enums.JobStatus;
 import com.submission_service.enums.TypeUml;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.FieldDefaults;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
@@ -29,8 +31,34 @@ public class AutoFeedbackLLMJob extends BaseEntity {
     @Column(columnDefinition = "TEXT")
     String solutionCode;
 
-//    @Enumerated(EnumType.STRING)
-//    JobStatus status;
+    // BaseEntity đã có cột status (soft state), trạng thái xử lý dùng cột riêng
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(name = "job_status")
+    JobStatus jobStatus = JobStatus.PENDING;
+
+    // Tiến độ: cộng dồn bằng câu update nguyên tử từ các worker
+    @Builder.Default
+    @Column
+    Integer totalEntries = 0;
+
+    @Builder.Default
+    @Column
+    Integer processedEntries = 0;
+
+    @Builder.Default
+    @Column
+    Integer failedEntries = 0;
+
+    // Replica đang nhập file cập nhật sau mỗi lô; dùng để nhận ra lần nhập bị bỏ dở
+    @Column
+    LocalDateTime importHeartbeatAt;
+
+    @Column
+    LocalDateTime startedAt;
+
+    @Column
+    LocalDateTime finishedAt;
 
     @Builder.Default
     @Column
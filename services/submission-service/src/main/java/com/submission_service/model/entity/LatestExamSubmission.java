@@ -0,0 +1,34 @@
+package com.submission_service.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.time.LocalDateTime;
+
+/**
+ * Bài nộp exam mode mới nhất của mỗi sinh viên trên một assignmentClassDetail, cập nhật cùng transaction
+ * với lúc lưu Submission. Không kế thừa BaseEntity: đây là bảng projection, khoá chính là bộ ba
+ * (classId, assignmentClassDetailId, studentId) nên đọc danh sách chỉ cần quét theo prefix của khoá.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@Table(name = "latest_exam_submission", indexes = {
+        @Index(name = "idx_latest_exam_submission_submitted_at", columnList = "class_id, assignment_class_detail_id, submitted_at")
+})
+public class LatestExamSubmission {
+
+    @EmbeddedId
+    LatestExamSubmissionId id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "submission_id", nullable = false)
+    Submission submission;
+
+    @Column(name = "submitted_at", nullable = false)
+    LocalDateTime submittedAt;
+}
@@ -0,0 +1,27 @@
+package com.submission_service.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.io.Serializable;
+
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class LatestExamSubmissionId implements Serializable {
+
+    @Column(name = "class_id")
+    Long classId;
+
+    @Column(name = "assignment_class_detail_id")
+    Long assignmentClassDetailId;
+
+    @Column(name = "student_id")
+    Long studentId;
+}
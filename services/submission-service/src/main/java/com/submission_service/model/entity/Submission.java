@@ -2,6 +2,7 @@ package com.submission_service.model.entity;
 
 import com.submission_service.enums.SubmissionStatus;
 import com.submission_service.enums.TypeUml;
+import com.submission_service.model.dto.projection.SubmissionRef;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.FieldDefaults;
@@ -15,7 +16,7 @@ import java.util.List;
 @Entity
 @Getter
 @Setter
-public class Submission extends BaseEntity {
+public class Submission extends BaseEntity implements SubmissionRef {
 
     @Column(nullable = false)
     Long studentId;
@@ -38,16 +39,39 @@ public class Submission extends BaseEntity {
     @Column
     Double score;
 
+    // Điểm tương đồng cấu trúc 0..100 với đáp án (UmlDiffEngine), có ngay lúc nộp, trước kết quả LLM
+    @Column
+    Double structuralSimilarity;
+
+    // SHA-256 của source đã chuẩn hoá (PlantUmlSource), bài trùng hash trên cùng đề dùng lại feedback
+    @Column(length = 64)
+    String normalizedHash;
+
+    // Khoá FeedbackCache (sơ đồ chuẩn hoá + đáp án + loại UML + prompt version), ghi lúc nộp để khi có kết quả chấm
+    // thì đưa feedback vào cache mà không cần lấy lại đáp án
+    @Column(length = 64)
+    String feedbackCacheKey;
+
+    // Bài gần trùng nhất của sinh viên khác lúc nộp (MinHash/LSH), null nếu không có
+    @Column
+    Long duplicateOfSubmissionId;
+
+    @Column
+    Double duplicateSimilarity;
+
     @Column
     @Builder.Default
     boolean examMode=false;
 
-    @Column(columnDefinition = "TEXT", nullable = false)
-    String studentPlantUMLCode;
+    // Source PlantUML ở bảng submission_content, chỉ load khi thực sự đọc code (chi tiết, render, chấm)
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL, optional = false, orphanRemoval = true)
+    @JoinColumn(name = "content_id", nullable = false, unique = true)
+    SubmissionContent content;
 
-//    @Builder.Default
-//    @Enumerated(EnumType.STRING)
-//    SubmissionStatus submissionStatus=SubmissionStatus.SUBMITTED;
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(name = "submission_status")
+    SubmissionStatus submissionStatus=SubmissionStatus.SUBMITTED;
 
     @OneToOne(mappedBy = "submission")
     private FeedbackLLM feedbackLLM;
@@ -58,4 +82,14 @@ public class Submission extends BaseEntity {
     @OneToMany(mappedBy = "submission", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     private List<SubmissionFeedback> submissionFeedbacks;
 
+    public String getStudentPlantUMLCode() {
+        return content != null ? content.getStudentPlantUMLCode() : null;
+    }
+
+    public void setStudentPlantUMLCode(String studentPlantUMLCode) {
+        if (content == null) {
+            content = new SubmissionContent();
+        }
+        content.setStudentPlantUMLCode(studentPlantUMLCode);
+    }
 }
@@ -0,0 +1,26 @@
+package com.submission_service.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Source PlantUML của bài nộp, tách khỏi bảng submission để các truy vấn danh sách không phải đọc cột TEXT lớn.
+ * PostgreSQL tự nén (TOAST) giá trị vượt ~2KB nên không nén thêm ở tầng ứng dụng.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@Table(name = "submission_content")
+public class SubmissionContent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    Long id;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    String studentPlantUMLCode;
+}
@@ -0,0 +1,18 @@
+package com.submission_service.model.event;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * content-service báo đề bài ({@code assignmentId}) hoặc một assignment-class-detail ({@code assignmentClassDetailId}) vừa đổi.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class AssignmentChangedEvent {
+    Long assignmentId;
+    Long assignmentClassDetailId;
+}
@@ -0,0 +1,37 @@
+package com.submission_service.model.event;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.util.Map;
+
+/**
+ * Kết quả chấm do ai-orchestration-service gửi về topic kết quả (uml_submission.processed), tương ứng một SubmissionEvent:
+ * {@code {submissionId, typeUmlName, status: success|failed, score, aiModelName, data, error}}.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class GradingResultEvent {
+    public static final String STATUS_SUCCESS = "success";
+
+    Long submissionId;
+    String typeUmlName;
+    String status;
+    Double score;
+    String aiModelName;
+    // Kết quả phân tích của grader, lưu nguyên làm feedback
+    Map<String, Object> data;
+    String error;
+
+    @JsonIgnore
+    public boolean isSuccess() {
+        return STATUS_SUCCESS.equals(status);
+    }
+}
@@ -13,10 +13,15 @@ import lombok.experimental.FieldDefaults;
 public class SubmissionEvent {
 
     Long id;
+    // Key của record Kafka: các bài cùng assignment vào cùng partition, grader cache được đề bài/lời giải
+    Long assignmentId;
+    Long assignmentClassDetailId;
     String accessToken;
     TypeUml typeUmlName;
     String contentAssignment;
     String solutionPlantUmlCode;
     String studentPlantUmlCode;
+    // Kết quả so sánh cấu trúc (0..100), grader có thể dùng làm gợi ý hoặc bỏ qua LLM khi đã khớp hoàn toàn
+    Double structuralSimilarity;
 
 }
@@ -0,0 +1,26 @@
+package com.submission_service.model.event;
+
+import com.submission_service.enums.SubmissionStatus;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.time.LocalDateTime;
+
+/**
+ * Trạng thái bài nộp vừa thay đổi (QUEUED, SCORED, FAILED, TIMED_OUT) hoặc vừa có feedback LLM.
+ * Publish qua topic push để mọi replica đẩy tới các phiên SSE đang mở của sinh viên.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class SubmissionStatusEvent {
+    Long submissionId;
+    Long studentId;
+    SubmissionStatus submissionStatus;
+    Double score;
+    boolean feedbackReady;
+    LocalDateTime occurredAt;
+}
@@ -0,0 +1,39 @@
+package com.submission_service.model.event;
+
+import com.submission_service.enums.TypeUml;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.time.LocalDateTime;
+
+/**
+ * Bài nộp đã kiểm tra xong, chờ flush xuống Postgres (write-behind trong đợt thi).
+ * Mang theo đề bài/đáp án để bắt đầu chấm sau khi flush mà không phải gọi lại content-service.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class SubmissionWriteEvent {
+    Long id;
+    Long contentId;
+    Long studentId;
+    Long classId;
+    Long moduleId;
+    Long assignmentClassDetailId;
+    Long assignmentId;
+    TypeUml typeUml;
+    boolean examMode;
+    String studentPlantUmlCode;
+    Double structuralSimilarity;
+    String normalizedHash;
+    String feedbackCacheKey;
+    Long duplicateOfSubmissionId;
+    Double duplicateSimilarity;
+    LocalDateTime createdDate;
+    String solutionCode;
+    String assignmentDescription;
+    String moduleDescription;
+}
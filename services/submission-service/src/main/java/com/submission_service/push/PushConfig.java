@@ -0,0 +1,9 @@
+package com.submission_service.push;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(PushProperties.class)
+public class PushConfig {
+}
@@ -0,0 +1,20 @@
+package com.submission_service.push;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "defty.push")
+public class PushProperties {
+    private boolean enabled = true;
+    // Topic fan-out trạng thái bài nộp, key = studentId; mỗi replica đọc toàn bộ topic
+    private String topic = "submission.status";
+    // Hết hạn thì client tự kết nối lại (EventSource làm việc này mặc định)
+    private Duration emitterTimeout = Duration.ofMinutes(30);
+    // Comment SSE định kỳ để proxy/gateway không cắt kết nối idle và để dọn kết nối đã chết
+    private Duration heartbeatInterval = Duration.ofSeconds(20);
+    // Quá số này thì đóng stream cũ nhất (tab bị reload mà kết nối cũ chưa kịp đóng)
+    private int maxStreamsPerStudent = 5;
+}
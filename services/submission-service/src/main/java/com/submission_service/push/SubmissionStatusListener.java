@@ -0,0 +1,43 @@
+package com.submission_service.push;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.submission_service.model.event.SubmissionStatusEvent;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Fan-out: mỗi replica dùng một consumer group riêng (theo {@code defty.instance-id}, giữ nguyên khi khởi động lại
+ * nên không để lại group mồ côi trên broker) nên nhận mọi event của topic push,
+ * rồi chỉ đẩy tới các stream đang mở trên chính nó. Luôn nhảy tới offset mới nhất khi được gán partition vì event cũ
+ * không còn ý nghĩa; client kết nối lại sẽ nhận trạng thái hiện tại từ {@code /submission/stream}.
+ * Message lỗi định dạng được ném ra cho error handler của container (sang DLT).
+ */
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class SubmissionStatusListener implements ConsumerSeekAware {
+
+    SubmissionStreamRegistry streamRegistry;
+    ObjectMapper objectMapper;
+
+    @KafkaListener(topics = "${defty.push.topic:submission.status}",
+            groupId = "${spring.application.name}-push-${defty.instance-id}",
+            autoStartup = "${defty.push.enabled:true}",
+            properties = "auto.offset.reset=latest")
+    public void listenStatus(String message) throws JsonProcessingException {
+        streamRegistry.deliver(objectMapper.readValue(message, SubmissionStatusEvent.class));
+    }
+
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        callback.seekToEnd(assignments.keySet());
+    }
+}
@@ -0,0 +1,77 @@
+package com.submission_service.push;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.submission_service.enums.SubmissionStatus;
+import com.submission_service.model.event.SubmissionStatusEvent;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * Báo trạng thái bài nộp lên topic push. Gọi trong transaction thì chỉ gửi sau khi commit,
+ * để client nhận event xong đọc lại DB luôn thấy dữ liệu mới; ngoài transaction (timer, callback Kafka) thì gửi ngay.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class SubmissionStatusPublisher {
+
+    ApplicationEventPublisher eventPublisher;
+    KafkaTemplate<String, Object> kafkaTemplate;
+    ObjectMapper objectMapper;
+    PushProperties pushProperties;
+
+    public void statusChanged(Long submissionId, Long studentId, SubmissionStatus status, Double score) {
+        publish(submissionId, studentId, status, score, status == SubmissionStatus.SCORED);
+    }
+
+    public void feedbackReady(Long submissionId, Long studentId, SubmissionStatus status, Double score) {
+        publish(submissionId, studentId, status, score, true);
+    }
+
+    private void publish(Long submissionId, Long studentId, SubmissionStatus status, Double score, boolean feedbackReady) {
+        if (!pushProperties.isEnabled() || studentId == null) {
+            return;
+        }
+        eventPublisher.publishEvent(SubmissionStatusEvent.builder()
+                .submissionId(submissionId)
+                .studentId(studentId)
+                .submissionStatus(status)
+                .score(score)
+                .feedbackReady(feedbackReady)
+                .occurredAt(LocalDateTime.now())
+                .build());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void send(SubmissionStatusEvent event) {
+        String message;
+        try {
+            message = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            log.error("Error serializing status event of submission {}: {}", event.getSubmissionId(), e.getMessage());
+            return;
+        }
+        // Push chỉ là thông báo: lỗi gửi không ảnh hưởng kết quả chấm, client vẫn đọc được trạng thái khi kết nối lại
+        try {
+            kafkaTemplate.send(pushProperties.getTopic(), String.valueOf(event.getStudentId()), message)
+                    .whenComplete((result, ex) -> {
+                        if (ex != null) {
+                            log.warn("Error pushing status of submission {}: {}", event.getSubmissionId(), ex.getMessage());
+                        }
+                    });
+        } catch (KafkaException e) {
+            log.warn("Error pushing status of submission {}: {}", event.getSubmissionId(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.submission_service.push;
+
+import com.submission_service.model.event.SubmissionStatusEvent;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+/**
+ * Các stream SSE đang mở trên replica này, theo studentId. Chỉ giữ kết nối cục bộ;
+ * event của replica khác tới qua {@link SubmissionStatusListener}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class SubmissionStreamRegistry {
+
+    public static final String EVENT_NAME = "submission-status";
+
+    PushProperties pushProperties;
+    TaskScheduler taskScheduler;
+    ConcurrentHashMap<Long, Deque<SseEmitter>> streams = new ConcurrentHashMap<>();
+
+    public SseEmitter open(Long studentId) {
+        SseEmitter emitter = new SseEmitter(pushProperties.getEmitterTimeout().toMillis());
+        emitter.onCompletion(() -> remove(studentId, emitter));
+        emitter.onTimeout(() -> remove(studentId, emitter));
+        emitter.onError(e -> remove(studentId, emitter));
+
+        List<SseEmitter> evicted = new ArrayList<>();
+        streams.compute(studentId, (id, current) -> {
+            Deque<SseEmitter> emitters = current != null ? current : new ConcurrentLinkedDeque<>();
+            emitters.addLast(emitter);
+            while (emitters.size() > pushProperties.getMaxStreamsPerStudent()) {
+                evicted.add(emitters.pollFirst());
+            }
+            return emitters;
+        });
+        evicted.forEach(SseEmitter::complete);
+        return emitter;
+    }
+
+    public void send(Long studentId, SseEmitter emitter, SubmissionStatusEvent event) {
+        send(studentId, emitter, SseEmitter.event()
+                .name(EVENT_NAME)
+                .id(String.valueOf(event.getSubmissionId()))
+                .data(event, MediaType.APPLICATION_JSON));
+    }
+
+    /**
+     * Đẩy event tới mọi stream của sinh viên trên replica này; không có stream nào thì bỏ qua.
+     */
+    public void deliver(SubmissionStatusEvent event) {
+        Deque<SseEmitter> emitters = streams.get(event.getStudentId());
+        if (emitters == null) {
+            return;
+        }
+        emitters.forEach(emitter -> send(event.getStudentId(), emitter, event));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void scheduleHeartbeat() {
+        taskScheduler.scheduleAtFixedRate(this::heartbeat, pushProperties.getHeartbeatInterval());
+    }
+
+    void heartbeat() {
+        streams.forEach((studentId, emitters) ->
+                emitters.forEach(emitter -> send(studentId, emitter, SseEmitter.event().comment("ping"))));
+    }
+
+    private void send(Long studentId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            // Client đã đóng kết nối: container sẽ gọi onError/onCompletion, gỡ luôn để không gửi lại
+            log.debug("Drop SSE stream of student {}: {}", studentId, e.getMessage());
+            remove(studentId, emitter);
+        }
+    }
+
+    private void remove(Long studentId, SseEmitter emitter) {
+        streams.computeIfPresent(studentId, (id, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+}
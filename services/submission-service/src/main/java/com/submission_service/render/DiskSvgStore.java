@@ -0,0 +1,54 @@
+package com.submission_service.render;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+
+/**
+ * Lưu mỗi SVG thành một file {@code <hash>.svg}, chia thư mục con theo 2 ký tự đầu của hash.
+ * Ghi ra file tạm rồi move để request khác không đọc phải file ghi dở.
+ */
+@Slf4j
+public class DiskSvgStore implements SvgStore {
+
+    private final Path root;
+
+    public DiskSvgStore(Path root) {
+        this.root = root;
+    }
+
+    @Override
+    public Optional<String> get(String key) {
+        try {
+            return Optional.of(Files.readString(path(key), StandardCharsets.UTF_8));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            log.warn("Disk SVG cache read failed for {}: {}", key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void put(String key, String svg) {
+        Path target = path(key);
+        try {
+            Files.createDirectories(target.getParent());
+            Path temp = Files.createTempFile(target.getParent(), key, ".tmp");
+            Files.writeString(temp, svg, StandardCharsets.UTF_8);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Disk SVG cache write failed for {}: {}", key, e.getMessage());
+        }
+    }
+
+    private Path path(String key) {
+        return root.resolve(key.substring(0, 2)).resolve(key + ".svg");
+    }
+}
@@ -0,0 +1,51 @@
+package com.submission_service.render;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * LRU theo thứ tự truy cập, giới hạn theo số phần tử và tổng số ký tự SVG.
+ */
+final class LruSvgCache {
+
+    private final int maxEntries;
+    private final long maxBytes;
+    private final LinkedHashMap<String, String> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long bytes;
+
+    LruSvgCache(int maxEntries, long maxBytes) {
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+    }
+
+    synchronized String get(String key) {
+        return entries.get(key);
+    }
+
+    synchronized void put(String key, String svg) {
+        long size = weight(svg);
+        // SVG lớn hơn cả ngân sách thì không giữ, tránh đẩy hết phần tử khác ra
+        if (size > maxBytes) return;
+        String previous = entries.put(key, svg);
+        if (previous != null) {
+            bytes -= weight(previous);
+        }
+        bytes += size;
+        Iterator<Map.Entry<String, String>> it = entries.entrySet().iterator();
+        while ((entries.size() > maxEntries || bytes > maxBytes) && it.hasNext()) {
+            Map.Entry<String, String> eldest = it.next();
+            bytes -= weight(eldest.getValue());
+            it.remove();
+        }
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private static long weight(String svg) {
+        // String Latin-1 (SVG chủ yếu ASCII) tốn ~1 byte/ký tự
+        return svg.length();
+    }
+}
@@ -0,0 +1,117 @@
+package com.submission_service.render;
+
+import com.example.common_library.exceptions.BadRequestException;
+import com.example.common_library.exceptions.ServiceUnavailableException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Render PlantUML -> SVG qua plantuml-server với cache 2 tầng theo hash của source đã chuẩn hoá:
+ * LRU trong bộ nhớ, sau đó {@link SvgStore} (Redis/disk). Nhiều request cùng source trong lúc
+ * đang render chỉ gọi plantuml-server một lần, các request sau chờ kết quả của lượt đầu.
+ */
+@Slf4j
+@Component
+public class PlantUmlRenderer {
+
+    private final RestTemplate restTemplate;
+    private final SvgStore svgStore;
+    private final RenderProperties properties;
+    private final LruSvgCache memoryCache;
+    private final ConcurrentHashMap<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+    public PlantUmlRenderer(RestTemplate restTemplate, SvgStore svgStore, RenderProperties properties) {
+        this.restTemplate = restTemplate;
+        this.svgStore = svgStore;
+        this.properties = properties;
+        this.memoryCache = new LruSvgCache(properties.getMemoryMaxEntries(), properties.getMemoryMaxBytes());
+    }
+
+    public RenderedDiagram render(String source) {
+        if (source == null || source.isBlank()) {
+            throw new BadRequestException("PlantUML source is empty");
+        }
+        if (source.length() > properties.getMaxSourceLength()) {
+            throw new BadRequestException("PlantUML source is too large");
+        }
+        String normalized = PlantUmlSource.normalize(source);
+        String key = PlantUmlSource.hash(normalized);
+
+        String svg = memoryCache.get(key);
+        if (svg != null) {
+            return new RenderedDiagram(key, svg);
+        }
+
+        CompletableFuture<String> mine = new CompletableFuture<>();
+        CompletableFuture<String> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            return new RenderedDiagram(key, await(running));
+        }
+        try {
+            svg = svgStore.get(key).orElse(null);
+            if (svg == null) {
+                svg = fetch(normalized);
+                svgStore.put(key, svg);
+            }
+            memoryCache.put(key, svg);
+            mine.complete(svg);
+            return new RenderedDiagram(key, svg);
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private String await(CompletableFuture<String> running) {
+        try {
+            return running.get(properties.getRenderTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Interrupted while waiting for diagram render");
+        } catch (TimeoutException e) {
+            throw new ServiceUnavailableException("Timed out waiting for diagram render");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw new ServiceUnavailableException("Diagram render failed");
+        }
+    }
+
+    private String fetch(String normalized) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.TEXT_PLAIN);
+        try {
+            long start = System.nanoTime();
+            String svg = restTemplate.postForObject(properties.getServerUrl(), new HttpEntity<>(normalized, headers), String.class);
+            log.debug("Rendered PlantUML diagram in {} ms", (System.nanoTime() - start) / 1_000_000);
+            if (svg == null || svg.isEmpty()) {
+                throw new ServiceUnavailableException("PlantUML server returned an empty diagram");
+            }
+            return svg;
+        } catch (HttpStatusCodeException e) {
+            // Lỗi cú pháp: plantuml-server trả 400 kèm SVG mô tả lỗi, vẫn là kết quả xác định nên được cache
+            String body = e.getResponseBodyAsString();
+            if (e.getStatusCode().is4xxClientError() && body.contains("<svg")) {
+                return body;
+            }
+            log.warn("PlantUML server responded {}: {}", e.getStatusCode(), e.getMessage());
+            throw new ServiceUnavailableException("PlantUML server is unavailable");
+        } catch (RestClientException e) {
+            log.warn("PlantUML server call failed: {}", e.getMessage());
+            throw new ServiceUnavailableException("PlantUML server is unavailable");
+        }
+    }
+}
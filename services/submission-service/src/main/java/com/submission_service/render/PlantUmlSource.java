@@ -0,0 +1,58 @@
+package com.submission_service.render;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Chuẩn hoá source PlantUML trước khi băm, để các bài chỉ khác nhau ở thụt lề, khoảng trắng cuối dòng,
+ * dòng trống hay comment {@code '...} dùng chung một bản render.
+ * Source gửi lên plantuml-server cũng là bản đã chuẩn hoá nên SVG luôn khớp với key.
+ */
+public final class PlantUmlSource {
+
+    private PlantUmlSource() {
+    }
+
+    public static String normalize(String source) {
+        if (source == null) return "";
+        StringBuilder sb = new StringBuilder(source.length());
+        boolean previousBlank = true;
+        boolean inBlockComment = false;
+        for (String raw : source.replace("\r\n", "\n").replace('\r', '\n').split("\n", -1)) {
+            String line = raw.strip();
+            if (inBlockComment) {
+                if (line.endsWith("'/")) inBlockComment = false;
+                continue;
+            }
+            if (line.startsWith("/'")) {
+                inBlockComment = !line.endsWith("'/") || line.length() < 4;
+                continue;
+            }
+            if (line.startsWith("'")) continue;
+            if (line.isEmpty()) {
+                // Gộp nhiều dòng trống liên tiếp thành một
+                if (previousBlank) continue;
+                previousBlank = true;
+            } else {
+                previousBlank = false;
+            }
+            sb.append(line).append('\n');
+        }
+        String body = sb.toString().strip();
+        if (!body.startsWith("@start")) {
+            body = "@startuml\n" + body + "\n@enduml";
+        }
+        return body + "\n";
+    }
+
+    public static String hash(String normalizedSource) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(normalizedSource.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
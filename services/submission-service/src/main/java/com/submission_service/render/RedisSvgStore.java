@@ -0,0 +1,43 @@
+package com.submission_service.render;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Dùng chung giữa các replica của submission-service.
+ */
+@Slf4j
+public class RedisSvgStore implements SvgStore {
+
+    private static final String PREFIX = "plantuml:svg:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+
+    public RedisSvgStore(StringRedisTemplate redisTemplate, Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public Optional<String> get(String key) {
+        try {
+            return Optional.ofNullable(redisTemplate.opsForValue().get(PREFIX + key));
+        } catch (Exception e) {
+            log.warn("Redis SVG cache read failed: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void put(String key, String svg) {
+        try {
+            redisTemplate.opsForValue().set(PREFIX + key, svg, ttl);
+        } catch (Exception e) {
+            log.warn("Redis SVG cache write failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.submission_service.render;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(RenderProperties.class)
+public class RenderConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "defty.render.store", havingValue = "redis", matchIfMissing = true)
+    public SvgStore redisSvgStore(StringRedisTemplate redisTemplate, RenderProperties properties) {
+        return new RedisSvgStore(redisTemplate, properties.getStoreTtl());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "defty.render.store", havingValue = "disk")
+    public SvgStore diskSvgStore(RenderProperties properties) {
+        Path root = Path.of(properties.getDiskDir()).toAbsolutePath();
+        log.info("PlantUML SVG disk cache at {}", root);
+        return new DiskSvgStore(root);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "defty.render.store", havingValue = "none")
+    public SvgStore noopSvgStore() {
+        return new SvgStore() {
+            @Override
+            public Optional<String> get(String key) {
+                return Optional.empty();
+            }
+
+            @Override
+            public void put(String key, String svg) {
+            }
+        };
+    }
+}
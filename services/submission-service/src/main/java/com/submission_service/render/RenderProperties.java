@@ -0,0 +1,23 @@
+package com.submission_service.render;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "defty.render")
+public class RenderProperties {
+    // Endpoint /svg của plantuml-server (POST text/plain)
+    private String serverUrl = "http://localhost:8091/svg";
+    // Tầng 1: LRU trong bộ nhớ, giới hạn cả số phần tử lẫn tổng dung lượng SVG
+    private int memoryMaxEntries = 512;
+    private long memoryMaxBytes = 32L * 1024 * 1024;
+    // Tầng 2: redis | disk | none
+    private String store = "redis";
+    private Duration storeTtl = Duration.ofDays(7);
+    private String diskDir = "./plantuml-cache";
+    // Request trùng source chờ lượt render đang chạy tối đa bao lâu
+    private Duration renderTimeout = Duration.ofSeconds(15);
+    private int maxSourceLength = 200_000;
+}
@@ -0,0 +1,7 @@
+package com.submission_service.render;
+
+/**
+ * @param hash SHA-256 của source đã chuẩn hoá, dùng làm ETag
+ */
+public record RenderedDiagram(String hash, String svg) {
+}
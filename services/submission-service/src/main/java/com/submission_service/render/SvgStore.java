@@ -0,0 +1,13 @@
+package com.submission_service.render;
+
+import java.util.Optional;
+
+/**
+ * Tầng cache thứ 2 (sau LRU trong bộ nhớ) cho SVG đã render, key là hash của source đã chuẩn hoá.
+ * Lỗi của store chỉ làm mất cache, không được làm hỏng request render.
+ */
+public interface SvgStore {
+    Optional<String> get(String key);
+
+    void put(String key, String svg);
+}
@@ -1,8 +1,57 @@
 package com.submission_service.repository;
 
+import com.submission_service.enums.EntryStatus;
 import com.submission_service.model.entity.AutoFeedbackLLMEntry;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
 
 public interface AutoFeedbackLLMEntryRepository extends JpaRepository<AutoFeedbackLLMEntry, Long>, JpaSpecificationExecutor<AutoFeedbackLLMEntry> {
+
+    /**
+     * Keyset theo id: mỗi trang bắt đầu sau id cuối của trang trước nên không bị trượt
+     * khi các entry vừa xử lý đổi trạng thái.
+     */
+    @Query("select e from AutoFeedbackLLMEntry e where e.autoFeedbackLLMJob.id = :jobId and e.entryStatus = :status " +
+            "and e.deleted = false and e.id > :afterId order by e.id")
+    List<AutoFeedbackLLMEntry> findPageByJobAndStatus(@Param("jobId") Long jobId,
+                                                     @Param("status") EntryStatus status,
+                                                     @Param("afterId") Long afterId,
+                                                     Pageable pageable);
+
+    /**
+     * Nhận entry để xử lý (PENDING -> RUNNING). Trả về 0 nếu worker khác đã nhận trước.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update AutoFeedbackLLMEntry e set e.entryStatus = com.submission_service.enums.EntryStatus.RUNNING " +
+            "where e.id = :id and e.entryStatus = com.submission_service.enums.EntryStatus.PENDING")
+    int claim(@Param("id") Long id);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update AutoFeedbackLLMEntry e set e.entryStatus = com.submission_service.enums.EntryStatus.DONE, " +
+            "e.feedBackLLM = :feedback, e.attempts = :attempts, e.lastError = null where e.id = :id")
+    int markDone(@Param("id") Long id, @Param("feedback") String feedback, @Param("attempts") int attempts);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update AutoFeedbackLLMEntry e set e.entryStatus = com.submission_service.enums.EntryStatus.FAILED, " +
+            "e.lastError = :error, e.attempts = :attempts where e.id = :id")
+    int markFailed(@Param("id") Long id, @Param("error") String error, @Param("attempts") int attempts);
+
+    /**
+     * Checkpoint recovery: entry đang RUNNING lúc service chết được trả về PENDING để chạy lại.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update AutoFeedbackLLMEntry e set e.entryStatus = com.submission_service.enums.EntryStatus.PENDING " +
+            "where e.entryStatus = com.submission_service.enums.EntryStatus.RUNNING")
+    int resetRunning();
 }
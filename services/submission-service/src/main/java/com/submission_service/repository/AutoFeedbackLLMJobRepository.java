@@ -1,9 +1,63 @@
 package com.submission_service.repository;
 
+import com.submission_service.enums.JobStatus;
 import com.submission_service.model.entity.AutoFeedbackLLMJob;
-import com.submission_service.model.entity.Submission;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 public interface AutoFeedbackLLMJobRepository extends JpaRepository<AutoFeedbackLLMJob,Long>, JpaSpecificationExecutor<AutoFeedbackLLMJob> {
+
+    @Query("select j.id from AutoFeedbackLLMJob j where j.jobStatus in :statuses and j.deleted = false order by j.id")
+    List<Long> findIdsByJobStatusIn(@Param("statuses") Collection<JobStatus> statuses);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update AutoFeedbackLLMJob j set j.jobStatus = :to where j.id = :id and j.jobStatus = :from")
+    int transitionJobStatus(@Param("id") Long id, @Param("from") JobStatus from, @Param("to") JobStatus to);
+
+    // Job IMPORTING không còn replica nào nhập (heartbeat quá hạn) -> IMPORT_FAILED
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update AutoFeedbackLLMJob j set j.jobStatus = com.submission_service.enums.JobStatus.IMPORT_FAILED " +
+            "where j.jobStatus = com.submission_service.enums.JobStatus.IMPORTING " +
+            "and (j.importHeartbeatAt is null or j.importHeartbeatAt < :before)")
+    int failStaleImports(@Param("before") LocalDateTime before);
+
+    // Trả về 0 nếu job không còn IMPORTING (đã bị đánh IMPORT_FAILED hoặc xoá): dừng nhập
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update AutoFeedbackLLMJob j set j.totalEntries = :total, j.importHeartbeatAt = :now " +
+            "where j.id = :id and j.jobStatus = com.submission_service.enums.JobStatus.IMPORTING")
+    int updateImportProgress(@Param("id") Long id, @Param("total") int total, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update AutoFeedbackLLMJob j set j.jobStatus = com.submission_service.enums.JobStatus.RUNNING, " +
+            "j.startedAt = coalesce(j.startedAt, :now) where j.id = :id")
+    int markRunning(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update AutoFeedbackLLMJob j set j.jobStatus = :status, j.finishedAt = :now where j.id = :id")
+    int markFinished(@Param("id") Long id, @Param("status") JobStatus status, @Param("now") LocalDateTime now);
+
+    // Cộng dồn nguyên tử ở DB: nhiều worker cùng cập nhật một job mà không mất lượt
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update AutoFeedbackLLMJob j set j.processedEntries = j.processedEntries + 1 where j.id = :id")
+    int incrementProcessed(@Param("id") Long id);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update AutoFeedbackLLMJob j set j.processedEntries = j.processedEntries + 1, " +
+            "j.failedEntries = j.failedEntries + 1 where j.id = :id")
+    int incrementFailed(@Param("id") Long id);
 }
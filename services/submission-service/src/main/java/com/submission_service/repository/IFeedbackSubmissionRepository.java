@@ -1,7 +1,17 @@
 package com.submission_service.repository;
 
+import com.submission_service.model.dto.projection.SubmissionFeedbackView;
 import com.submission_service.model.entity.SubmissionFeedback;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface IFeedbackSubmissionRepository extends JpaRepository<SubmissionFeedback,Long> {
+
+    @Query("select new com.submission_service.model.dto.projection.SubmissionFeedbackView(" +
+            "f.id, f.userId, f.content, f.createdDate, f.modifiedDate) " +
+            "from SubmissionFeedback f where f.submission.id = :submissionId order by f.createdDate, f.id")
+    List<SubmissionFeedbackView> findViewsBySubmissionId(@Param("submissionId") Long submissionId);
 }
@@ -0,0 +1,53 @@
+package com.submission_service.repository;
+
+import com.submission_service.model.dto.projection.SubmissionSummary;
+import com.submission_service.model.entity.LatestExamSubmission;
+import com.submission_service.model.entity.LatestExamSubmissionId;
+import com.submission_service.model.entity.Submission;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface ILatestExamSubmissionRepository extends JpaRepository<LatestExamSubmission, LatestExamSubmissionId> {
+
+    /**
+     * Ghi nhận bài exam mode vừa lưu. Chạy trong transaction của câu insert Submission; so sánh theo (thời điểm nộp, id)
+     * để request đến trễ không ghi đè bài mới hơn. Không so riêng id: bài ghi qua topic đệm lấy id theo khối ở từng replica.
+     */
+    String UPSERT_SQL = "insert into latest_exam_submission (class_id, assignment_class_detail_id, student_id, submission_id, submitted_at) " +
+            "values (:classId, :assignmentClassDetailId, :studentId, :submissionId, :submittedAt) " +
+            "on conflict (class_id, assignment_class_detail_id, student_id) do update " +
+            "set submission_id = excluded.submission_id, submitted_at = excluded.submitted_at " +
+            "where (latest_exam_submission.submitted_at, latest_exam_submission.submission_id) " +
+            "< (excluded.submitted_at, excluded.submission_id)";
+
+    @Modifying
+    @Query(value = UPSERT_SQL, nativeQuery = true)
+    int upsert(@Param("classId") Long classId,
+               @Param("assignmentClassDetailId") Long assignmentClassDetailId,
+               @Param("studentId") Long studentId,
+               @Param("submissionId") Long submissionId,
+               @Param("submittedAt") LocalDateTime submittedAt);
+
+    @EntityGraph(attributePaths = {"content", "feedbackLLM", "studentReviewLLMFeedback"})
+    @Query("select s from Submission s where s.id = (select l.submission.id from LatestExamSubmission l where l.id = :id)")
+    Optional<Submission> findSubmission(@Param("id") LatestExamSubmissionId id);
+
+    @Query(value = "select new com.submission_service.model.dto.projection.SubmissionSummary(" +
+            "s.id, s.studentId, s.assignmentId, s.classId, s.typeUml, s.score, s.structuralSimilarity, " +
+            "s.duplicateOfSubmissionId, s.duplicateSimilarity, s.submissionStatus, s.createdDate) " +
+            "from LatestExamSubmission l join l.submission s " +
+            "where l.id.classId = :classId and l.id.assignmentClassDetailId = :assignmentClassDetailId",
+            countQuery = "select count(l) from LatestExamSubmission l " +
+                    "where l.id.classId = :classId and l.id.assignmentClassDetailId = :assignmentClassDetailId")
+    Page<SubmissionSummary> findSummaries(@Param("classId") Long classId,
+                                     @Param("assignmentClassDetailId") Long assignmentClassDetailId,
+                                     Pageable pageable);
+}
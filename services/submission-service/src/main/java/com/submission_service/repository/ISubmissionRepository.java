@@ -1,18 +1,75 @@
 package com.submission_service.repository;
 
+import com.submission_service.enums.SubmissionStatus;
+import com.submission_service.model.dto.projection.SubmissionStatusView;
 import com.submission_service.model.dto.response.SubmissionResponse;
 import com.submission_service.model.entity.Submission;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
-public interface ISubmissionRepository extends JpaRepository<Submission, Long>, JpaSpecificationExecutor<Submission> {
+public interface ISubmissionRepository extends JpaRepository<Submission, Long>, JpaSpecificationExecutor<Submission>,
+        SubmissionSummaryRepository {
+
+    /**
+     * Projection chỉ gồm các cột cần để dựng index gần trùng, tránh load feedback và các quan hệ khác.
+     */
+    interface SubmissionCodeView {
+        Long getId();
+        Long getStudentId();
+        String getStudentPlantUMLCode();
+    }
+
     Optional<Submission> findByIdAndStatus(Long id, Integer status);
-    Optional<Submission> findTopByClassIdAndAssignmentClassDetailIdAndStudentIdAndExamModeOrderByCreatedDateDesc(
-            Long classId, Long assignmentClassDetailId, Long studentId, Boolean examMode);
 
-}
+    /**
+     * Trang chi tiết: một câu join lấy luôn source và hai quan hệ one-to-one phía mappedBy (Hibernate không load
+     * lười được, nếu không join sẽ thành hai câu select riêng). Nhận xét giảng viên đọc riêng bằng projection.
+     */
+    @EntityGraph(attributePaths = {"content", "feedbackLLM", "studentReviewLLMFeedback"})
+    @Query("select s from Submission s where s.id = :id and s.status = 1")
+    Optional<Submission> findDetailById(@Param("id") Long id);
+
+    /**
+     * Chuyển trạng thái có điều kiện (compare-and-set): trả về 0 nếu trạng thái hiện tại không thuộc {@code from}.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Submission s set s.submissionStatus = :to where s.id = :id and s.submissionStatus in :from")
+    int transitionStatus(@Param("id") Long id,
+                         @Param("from") Collection<SubmissionStatus> from,
+                         @Param("to") SubmissionStatus to);
 
+    @Query("select new com.submission_service.model.dto.projection.SubmissionStatusView(s.id, s.studentId, s.submissionStatus, s.score) " +
+            "from Submission s where s.id = :id and s.status = 1")
+    Optional<SubmissionStatusView> findStatusViewById(@Param("id") Long id);
+
+    /**
+     * Bài còn ở trạng thái {@code from} từ trước {@code before}; quét timeout chuyển từng bài để báo được cho sinh viên.
+     */
+    @Query("select new com.submission_service.model.dto.projection.SubmissionStatusView(s.id, s.studentId, s.submissionStatus, s.score) " +
+            "from Submission s where s.submissionStatus in :from and s.createdDate < :before")
+    List<SubmissionStatusView> findStatusViewsCreatedBefore(@Param("from") Collection<SubmissionStatus> from,
+                                                            @Param("before") LocalDateTime before);
+
+    @Query("select s.id as id, s.studentId as studentId, c.studentPlantUMLCode as studentPlantUMLCode " +
+            "from Submission s join s.content c where s.assignmentClassDetailId = :assignmentClassDetailId and s.status = 1")
+    List<SubmissionCodeView> findCodesByAssignmentClassDetailId(@Param("assignmentClassDetailId") Long assignmentClassDetailId);
+
+    /**
+     * Bài đã chấm gần nhất có cùng khoá FeedbackCache, dùng khi cache Redis đã hết hạn hoặc bị xoá.
+     */
+    Optional<Submission> findTopByFeedbackCacheKeyAndSubmissionStatusAndIdNotOrderByIdDesc(
+            String feedbackCacheKey, SubmissionStatus submissionStatus, Long id);
+}
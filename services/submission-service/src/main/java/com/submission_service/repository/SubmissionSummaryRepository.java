@@ -0,0 +1,15 @@
+package com.submission_service.repository;
+
+import com.submission_service.model.dto.projection.SubmissionSummary;
+import com.submission_service.model.entity.Submission;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface SubmissionSummaryRepository {
+
+    /**
+     * Như {@code findAll(spec, pageable)} nhưng select thẳng {@link SubmissionSummary} thay vì entity.
+     */
+    Page<SubmissionSummary> findSummaries(Specification<Submission> spec, Pageable pageable);
+}
@@ -0,0 +1,67 @@
+package com.submission_service.repository;
+
+import com.submission_service.model.dto.projection.SubmissionSummary;
+import com.submission_service.model.entity.Submission;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+
+public class SubmissionSummaryRepositoryImpl implements SubmissionSummaryRepository {
+
+    private final EntityManager entityManager;
+
+    public SubmissionSummaryRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Page<SubmissionSummary> findSummaries(Specification<Submission> spec, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<SubmissionSummary> query = cb.createQuery(SubmissionSummary.class);
+        Root<Submission> root = query.from(Submission.class);
+        query.select(cb.construct(SubmissionSummary.class,
+                root.get("id"),
+                root.get("studentId"),
+                root.get("assignmentId"),
+                root.get("classId"),
+                root.get("typeUml"),
+                root.get("score"),
+                root.get("structuralSimilarity"),
+                root.get("duplicateOfSubmissionId"),
+                root.get("duplicateSimilarity"),
+                root.get("submissionStatus"),
+                root.get("createdDate")));
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        List<SubmissionSummary> content = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(spec));
+    }
+
+    private long count(Specification<Submission> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Submission> root = query.from(Submission.class);
+        query.select(cb.count(root));
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
@@ -1,8 +1,6 @@
 package com.submission_service.repository.specification;
 
 import com.submission_service.model.entity.Submission;
-import jakarta.persistence.criteria.Root;
-import jakarta.persistence.criteria.Subquery;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDateTime;
@@ -88,26 +86,6 @@ public class SubmissionSpecification {
         };
     }
 
-    public static Specification<Submission> isLatestSubmissionPerWithExamMode() {
-        return (root, query, cb) -> {
-            Subquery<LocalDateTime> subquery = query.subquery(LocalDateTime.class);
-            Root<Submission> subRoot = subquery.from(Submission.class);
-
-            subquery.select(cb.greatest(subRoot.get("createdDate").as(LocalDateTime.class)))
-                    .where(
-                            cb.equal(subRoot.get("studentId"), root.get("studentId")),
-                            cb.equal(subRoot.get("classId"), root.get("classId")),
-                            cb.equal(subRoot.get("assignmentClassDetailId"), root.get("assignmentClassDetailId")),
-                            cb.equal(subRoot.get("examMode"), true)
-                    );
-
-            return cb.and(
-                    cb.equal(root.get("createdDate"), subquery),
-                    cb.equal(root.get("examMode"), true)
-            );
-        };
-    }
-
     public static Specification<Submission> hasExamMode(Boolean examMode) {
         return (root, query, cb) -> {
             if (examMode == null) {
@@ -2,6 +2,7 @@ package com.submission_service.service;
 
 import com.submission_service.enums.TypeUml;
 import com.submission_service.model.dto.response.AutoFeedbackLLMJobDetailResponse;
+import com.submission_service.model.dto.response.AutoFeedbackLLMJobProgressResponse;
 import com.submission_service.model.dto.response.AutoFeedbackLLMJobResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.web.multipart.MultipartFile;
@@ -13,5 +14,6 @@ public interface AutoFeedbackLLMJobService {
     Long handaleAutoFeedbackLLMJob(MultipartFile file);
     Page<AutoFeedbackLLMJobResponse> getAutoFeedbackLLMJobs(String title, TypeUml typeUml, LocalDateTime fromDate, LocalDateTime toDate, int page, int size, String sortBy, String sortOrder);
     AutoFeedbackLLMJobDetailResponse getAutoFeedbackLLMJobDetail(Long jobId);
+    AutoFeedbackLLMJobProgressResponse getAutoFeedbackLLMJobProgress(Long jobId);
     String deleteAutoFeedbackLLMJobs(List<Long> jobIds);
 }
@@ -0,0 +1,10 @@
+package com.submission_service.service;
+
+import com.submission_service.enums.TypeUml;
+import com.submission_service.render.RenderedDiagram;
+
+public interface DiagramService {
+    RenderedDiagram renderSource(String plantUmlCode);
+    RenderedDiagram renderSubmission(Long submissionId);
+    RenderedDiagram renderSolution(Long moduleId, TypeUml typeUml, Long assignmentId);
+}
@@ -1,5 +1,5 @@
 package com.submission_service.service;
 
 public interface IActionScheduler {
-    void checkSubmissionStatus(Long submissionId);
+    void checkSubmissionStatus(Long submissionId, Long studentId);
 }
@@ -0,0 +1,16 @@
+package com.submission_service.service;
+
+import com.submission_service.model.dto.response.AssignmentClassDetailResponse;
+import com.submission_service.model.entity.Submission;
+import com.submission_service.model.event.GradingResultEvent;
+
+public interface ISubmissionGradingService {
+    void dispatch(Submission submission, AssignmentClassDetailResponse assignmentClassDetail);
+
+    void handleResult(GradingResultEvent result);
+
+    /**
+     * Chấm ngay bằng feedback của bài đã chấm có cùng sơ đồ chuẩn hoá; trả về false nếu không có bài nào để dùng lại.
+     */
+    boolean reuseFeedback(Submission submission);
+}
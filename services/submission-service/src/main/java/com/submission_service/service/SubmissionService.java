@@ -5,6 +5,7 @@ import com.submission_service.model.dto.response.AssignmentClassDetailResponse;
 import com.submission_service.model.dto.response.LastSubmissionResonse;
 import com.submission_service.model.dto.response.SubmissionDetailResponse;
 import com.submission_service.model.dto.response.SubmissionResponse;
+import com.submission_service.umldiff.UmlDiffResult;
 import org.springframework.data.domain.Page;
 
 import java.time.LocalDateTime;
@@ -14,6 +15,7 @@ public interface SubmissionService {
     Page<SubmissionResponse> getSubmissions(int page, int size, String sortBy, String sortOrder, Long studentId,Long assignmentId, Long classId, LocalDateTime fromDate, LocalDateTime toDate);
     SubmissionDetailResponse getSubmission(Long id);
     String addScoreSubmission(Long id, Double point);
+    UmlDiffResult getStructuralDiff(Long id);
     LastSubmissionResonse getLastSubmissionsExamMode(Long classId, Long assignmentClassDetailId);
     Page<SubmissionResponse> getLastSubmissionsExamModes(int page, int size, String sortBy, String sortOrder, Long classId, Long assignmentClassDetailId);
     Page<SubmissionResponse> getSubmissionsHistoryExerciseMode(int page, int size, String sortBy, String sortOrder, Long classId, Long assignmentId, Long studentId, Long moduleId, Boolean examMode);
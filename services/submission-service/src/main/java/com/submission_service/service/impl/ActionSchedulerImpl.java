@@ -1,7 +1,9 @@
 package com.submission_service.service.impl;
 
-import com.example.common_library.exceptions.NotFoundException;
-import com.submission_service.model.entity.Submission;
+import com.submission_service.config.GradingProperties;
+import com.submission_service.enums.SubmissionStatus;
+import com.submission_service.model.dto.projection.SubmissionStatusView;
+import com.submission_service.push.SubmissionStatusPublisher;
 import com.submission_service.repository.ISubmissionRepository;
 import com.submission_service.service.IActionScheduler;
 import lombok.AccessLevel;
@@ -9,11 +11,17 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
 
+@Slf4j
 @Getter
 @Setter
 @RequiredArgsConstructor
@@ -22,17 +30,51 @@ import java.time.Instant;
 public class ActionSchedulerImpl implements IActionScheduler {
     TaskScheduler taskScheduler;
     ISubmissionRepository submissionRepository;
+    GradingProperties gradingProperties;
+    SubmissionStatusPublisher statusPublisher;
 
-    public void checkSubmissionStatus(Long submissionId) {
-//        taskScheduler.schedule(
-//                () -> {
-//                    Submission submission = submissionRepository.findById(submissionId).orElseThrow(()-> new NotFoundException("Submission not found"));
-//                    if (submission.getSubmissionStatus().toString().equals("PROCESSING")) {
-//                        submission.setSubmissionStatus(com.submission_service.enums.SubmissionStatus.FAILED);
-//                        submissionRepository.save(submission);
-//                    }
-//                },
-//                Instant.now().plusSeconds(120)
-//        );
+    /**
+     * Hẹn giờ: nếu sau {@code defty.grading.timeout} bài vẫn chưa có kết quả thì chuyển TIMED_OUT.
+     * Update có điều kiện nên không ghi đè bài đã SCORED/FAILED.
+     */
+    public void checkSubmissionStatus(Long submissionId, Long studentId) {
+        taskScheduler.schedule(
+                () -> timeOut(submissionId, studentId),
+                Instant.now().plus(gradingProperties.getTimeout())
+        );
+    }
+
+    /**
+     * Timer ở trên nằm trong bộ nhớ, mất khi restart; quét định kỳ để xử lý các bài bị bỏ sót.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void scheduleStuckSubmissionSweep() {
+        taskScheduler.scheduleWithFixedDelay(this::timeOutStuckSubmissions, gradingProperties.getSweepInterval());
+    }
+
+    void timeOutStuckSubmissions() {
+        try {
+            // Bài kẹt hiếm, chuyển từng bài (vẫn compare-and-set) để báo được cho đúng sinh viên
+            List<SubmissionStatusView> stuck = submissionRepository.findStatusViewsCreatedBefore(
+                    SubmissionStatus.sourcesOf(SubmissionStatus.TIMED_OUT),
+                    LocalDateTime.now().minus(gradingProperties.getTimeout()));
+            long updated = stuck.stream().filter(view -> timeOut(view.id(), view.studentId())).count();
+            if (updated > 0) {
+                log.warn("Timed out {} stuck submissions", updated);
+            }
+        } catch (RuntimeException e) {
+            log.error("Error sweeping stuck submissions: {}", e.getMessage());
+        }
+    }
+
+    private boolean timeOut(Long submissionId, Long studentId) {
+        int updated = submissionRepository.transitionStatus(submissionId,
+                SubmissionStatus.sourcesOf(SubmissionStatus.TIMED_OUT), SubmissionStatus.TIMED_OUT);
+        if (updated == 0) {
+            return false;
+        }
+        log.warn("Submission {} timed out waiting for grading", submissionId);
+        statusPublisher.statusChanged(submissionId, studentId, SubmissionStatus.TIMED_OUT, null);
+        return true;
     }
 }
@@ -1,10 +1,12 @@
 package com.submission_service.service.impl;
 
 import com.example.common_library.exceptions.NotFoundException;
+import com.submission_service.feedbackjob.FeedbackJobImporter;
 import com.submission_service.mapper.AutoFeedbackLLMEntryMapper;
 import com.submission_service.mapper.AutoFeedbackLLMJobMapper;
 import com.submission_service.model.dto.response.AutoFeedbackLLMEntryResponse;
 import com.submission_service.model.dto.response.AutoFeedbackLLMJobDetailResponse;
+import com.submission_service.model.dto.response.AutoFeedbackLLMJobProgressResponse;
 import com.submission_service.model.dto.response.AutoFeedbackLLMJobResponse;
 import com.submission_service.model.entity.AutoFeedbackLLMEntry;
 import com.submission_service.model.entity.AutoFeedbackLLMJob;
@@ -16,7 +18,6 @@ import com.submission_service.service.AutoFeedbackLLMJobService;
 import lombok.*;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.poi.ss.usermodel.*;
 import org.springframework.data.domain.*;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
@@ -36,84 +37,19 @@ public class AutoFeedbackLLMJobServiceImpl implements AutoFeedbackLLMJobService
     AutoFeedbackLLMEntryRepository autoFeedbackLLMEntryRepository;
     AutoFeedbackLLMJobMapper autoFeedbackLLMJobMapper;
     AutoFeedbackLLMEntryMapper autoFeedbackLLMEntryMapper;
+    FeedbackJobImporter feedbackJobImporter;
 
     @Override
     public Long handaleAutoFeedbackLLMJob(MultipartFile file) {
-        try (Workbook workbook = WorkbookFactory.create(file.getInputStream())) {
-            Sheet sheet = workbook.getSheetAt(0);
-
-            // Đọc metadata job
-            Map<String, String> meta = new LinkedHashMap<>();
-            for (int i = 0; i < 4; i++) {
-                Row row = sheet.getRow(i);
-                if (row == null) continue;
-                Cell key = row.getCell(0);
-                Cell value = row.getCell(1);
-                if (key != null && value != null) {
-                    meta.put(key.getStringCellValue().trim(), value.toString().trim());
-                }
-            }
-
-            AutoFeedbackLLMJob job = AutoFeedbackLLMJob.builder()
-                    .title(meta.getOrDefault("Title", "Untitled"))
-                    .assignment(meta.getOrDefault("Assignment", ""))
-                    .solutionCode(meta.getOrDefault("Solution Code", ""))
-                    .typeUml(parseType(meta.get("Type UML")))
-                    .build();
-
-            autoFeedbackLLMJobRepository.save(job);
-            log.info("Saved AutoFeedbackLLMJob to DB: id={}, title={}", job.getId(), job.getTitle());
-
-            // Đọc entries và lưu DB
-            int count = 0;
-            for (int i = 6; i <= sheet.getLastRowNum(); i++) {
-                Row row = sheet.getRow(i);
-                if (row == null) continue;
-
-                String studentInfo = getCell(row, 0);
-                String plantUMLCode = getCell(row, 1);
-
-                if (plantUMLCode.isBlank() && studentInfo.isBlank()) continue;
-
-                AutoFeedbackLLMEntry entry = AutoFeedbackLLMEntry.builder()
-                        .autoFeedbackLLMJob(job)
-                        .studentPlantUMLCode(plantUMLCode)
-                        .studentInfo(studentInfo)
-                        .build();
-
-                autoFeedbackLLMEntryRepository.save(entry);
-                count++;
-            }
-
-            log.info("Saved {} entries to DB for job id={}", count, job.getId());
-            return job.getId();
-
+        try {
+            // Trả id ngay sau khi tạo job; entries được nhập ở thread nền rồi tự chuyển cho engine
+            return feedbackJobImporter.start(file);
         } catch (IOException e) {
             log.error("Error reading Excel file: {}", e.getMessage());
             throw new RuntimeException("Failed to read Excel file", e);
         }
     }
 
-    private String getCell(Row row, int index) {
-        try {
-            Cell cell = row.getCell(index);
-            if (cell == null) return "";
-            cell.setCellType(CellType.STRING);
-            return cell.getStringCellValue().trim();
-        } catch (Exception e) {
-            return "";
-        }
-    }
-
-    private TypeUml parseType(String type) {
-        if (type == null) return TypeUml.USE_CASE_DIAGRAM;
-        try {
-            return TypeUml.valueOf(type.toUpperCase());
-        } catch (Exception e) {
-            return TypeUml.USE_CASE_DIAGRAM;
-        }
-    }
-
     @Override
     public Page<AutoFeedbackLLMJobResponse> getAutoFeedbackLLMJobs(
             String title, TypeUml typeUml, LocalDateTime fromDate, LocalDateTime toDate,
@@ -161,6 +97,30 @@ public class AutoFeedbackLLMJobServiceImpl implements AutoFeedbackLLMJobService
         return response;
     }
 
+    @Override
+    public AutoFeedbackLLMJobProgressResponse getAutoFeedbackLLMJobProgress(Long jobId) {
+        AutoFeedbackLLMJob job = autoFeedbackLLMJobRepository.findById(jobId)
+                .filter(j -> !Boolean.TRUE.equals(j.getDeleted()))
+                .orElseThrow(() -> new NotFoundException("AutoFeedbackLLMJob not found with id: " + jobId));
+
+        int total = Objects.requireNonNullElse(job.getTotalEntries(), 0);
+        int processed = Objects.requireNonNullElse(job.getProcessedEntries(), 0);
+        int failed = Objects.requireNonNullElse(job.getFailedEntries(), 0);
+        double percent = total == 0 ? 100.0 : Math.min(100.0, processed * 100.0 / total);
+
+        return AutoFeedbackLLMJobProgressResponse.builder()
+                .jobId(job.getId())
+                .jobStatus(job.getJobStatus())
+                .totalEntries(total)
+                .processedEntries(processed)
+                .failedEntries(failed)
+                .remainingEntries(Math.max(0, total - processed))
+                .percent(Math.round(percent * 10) / 10.0)
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+
     @Override
     public String deleteAutoFeedbackLLMJobs(List<Long> jobIds) {
         List<AutoFeedbackLLMJob> jobs = autoFeedbackLLMJobRepository.findAllById(jobIds);
@@ -0,0 +1,55 @@
+package com.submission_service.service.impl;
+
+import com.example.common_library.exceptions.FeignClientException;
+import com.example.common_library.exceptions.NotFoundException;
+import com.submission_service.client.ContentServiceClient;
+import com.submission_service.enums.TypeUml;
+import com.submission_service.model.dto.response.ModuleSolutionDetailResponse;
+import com.submission_service.model.entity.Submission;
+import com.submission_service.render.PlantUmlRenderer;
+import com.submission_service.render.RenderedDiagram;
+import com.submission_service.repository.ISubmissionRepository;
+import com.submission_service.service.DiagramService;
+import feign.FeignException;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class DiagramServiceImpl implements DiagramService {
+
+    PlantUmlRenderer plantUmlRenderer;
+    ISubmissionRepository submissionRepository;
+    ContentServiceClient contentServiceClient;
+
+    @Override
+    public RenderedDiagram renderSource(String plantUmlCode) {
+        return plantUmlRenderer.render(plantUmlCode);
+    }
+
+    @Override
+    public RenderedDiagram renderSubmission(Long submissionId) {
+        Submission submission = submissionRepository.findById(submissionId)
+                .orElseThrow(() -> new NotFoundException("Submission not found with ID: " + submissionId));
+        return plantUmlRenderer.render(submission.getStudentPlantUMLCode());
+    }
+
+    @Override
+    public RenderedDiagram renderSolution(Long moduleId, TypeUml typeUml, Long assignmentId) {
+        ModuleSolutionDetailResponse solution;
+        try {
+            solution = contentServiceClient.getModuleSolution(moduleId, typeUml == null ? null : typeUml.name(), assignmentId).getResult();
+        } catch (FeignException e) {
+            throw new FeignClientException("Failed to fetch module solution");
+        }
+        if (solution == null || solution.getSolutionCode() == null) {
+            throw new NotFoundException("Module solution not found for module ID: " + moduleId);
+        }
+        return plantUmlRenderer.render(solution.getSolutionCode());
+    }
+}
@@ -6,6 +6,7 @@ import com.submission_service.model.dto.request.FeedbackLLMRequest;
 import com.submission_service.model.dto.response.FeedbackLLMResponse;
 import com.submission_service.model.entity.FeedbackLLM;
 import com.submission_service.model.entity.Submission;
+import com.submission_service.push.SubmissionStatusPublisher;
 import com.submission_service.repository.IFeedBackLLMRepository;
 import com.submission_service.repository.IFeedbackSubmissionRepository;
 import com.submission_service.repository.ISubmissionRepository;
@@ -29,6 +30,7 @@ public class FeedBackLLMServiceImpl implements IFeedBackLLMService {
     IFeedBackLLMRepository feedBackAIRepository;
     IFeedbackSubmissionRepository feedbackTeacherRepository;
     ISubmissionRepository submissionRepository;
+    SubmissionStatusPublisher statusPublisher;
 
     //TODO:xem lai mapper, them trace log
 
@@ -46,6 +48,7 @@ public class FeedBackLLMServiceImpl implements IFeedBackLLMService {
 //            submission.setSubmissionStatus(SubmissionStatus.COMPLETED);
 //        }
         submissionRepository.save(submission);
+        statusPublisher.feedbackReady(submission.getId(), submission.getStudentId(), submission.getSubmissionStatus(), submission.getScore());
         return feedbackLLM.getId();
     }
 
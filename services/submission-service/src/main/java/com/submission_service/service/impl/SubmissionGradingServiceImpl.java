@@ -0,0 +1,193 @@
+package com.submission_service.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.submission_service.config.GradingProperties;
+import com.submission_service.enums.SubmissionStatus;
+import com.submission_service.feedbackcache.CachedFeedback;
+import com.submission_service.feedbackcache.FeedbackCache;
+import com.submission_service.feedbackcache.FeedbackSource;
+import com.submission_service.model.dto.response.AssignmentClassDetailResponse;
+import com.submission_service.model.entity.FeedbackLLM;
+import com.submission_service.model.entity.Submission;
+import com.submission_service.model.event.GradingResultEvent;
+import com.submission_service.model.event.SubmissionEvent;
+import com.submission_service.push.SubmissionStatusPublisher;
+import com.submission_service.repository.IFeedBackLLMRepository;
+import com.submission_service.repository.ISubmissionRepository;
+import com.submission_service.service.IActionScheduler;
+import com.submission_service.service.ISubmissionGradingService;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.Optional;
+
+/**
+ * Pipeline chấm bài bất đồng bộ: submit chỉ lưu bài và publish SubmissionEvent (không chờ grader),
+ * kết quả quay về qua topic kết quả và cập nhật trạng thái theo {@link SubmissionStatus}.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+@Service
+public class SubmissionGradingServiceImpl implements ISubmissionGradingService {
+
+    ISubmissionRepository submissionRepository;
+    IFeedBackLLMRepository feedBackLLMRepository;
+    IActionScheduler actionScheduler;
+    KafkaTemplate<String, Object> kafkaTemplate;
+    ObjectMapper objectMapper;
+    GradingProperties gradingProperties;
+    FeedbackCache feedbackCache;
+    SubmissionStatusPublisher statusPublisher;
+
+    @Override
+    public void dispatch(Submission submission, AssignmentClassDetailResponse assignmentClassDetail) {
+        Long submissionId = submission.getId();
+        SubmissionEvent event = SubmissionEvent.builder()
+                .id(submissionId)
+                .assignmentId(submission.getAssignmentId())
+                .assignmentClassDetailId(submission.getAssignmentClassDetailId())
+                .contentAssignment(joinDescription(assignmentClassDetail))
+                .solutionPlantUmlCode(assignmentClassDetail.getSolutionCode())
+                .typeUmlName(submission.getTypeUml())
+                .studentPlantUmlCode(submission.getStudentPlantUMLCode())
+                .structuralSimilarity(submission.getStructuralSimilarity())
+                .build();
+
+        String message;
+        try {
+            message = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            log.error("Error serializing submission event {}: {}", submissionId, e.getMessage());
+            transition(submission, SubmissionStatus.FAILED);
+            return;
+        }
+
+        // Hẹn giờ timeout trước khi gửi, để bài không bao giờ kẹt ở SUBMITTED/QUEUED
+        actionScheduler.checkSubmissionStatus(submissionId, submission.getStudentId());
+        try {
+            kafkaTemplate.send(gradingProperties.getSubmissionTopic(), String.valueOf(submission.getAssignmentId()), message)
+                    .whenComplete((result, ex) -> {
+                        if (ex == null) {
+                            transition(submission, SubmissionStatus.QUEUED);
+                        } else {
+                            log.error("Error sending submission event {} to Kafka: {}", submissionId, ex.getMessage());
+                            transition(submission, SubmissionStatus.FAILED);
+                        }
+                    });
+        } catch (KafkaException e) {
+            log.error("Error sending submission event {} to Kafka: {}", submissionId, e.getMessage());
+            transition(submission, SubmissionStatus.FAILED);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void handleResult(GradingResultEvent result) {
+        Optional<Submission> submissionOptional = submissionRepository.findById(result.getSubmissionId());
+        if (submissionOptional.isEmpty()) {
+            log.warn("Grading result for unknown submission {}", result.getSubmissionId());
+            return;
+        }
+        Submission submission = submissionOptional.get();
+        SubmissionStatus target = result.isSuccess() ? SubmissionStatus.SCORED : SubmissionStatus.FAILED;
+        SubmissionStatus current = submission.getSubmissionStatus();
+        if (current != null && !current.canTransitionTo(target)) {
+            // Kafka giao ít nhất một lần: bản ghi lặp của bài đã chấm xong thì bỏ qua
+            log.info("Ignore grading result for submission {}: {} -> {}", submission.getId(), current, target);
+            return;
+        }
+
+        if (result.isSuccess()) {
+            FeedbackLLM feedbackLLM = Optional.ofNullable(submission.getFeedbackLLM()).orElseGet(FeedbackLLM::new);
+            feedbackLLM.setFeedback(result.getData());
+            feedbackLLM.setAiModalName(result.getAiModelName());
+            feedbackLLM.setSubmission(submission);
+            submission.setFeedbackLLM(feedBackLLMRepository.save(feedbackLLM));
+            if (result.getScore() != null) {
+                submission.setScore(result.getScore());
+                // Chỉ cache kết quả có điểm: bài dùng lại cache được chấm SCORED ngay
+                feedbackCache.put(submission.getFeedbackCacheKey(),
+                        new CachedFeedback(result.getData(), result.getAiModelName(), result.getScore()), FeedbackSource.SUBMISSION);
+            }
+        } else {
+            log.warn("Grading failed for submission {}: {}", submission.getId(), result.getError());
+        }
+        submission.setSubmissionStatus(target);
+        submissionRepository.save(submission);
+        statusPublisher.statusChanged(submission.getId(), submission.getStudentId(), target, submission.getScore());
+    }
+
+    @Override
+    @Transactional
+    public boolean reuseFeedback(Submission submission) {
+        String key = submission.getFeedbackCacheKey();
+        if (!feedbackCache.isEnabled() || key == null) {
+            return false;
+        }
+        // Bài dùng lại được chấm SCORED ngay, nên chỉ nhận feedback có điểm
+        Optional<CachedFeedback> cached = feedbackCache.get(key, FeedbackSource.SUBMISSION)
+                .filter(feedback -> feedback.score() != null);
+        if (cached.isEmpty()) {
+            // Cache Redis hết hạn/bị xoá: bài đã chấm trong DB vẫn là nguồn đúng, đồng thời nạp lại cache
+            cached = submissionRepository
+                    .findTopByFeedbackCacheKeyAndSubmissionStatusAndIdNotOrderByIdDesc(key, SubmissionStatus.SCORED, submission.getId())
+                    .filter(graded -> graded.getFeedbackLLM() != null && graded.getScore() != null)
+                    .map(SubmissionGradingServiceImpl::toCachedFeedback);
+            cached.ifPresent(feedback -> feedbackCache.put(key, feedback, FeedbackSource.SUBMISSION));
+        }
+        if (cached.isEmpty()) {
+            return false;
+        }
+        Submission target = submissionRepository.findById(submission.getId()).orElse(null);
+        if (target == null) {
+            return false;
+        }
+        SubmissionStatus current = target.getSubmissionStatus();
+        if (current != null && !current.canTransitionTo(SubmissionStatus.SCORED)) {
+            return false;
+        }
+
+        // Feedback là một bản sao riêng: sửa/xoá bài gốc không ảnh hưởng bài dùng lại
+        CachedFeedback feedback = cached.get();
+        FeedbackLLM feedbackLLM = new FeedbackLLM();
+        feedbackLLM.setFeedback(new HashMap<>(feedback.feedback()));
+        feedbackLLM.setAiModalName(feedback.aiModelName());
+        feedbackLLM.setSubmission(target);
+        target.setFeedbackLLM(feedBackLLMRepository.save(feedbackLLM));
+        target.setScore(feedback.score());
+        target.setSubmissionStatus(SubmissionStatus.SCORED);
+        submissionRepository.save(target);
+        statusPublisher.statusChanged(target.getId(), target.getStudentId(), SubmissionStatus.SCORED, target.getScore());
+        log.info("Submission {} graded from feedback cache", target.getId());
+        return true;
+    }
+
+    private static CachedFeedback toCachedFeedback(Submission graded) {
+        FeedbackLLM feedbackLLM = graded.getFeedbackLLM();
+        return new CachedFeedback(feedbackLLM.getFeedback(), feedbackLLM.getAiModalName(), graded.getScore());
+    }
+
+    private void transition(Submission submission, SubmissionStatus target) {
+        int updated = submissionRepository.transitionStatus(submission.getId(), SubmissionStatus.sourcesOf(target), target);
+        if (updated == 0) {
+            log.debug("Submission {} not moved to {} (already in a later state)", submission.getId(), target);
+            return;
+        }
+        statusPublisher.statusChanged(submission.getId(), submission.getStudentId(), target, null);
+    }
+
+    private static String joinDescription(AssignmentClassDetailResponse detail) {
+        String assignment = detail.getAssignmentDescription() != null ? detail.getAssignmentDescription() : "";
+        String module = detail.getModuleDescription() != null ? detail.getModuleDescription() : "";
+        return assignment + module;
+    }
+}
@@ -4,23 +4,35 @@ package com.submission_service.service.impl;
 import com.example.common_library.exceptions.FeignClientException;
 import com.example.common_library.exceptions.FieldRequiredException;
 import com.example.common_library.exceptions.NotFoundException;
+import com.example.common_library.logging.HotLog;
 import com.example.common_library.utils.GetTokenUtil;
 import com.example.common_library.utils.UserUtils;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.submission_service.burst.SubmissionWriteBuffer;
 import com.submission_service.client.AuthServiceClient;
 import com.submission_service.client.ClassManagementServiceClient;
 import com.submission_service.client.ContentServiceClient;
+import com.submission_service.enrichment.SubmissionEnricher;
+import com.submission_service.enrichment.SubmissionLookups;
+import com.submission_service.feedbackcache.FeedbackCache;
+import com.submission_service.feedbackcache.FeedbackCacheKey;
 import com.submission_service.mapper.SubmissionMapper;
+import com.submission_service.metadata.AssignmentMetadataCache;
+import com.submission_service.model.dto.projection.SubmissionFeedbackView;
+import com.submission_service.model.dto.projection.SubmissionSummary;
 import com.submission_service.model.dto.request.SubmissionRequest;
 import com.submission_service.model.dto.response.*;
+import com.submission_service.model.entity.LatestExamSubmissionId;
 import com.submission_service.model.entity.Submission;
-import com.submission_service.model.entity.SubmissionFeedback;
-import com.submission_service.model.event.SubmissionEvent;
+import com.submission_service.repository.IFeedbackSubmissionRepository;
+import com.submission_service.repository.ILatestExamSubmissionRepository;
 import com.submission_service.repository.ISubmissionRepository;
 import com.submission_service.repository.specification.SubmissionSpecification;
-import com.submission_service.service.IActionScheduler;
+import com.submission_service.render.PlantUmlSource;
+import com.submission_service.service.ISubmissionGradingService;
 import com.submission_service.service.SubmissionService;
+import com.submission_service.similarity.DuplicateDetector;
+import com.submission_service.umldiff.UmlDiffEngine;
+import com.submission_service.umldiff.UmlDiffResult;
 import feign.FeignException;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -29,17 +41,14 @@ import lombok.Setter;
 import lombok.experimental.FieldDefaults;
 import lombok.experimental.NonFinal;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
-import org.springframework.kafka.KafkaException;
-import org.springframework.kafka.annotation.KafkaListener;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.client.RestTemplate;
 
 import java.time.LocalDateTime;
@@ -52,32 +61,29 @@ import java.util.*;
 @FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
 @Service
 public class SubmissionServiceImpl implements SubmissionService {
+    private static final HotLog hotLog = HotLog.getLogger(SubmissionServiceImpl.class);
+
     RestTemplate restTemplate;
     ISubmissionRepository submissionRepository;
-    ObjectMapper objectMapper;
-    ModelMapper modelMapper;
+    IFeedbackSubmissionRepository feedbackSubmissionRepository;
+    ILatestExamSubmissionRepository latestExamSubmissionRepository;
+    TransactionTemplate transactionTemplate;
     ContentServiceClient contentServiceClient;
     AuthServiceClient authServiceClient;
     ClassManagementServiceClient classManagementServiceClient;
-    IActionScheduler actionScheduler;
+    ISubmissionGradingService submissionGradingService;
     SubmissionMapper submissionMapper;
+    SubmissionEnricher submissionEnricher;
+    UmlDiffEngine umlDiffEngine;
+    DuplicateDetector duplicateDetector;
+    FeedbackCache feedbackCache;
+    SubmissionWriteBuffer writeBuffer;
+    AssignmentMetadataCache assignmentMetadataCache;
 
 
     @NonFinal
     @Value("${PLANTUML_SERVER_URL}")
     String PLANTUML_SERVER_URL;
-    KafkaTemplate<String, Object> kafkaTemplate;
-
-    @KafkaListener(topics = "umlDiagram.handle", groupId = "uml-consumer-group")
-    public void listenSubmissionEvent(String message) {
-        try {
-            SubmissionEvent event = objectMapper.readValue(message, SubmissionEvent.class);
-            log.info("📩 Received SubmissionEvent: {}", event);
-        } catch (Exception e) {
-            log.error("❌ Error processing Kafka message: {}", e.getMessage(), e);
-        }
-    }
-
 
     @Override
     public Long handleSubmission(SubmissionRequest submissionRequest) {
@@ -86,14 +92,18 @@ public class SubmissionServiceImpl implements SubmissionService {
         }
         UserUtils.UserInfo currentUser = UserUtils.getCurrentUser();
         Long userId = currentUser.userId();
-        log.info("Get userId from context");
+        hotLog.sampledDebug("Handling submission for user {}", userId);
 
-        AssignmentClassDetailResponse assignmentClassDetailResponse;
-        try {
-            assignmentClassDetailResponse = contentServiceClient.getAssignmentClassDetail(submissionRequest.getAssignmentClassDetailId(), submissionRequest.getTypeUml().name(), submissionRequest.getModuleId()).getResult();
-            log.info("Fetched assignment class detail by id with ID: {}", submissionRequest.getAssignmentClassDetailId());
-        }catch (FeignException e){
-            throw new FeignClientException("Failed to fetch assignment");
+        boolean buffered = writeBuffer.isEnabled() && Boolean.TRUE.equals(submissionRequest.getExamMode());
+        if (buffered) {
+            // Đợt thi: kiểm tra trong bộ nhớ, lỗi dữ liệu phải chặn ở đây chứ không để tới lúc flush
+            validateBufferedSubmission(submissionRequest);
+        }
+        // Metadata đề lấy từ cache cục bộ (xoá theo event của content-service), không gọi content-service mỗi lần nộp
+        AssignmentClassDetailResponse assignmentClassDetailResponse = assignmentMetadataCache.get(
+                submissionRequest.getAssignmentClassDetailId(), submissionRequest.getTypeUml(), submissionRequest.getModuleId());
+        if (buffered && assignmentClassDetailResponse.getAssignmentId() == null) {
+            throw new NotFoundException("Assignment not found");
         }
 
         Submission submission = submissionMapper.submissionRequestToSubmission(submissionRequest,userId);
@@ -101,32 +111,37 @@ public class SubmissionServiceImpl implements SubmissionService {
         submission.setClassId(submissionRequest.getClassId());
         submission.setExamMode(submissionRequest.getExamMode());
         submission.setStudentPlantUMLCode(submissionRequest.getStudentPlantUmlCode());
-        submissionRepository.save(submission);
-        log.info("Submission saved");
-
-
-
-        //TODO: call sang assignment service để lấy thông tin assignment class detail
-//        String accessToken = GetTokenUtil.getToken();
-//        SubmissionEvent submissionEvent = SubmissionEvent.builder()
-//                .id(submission.getId())
-//                .accessToken(accessToken)
-//                .contentAssignment(assignmentClassDetailResponse.getAssignmentDescription() + assignmentClassDetailResponse.getModuleDescription())
-//                .solutionPlantUmlCode(assignmentClassDetailResponse.getSolutionCode())
-//                .typeUmlName(submissionRequest.getTypeUml())
-//                .studentPlantUmlCode(submissionRequest.getStudentPlantUmlCode())
-//                .build();
+        submission.setStructuralSimilarity(structuralSimilarity(assignmentClassDetailResponse.getSolutionCode(), submission));
+        submission.setNormalizedHash(PlantUmlSource.hash(PlantUmlSource.normalize(submission.getStudentPlantUMLCode())));
+        submission.setFeedbackCacheKey(FeedbackCacheKey.of(submission.getStudentPlantUMLCode(),
+                assignmentClassDetailResponse.getSolutionCode(), submission.getTypeUml(), feedbackCache.promptVersion()));
+        DuplicateDetector.Fingerprint fingerprint = checkDuplicate(submission);
+        if (buffered && writeBuffer.append(submission, assignmentClassDetailResponse)) {
+            // Đã ghi bền vào topic đệm: trả id ngay, SubmissionBatchWriter lưu theo lô rồi mới gửi chấm
+            hotLog.sampledInfo("Submission {} buffered", submission.getId());
+            if (fingerprint != null) {
+                duplicateDetector.register(submission, fingerprint);
+            }
+            return submission.getId();
+        }
+        transactionTemplate.executeWithoutResult(tx -> {
+            submissionRepository.save(submission);
+            if (submission.isExamMode()) {
+                latestExamSubmissionRepository.upsert(submission.getClassId(), submission.getAssignmentClassDetailId(),
+                        submission.getStudentId(), submission.getId(), submission.getCreatedDate());
+            }
+        });
+        hotLog.sampledInfo("Submission {} saved", submission.getId());
+        if (fingerprint != null) {
+            duplicateDetector.register(submission, fingerprint);
+        }
 
-        try {
-//            String message = objectMapper.writeValueAsString(submissionEvent);
-//            kafkaTemplate.send("umlDiagram.submission", message);
-//            log.info("Submission event sent to Kafka for submission ID: {}", submission.getId());
-//                actionScheduler.checkSubmissionStatus(submission.getId());
-//        } catch (JsonProcessingException e) {
-//            log.error("Error serializing submission event: {}", e.getMessage());
-        } catch (KafkaException e) {
-            log.error("Error sending submission event to Kafka: {}", e.getMessage());
+        // Sơ đồ chuẩn hoá trùng bài đã chấm thì dùng lại feedback, không gửi sang LLM
+        if (submissionGradingService.reuseFeedback(submission)) {
+            return submission.getId();
         }
+        // Chấm bài chạy bất đồng bộ qua Kafka, submit trả về ngay; trạng thái theo dõi qua submissionStatus
+        submissionGradingService.dispatch(submission, assignmentClassDetailResponse);
         return submission.getId();
     }
 
@@ -145,50 +160,14 @@ public class SubmissionServiceImpl implements SubmissionService {
                 .and(SubmissionSpecification.hasClassId(classId))
                 .and(SubmissionSpecification.hasCreatedDateBetween(fromDate, toDate));
 
-        Page<Submission> result = submissionRepository.findAll(spec, pageable);
-        log.info("Get all submissions with criteria");
-        Set<Long> studentIds = new HashSet<>();
-        Set<Long> assignmentIds = new HashSet<>();
-        Set<Long> classIds = new HashSet<>();
-        Map<Long, UserResponse> userMap;
-        Map<Long, AssignmentResponse> assignmentMap;
-        Map<Long, ClassResponse> classMap;
-        result.forEach(submission -> {
-            studentIds.add(submission.getStudentId());
-            assignmentIds.add(submission.getAssignmentId());
-            classIds.add(submission.getClassId());
-        });
-
-        try{
-            userMap = authServiceClient.getExerciseMap(new ArrayList<>(studentIds)).getResult();
-        }catch (FeignClientException e){
-            throw new FeignClientException("Failed to fetch user map from Auth Service");
-        }
-        try{
-            assignmentMap = contentServiceClient.getExerciseMap(new ArrayList<>(assignmentIds)).getResult();
-        }catch (FeignClientException e){
-            throw new FeignClientException("Failed to fetch assignment map from Content Service");
-        }
-        try{
-            classMap = classManagementServiceClient.getClassesByIds(new ArrayList<>(classIds)).getResult();
-        }catch (FeignClientException e){
-            throw new FeignClientException("Failed to fetch class map from Class Management Service");
-        }
-        return result.map(submission -> {
-            UserResponse user = null;
-            AssignmentResponse assignment = null;
-            ClassResponse classResponse = null;
-            if (userMap != null)
-                user = userMap.get(submission.getStudentId());
-
-            if (assignmentMap != null)
-                assignment = assignmentMap.get(submission.getAssignmentId());
-
-            if (classMap != null)
-                classResponse = classMap.get(submission.getClassId());
-
-            return submissionMapper.toSubmissionResponse(submission, user, assignment, classResponse);
-        });
+        Page<SubmissionSummary> result = submissionRepository.findSummaries(spec, pageable);
+        hotLog.sampledDebug("Get all submissions with criteria");
+        SubmissionLookups lookups = submissionEnricher.enrich(result.getContent());
+        return result.map(submission -> submissionMapper.toSubmissionResponse(
+                submission,
+                lookups.user(submission.getStudentId()),
+                lookups.assignment(submission.getAssignmentId()),
+                lookups.classResponse(submission.getClassId())));
     }
 
 
@@ -241,6 +220,82 @@ public class SubmissionServiceImpl implements SubmissionService {
         return "Score added successfully";
     }
 
+    @Override
+    public UmlDiffResult getStructuralDiff(Long id) {
+        Submission submission = submissionRepository.findById(id)
+                .orElseThrow(() -> new NotFoundException("Submission not found with ID: " + id));
+        ModuleSolutionDetailResponse solution;
+        try {
+            solution = contentServiceClient.getModuleSolution(submission.getModuleId(),
+                    submission.getTypeUml().name(), submission.getAssignmentId()).getResult();
+        } catch (FeignException e) {
+            throw new FeignClientException("Failed to fetch module solution");
+        }
+        if (solution == null || solution.getSolutionCode() == null) {
+            throw new NotFoundException("Module solution not found for submission ID: " + id);
+        }
+        return umlDiffEngine.compare(solution.getSolutionCode(), submission.getStudentPlantUMLCode(), submission.getTypeUml());
+    }
+
+    private static List<SubmissionFeedbackResponse> toFeedbackResponses(List<SubmissionFeedbackView> feedbackViews,
+                                                                        Map<Long, UserResponse> users) {
+        List<SubmissionFeedbackResponse> responses = new ArrayList<>(feedbackViews.size());
+        for (SubmissionFeedbackView feedback : feedbackViews) {
+            UserResponse teacher = users.get(feedback.userId());
+            responses.add(SubmissionFeedbackResponse.builder()
+                    .id(feedback.id())
+                    .teacherId(feedback.userId())
+                    .content(feedback.content())
+                    .fullName(teacher != null ? teacher.getFullName() : null)
+                    .createdDate(feedback.createdDate())
+                    .updatedDate(feedback.modifiedDate())
+                    .build());
+        }
+        return responses;
+    }
+
+    private static void validateBufferedSubmission(SubmissionRequest submissionRequest) {
+        if (submissionRequest.getClassId() == null || submissionRequest.getModuleId() == null
+                || submissionRequest.getAssignmentClassDetailId() == null || submissionRequest.getTypeUml() == null) {
+            throw new FieldRequiredException("Please provide classId, moduleId, assignmentClassDetailId and typeUml");
+        }
+    }
+
+    // Phát hiện gần trùng cũng chỉ là cờ cho giảng viên, lỗi không được chặn việc nộp bài
+    private DuplicateDetector.Fingerprint checkDuplicate(Submission submission) {
+        if (!duplicateDetector.isEnabled()) {
+            return null;
+        }
+        try {
+            DuplicateDetector.Fingerprint fingerprint = duplicateDetector.check(submission);
+            fingerprint.match().ifPresent(match -> {
+                submission.setDuplicateOfSubmissionId(match.submissionId());
+                submission.setDuplicateSimilarity(match.similarity());
+                hotLog.sampledInfo("Submission of student {} is a near-duplicate of submission {} ({})",
+                        submission.getStudentId(), match.submissionId(), match.similarity());
+            });
+            return fingerprint;
+        } catch (RuntimeException e) {
+            log.warn("Duplicate check failed: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    // So sánh cấu trúc chỉ là thông tin bổ sung: lỗi parse không được chặn việc nộp bài
+    private Double structuralSimilarity(String solutionCode, Submission submission) {
+        if (solutionCode == null || solutionCode.isBlank()) {
+            return null;
+        }
+        try {
+            UmlDiffResult diff = umlDiffEngine.compare(solutionCode, submission.getStudentPlantUMLCode(), submission.getTypeUml());
+            hotLog.sampledDebug("Structural similarity {} computed in {} us", diff.similarity(), diff.elapsedMicros());
+            return diff.similarity();
+        } catch (RuntimeException e) {
+            log.warn("Structural diff failed: {}", e.getMessage());
+            return null;
+        }
+    }
+
 
     @Override
     public LastSubmissionResonse getLastSubmissionsExamMode(Long classId, Long assignmentClassDetailId) {
@@ -250,33 +305,22 @@ public class SubmissionServiceImpl implements SubmissionService {
 
         UserUtils.UserInfo currentUser = UserUtils.getCurrentUser();
         Long userId = currentUser.userId();
-        Optional<Submission> submissionOptional = submissionRepository
-                .findTopByClassIdAndAssignmentClassDetailIdAndStudentIdAndExamModeOrderByCreatedDateDesc(classId, assignmentClassDetailId, userId, true);
+        Optional<Submission> submissionOptional = latestExamSubmissionRepository
+                .findSubmission(new LatestExamSubmissionId(classId, assignmentClassDetailId, userId));
 
         if (!submissionOptional.isPresent()) {
             throw new NotFoundException("No exam mode submission found for the given class and assignment");
         } else {
             Submission submission = submissionOptional.get();
-            List<SubmissionFeedbackResponse> feedbacks = new ArrayList<>();
-            if(!submission.getSubmissionFeedbacks().isEmpty()) {
-                UserResponse userResponse = submission.getSubmissionFeedbacks().get(0) != null ?
-                        authServiceClient.getUser(submission.getSubmissionFeedbacks().get(0).getUserId()).getResult() : null;
-
-                submission.getSubmissionFeedbacks().forEach(feedbackTeacher -> {
-                    SubmissionFeedbackResponse submissionFeedbackResponse = SubmissionFeedbackResponse.builder()
-                            .teacherId(feedbackTeacher.getUserId())
-                            .content(feedbackTeacher.getContent())
-                            .fullName(userResponse.getFullName())
-                            .createdDate(feedbackTeacher.getCreatedDate())
-                            .build();
-                    feedbacks.add(submissionFeedbackResponse);
-                });
-            }
+            List<SubmissionFeedbackView> feedbackViews = feedbackSubmissionRepository.findViewsBySubmissionId(submission.getId());
+            Map<Long, UserResponse> users = submissionEnricher.users(feedbackViews.stream().map(SubmissionFeedbackView::userId).toList());
+            List<SubmissionFeedbackResponse> feedbacks = toFeedbackResponses(feedbackViews, users);
             return LastSubmissionResonse.builder()
                     .id(submission.getId())
                     .score(submission.getScore())
                     .studentPlantUMLCode(submission.getStudentPlantUMLCode())
                     .createdDate(submission.getCreatedDate())
+                    .submissionStatus(submission.getSubmissionStatus())
                     .submissionFeedbackResponse(feedbacks)
                     .build();
         }
@@ -290,54 +334,20 @@ public class SubmissionServiceImpl implements SubmissionService {
         }
 
 
+        // Đọc từ bảng latest_exam_submission (mỗi sinh viên một dòng) thay vì subquery MAX(createdDate) theo từng dòng
         Sort.Direction direction = sortOrder.equalsIgnoreCase("asc") ? Sort.Direction.ASC : Sort.Direction.DESC;
-        Sort sort = switch (sortBy) {
-            case "studentName" -> Sort.by(direction, "studentName");
-            default -> Sort.by(direction, "createdDate");
-        };
+        Sort sort = Sort.by(direction, "submittedAt");
         Pageable pageable = PageRequest.of(page, size, sort);
 
-        Specification<Submission> spec = Specification
-                .where(SubmissionSpecification.hasClassId(classId))
-                .and(SubmissionSpecification.hasAssignmentClassDetailId(assignmentClassDetailId))
-                .and(SubmissionSpecification.isLatestSubmissionPerWithExamMode());
-
-        Page<Submission> submissions = submissionRepository.findAll(spec, pageable);
-        log.info("Get all submissions for class ID: {} and assignmentClassDetail ID: {}", classId, assignmentClassDetailId);
-
-        Set<Long> studentIds = new HashSet<>();
-        Set<Long> assignmentIds = new HashSet<>();
-        Set<Long> classIds = new HashSet<>();
-        Map<Long, UserResponse> userMap;
-        Map<Long, AssignmentResponse> assignmentMap;
-        Map<Long, ClassResponse> classMap;
-        submissions.forEach(comment -> {
-            studentIds.add(comment.getStudentId());
-            assignmentIds.add(comment.getAssignmentId());
-            classIds.add(comment.getClassId());
-        });
+        Page<SubmissionSummary> submissions = latestExamSubmissionRepository.findSummaries(classId, assignmentClassDetailId, pageable);
+        hotLog.sampledDebug("Get all submissions for class ID: {} and assignmentClassDetail ID: {}", classId, assignmentClassDetailId);
 
-        try{
-            userMap = authServiceClient.getExerciseMap(new ArrayList<>(studentIds)).getResult();
-        }catch (FeignClientException e){
-            throw new FeignClientException("Failed to fetch user map from Auth Service");
-        }
-        try{
-            assignmentMap = contentServiceClient.getExerciseMap(new ArrayList<>(assignmentIds)).getResult();
-        }catch (FeignClientException e){
-            throw new FeignClientException("Failed to fetch assignment map from Content Service");
-        }
-        try{
-            classMap = classManagementServiceClient.getClassesByIds(new ArrayList<>(classIds)).getResult();
-        }catch (FeignClientException e){
-            throw new FeignClientException("Failed to fetch class map from Class Management Service");
-        }
-        return submissions.map(submission -> {
-            UserResponse user = userMap.get(submission.getStudentId());
-            AssignmentResponse assignment = assignmentMap.get(submission.getAssignmentId());
-            ClassResponse classResponse = classMap.get(submission.getClassId());
-            return submissionMapper.toSubmissionResponse(submission, user, assignment, classResponse);
-        });
+        SubmissionLookups lookups = submissionEnricher.enrich(submissions.getContent());
+        return submissions.map(submission -> submissionMapper.toSubmissionResponse(
+                submission,
+                lookups.user(submission.getStudentId()),
+                lookups.assignment(submission.getAssignmentId()),
+                lookups.classResponse(submission.getClassId())));
     }
 
     @Override
@@ -362,99 +372,49 @@ public class SubmissionServiceImpl implements SubmissionService {
                 .and(SubmissionSpecification.hasModuleId(moduleId))
                 .and(SubmissionSpecification.hasExamMode(examMode));
 
-        Page<Submission> result = submissionRepository.findAll(spec, pageable);
-        log.info("Get all submissions history for student");
-        Set<Long> studentIds = new HashSet<>();
-        Set<Long> assignmentIds = new HashSet<>();
-        Set<Long> classIds = new HashSet<>();
-        Set<Long> moduleIds = new HashSet<>();
-        result.forEach(submission -> {
-            studentIds.add(submission.getStudentId());
-            assignmentIds.add(submission.getAssignmentId());
-            classIds.add(submission.getClassId());
-//            moduleIds.add(submission.get)
-        });
-        Map<Long, UserResponse> userMap;
-        Map<Long, AssignmentResponse> assignmentMap;
-        Map<Long, ClassResponse> classMap;
-        result.forEach(comment -> {
-            studentIds.add(comment.getStudentId());
-            assignmentIds.add(comment.getAssignmentId());
-            classIds.add(comment.getClassId());
-        });
-
-        try{
-            userMap = authServiceClient.getExerciseMap(new ArrayList<>(studentIds)).getResult();
-        }catch (FeignClientException e){
-            throw new FeignClientException("Failed to fetch user map from Auth Service");
-        }
-        try{
-            assignmentMap = contentServiceClient.getExerciseMap(new ArrayList<>(assignmentIds)).getResult();
-        }catch (FeignClientException e){
-            throw new FeignClientException("Failed to fetch assignment map from Content Service");
-        }
-        try{
-            classMap = classManagementServiceClient.getClassesByIds(new ArrayList<>(classIds)).getResult();
-        }catch (FeignClientException e){
-            throw new FeignClientException("Failed to fetch class map from Class Management Service");
-        }
-        return result.map(submission -> {
-            UserResponse user = null;
-            AssignmentResponse assignment = null;
-            ClassResponse classResponse = null;
-            if (userMap != null)
-                user = userMap.get(submission.getStudentId());
-
-            if (assignmentMap != null)
-                assignment = assignmentMap.get(submission.getAssignmentId());
-
-            if (classMap != null)
-                classResponse = classMap.get(submission.getClassId());
-            return submissionMapper.toSubmissionResponse(submission, user, assignment, classResponse);
-        });
+        Page<SubmissionSummary> result = submissionRepository.findSummaries(spec, pageable);
+        hotLog.sampledDebug("Get all submissions history for student");
+        SubmissionLookups lookups = submissionEnricher.enrich(result.getContent());
+        return result.map(submission -> submissionMapper.toSubmissionResponse(
+                submission,
+                lookups.user(submission.getStudentId()),
+                lookups.assignment(submission.getAssignmentId()),
+                lookups.classResponse(submission.getClassId())));
     }
 
     @Override
     public SubmissionDetailResponse getSubmissionStudentFeedback(Long id) {
-        Optional<Submission> submissionOptional = submissionRepository.findByIdAndStatus(id, 1);
+        Optional<Submission> submissionOptional = submissionRepository.findDetailById(id);
         if (!submissionOptional.isPresent()) {
             throw new NotFoundException("Submission not found with ID: " + id);
         }
         Submission submission = submissionOptional.get();
-        UserResponse userResponse;
+        List<SubmissionFeedbackView> feedbackViews = feedbackSubmissionRepository.findViewsBySubmissionId(id);
         ClassResponse classResponse;
         ModuleSolutionDetailResponse moduleSolutionDetailResponse;
-        try {
-            userResponse = authServiceClient.getUser(submission.getStudentId()).getResult();
-            log.info("Fetched user with ID: {}", submission.getStudentId());
-        } catch (FeignClientException e) {
-            throw new FeignClientException("Failed to fetch user with ID: " + submission.getStudentId());
-        }
+
+        // Sinh viên và tất cả giảng viên nhận xét: một lời gọi identity-service theo lô
+        Set<Long> userIds = new HashSet<>();
+        userIds.add(submission.getStudentId());
+        feedbackViews.forEach(feedback -> userIds.add(feedback.userId()));
+        Map<Long, UserResponse> users = submissionEnricher.users(userIds);
+        UserResponse userResponse = users.get(submission.getStudentId());
+        hotLog.sampledDebug("Fetched {} user(s) for submission {}", users.size(), id);
         try {
             classResponse = classManagementServiceClient.getClassById(submission.getClassId()).getResult();
-            log.info("Fetched class with ID: {}", submission.getClassId());
+            hotLog.sampledDebug("Fetched class with ID: {}", submission.getClassId());
         } catch (FeignClientException e) {
             throw new FeignClientException("Failed to fetch class with ID: " + submission.getClassId());
         }
 
         try {
             moduleSolutionDetailResponse = contentServiceClient.getModuleSolution(submission.getModuleId(), submission.getTypeUml().name(), submission.getAssignmentId()).getResult();
-            log.info("Fetched class with ID: {}", submission.getClassId());
+            hotLog.sampledDebug("Fetched module solution for module ID: {}", submission.getModuleId());
         } catch (FeignClientException e) {
             throw new FeignClientException("Failed to fetch class with ID: " + submission.getClassId());
         }
 
-        List<SubmissionFeedback> feedbacks = submission.getSubmissionFeedbacks();
-        List<SubmissionFeedbackResponse> feedbackResponses = new ArrayList<>();
-        feedbacks.forEach(feedbackTeacher -> {
-            SubmissionFeedbackResponse submissionFeedbackResponse = SubmissionFeedbackResponse.builder()
-                    .teacherId(feedbackTeacher.getUserId())
-                    .content(feedbackTeacher.getContent())
-                    .fullName(userResponse.getFullName())
-                    .createdDate(feedbackTeacher.getCreatedDate())
-                    .build();
-            feedbackResponses.add(submissionFeedbackResponse);
-        });
+        List<SubmissionFeedbackResponse> feedbackResponses = toFeedbackResponses(feedbackViews, users);
 
         SubmissionDetailResponse submissionResponse = submissionMapper.toSubmissionDetailResponse(submission, userResponse, classResponse);
         submissionResponse.setModuleName(moduleSolutionDetailResponse.getModuleName());
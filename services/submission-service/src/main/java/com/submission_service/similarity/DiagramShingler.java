@@ -0,0 +1,66 @@
+package com.submission_service.similarity;
+
+import com.submission_service.render.PlantUmlSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Biến source PlantUML thành tập shingle (k token liên tiếp) đã băm 64 bit.
+ * Chuẩn hoá mạnh hơn khi render: bỏ hoa thường, dấu nháy, khoảng trắng, dòng @start/@end/skinparam
+ * và sắp xếp lại các dòng - đổi thứ tự khai báo hay tên biến khoảng trắng không che được bài chép.
+ */
+final class DiagramShingler {
+
+    private static final Pattern TOKEN = Pattern.compile("[\\p{L}\\p{N}_]+|[-.<>|*o#]+|[{}():,]");
+
+    private DiagramShingler() {
+    }
+
+    /**
+     * Trả về mảng rỗng khi sơ đồ không còn token nào (rỗng, chỉ có comment/skinparam): người gọi không được băm mảng này.
+     */
+    static long[] shingles(String source, int size) {
+        String[] lines = PlantUmlSource.normalize(source).toLowerCase(Locale.ROOT).split("\n");
+        List<String> kept = new ArrayList<>(lines.length);
+        for (String line : lines) {
+            String l = line.replace("\"", "").trim();
+            if (l.isEmpty() || l.startsWith("@") || l.startsWith("skinparam") || l.startsWith("!")) continue;
+            kept.add(l);
+        }
+        kept.sort(null);
+
+        List<String> tokens = new ArrayList<>();
+        for (String line : kept) {
+            Matcher m = TOKEN.matcher(line);
+            while (m.find()) {
+                tokens.add(m.group());
+            }
+        }
+        if (tokens.isEmpty()) return new long[0];
+
+        int k = Math.max(1, Math.min(size, tokens.size()));
+        long[] hashes = new long[tokens.size() - k + 1];
+        for (int i = 0; i < hashes.length; i++) {
+            long h = 0xcbf29ce484222325L;
+            for (int j = i; j < i + k; j++) {
+                h = fnv(h, tokens.get(j));
+                h = fnv(h, "\u0000");
+            }
+            hashes[i] = h;
+        }
+        return Arrays.stream(hashes).distinct().toArray();
+    }
+
+    private static long fnv(long h, String s) {
+        for (int i = 0; i < s.length(); i++) {
+            h ^= s.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return h;
+    }
+}
@@ -0,0 +1,38 @@
+package com.submission_service.similarity;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+@EnableConfigurationProperties(DuplicateProperties.class)
+public class DuplicateConfig {
+
+    public static final String DUPLICATE_INDEX_LOADER = "duplicateIndexLoader";
+
+    /**
+     * Dựng index LSH từ DB ngoài luồng nộp bài. Hàng đợi đầy thì bỏ qua (lần nộp sau thử lại),
+     * không để request tự dựng.
+     */
+    @Bean(name = DUPLICATE_INDEX_LOADER, destroyMethod = "shutdownNow")
+    public ExecutorService duplicateIndexLoader(DuplicateProperties properties) {
+        AtomicInteger counter = new AtomicInteger();
+        ThreadFactory threadFactory = r -> {
+            Thread t = new Thread(r, "duplicate-index-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+        int threads = Math.max(1, properties.getLoaderThreads());
+        return new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, properties.getMaxIndexes())),
+                threadFactory,
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+}
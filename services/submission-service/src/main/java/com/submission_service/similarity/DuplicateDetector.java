@@ -0,0 +1,182 @@
+package com.submission_service.similarity;
+
+import com.submission_service.model.entity.Submission;
+import com.submission_service.repository.ISubmissionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Phát hiện bài nộp gần trùng bằng MinHash/LSH trên shingle token của sơ đồ đã chuẩn hoá.
+ * Mỗi assignmentClassDetail có một {@link LshIndex} riêng giữ trong LRU. Index được dựng từ DB trên
+ * executor nền ở lần kiểm tra đầu tiên (và khi quá TTL): request nộp bài không bao giờ chờ dựng index,
+ * trong lúc đang dựng thì chỉ so với các bài đã register trên instance này.
+ * Bài mới được thêm vào index ngay sau khi lưu nên không phải quét lại bảng.
+ */
+@Slf4j
+@Component
+public class DuplicateDetector {
+
+    /**
+     * Chữ ký của bài đang nộp, tính một lần ở {@link #check} và dùng lại ở {@link #register}.
+     * {@code signature} null khi sơ đồ không có shingle nào (rỗng/chỉ có comment): không so, không register.
+     */
+    public record Fingerprint(long[] signature, Optional<DuplicateMatch> match) {
+    }
+
+    /**
+     * Index hiện tại của một assignmentClassDetail cùng trạng thái dựng lại. Mọi truy cập khoá trên slot.
+     */
+    private final class Slot {
+        private final Long assignmentClassDetailId;
+        private LshIndex index = newIndex();
+        // Thời điểm nạp xong từ DB; null khi chưa nạp lần nào
+        private Long loadedAt;
+        private boolean loading;
+        // Bài register trong lúc đang nạp, gộp vào index mới khi nạp xong
+        private List<LshIndex.Entry> registeredWhileLoading = new ArrayList<>();
+
+        private Slot(Long assignmentClassDetailId) {
+            this.assignmentClassDetailId = assignmentClassDetailId;
+        }
+
+        private boolean needsLoad() {
+            return !loading && (loadedAt == null || System.nanoTime() - loadedAt >= properties.getIndexTtl().toNanos());
+        }
+    }
+
+    private final ISubmissionRepository submissionRepository;
+    private final DuplicateProperties properties;
+    private final ExecutorService loader;
+    private final MinHasher minHasher;
+    private final Map<Long, Slot> slots;
+
+    public DuplicateDetector(ISubmissionRepository submissionRepository, DuplicateProperties properties,
+                             @Qualifier(DuplicateConfig.DUPLICATE_INDEX_LOADER) ExecutorService loader) {
+        if (properties.getNumHashes() % properties.getBands() != 0) {
+            throw new IllegalStateException("defty.duplicate.num-hashes must be a multiple of bands");
+        }
+        this.submissionRepository = submissionRepository;
+        this.properties = properties;
+        this.loader = loader;
+        this.minHasher = new MinHasher(properties.getNumHashes());
+        this.slots = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Slot> eldest) {
+                return size() > properties.getMaxIndexes();
+            }
+        };
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Tìm bài gần trùng nhất của sinh viên khác (Jaccard ước lượng >= threshold). Bài của chính sinh viên
+     * đó (nộp lại) không tính.
+     */
+    public Fingerprint check(Submission submission) {
+        long[] signature = signature(submission.getStudentPlantUMLCode());
+        if (signature == null) {
+            return new Fingerprint(null, Optional.empty());
+        }
+        Slot slot = slotFor(submission.getAssignmentClassDetailId());
+        DuplicateMatch best = null;
+        synchronized (slot) {
+            for (LshIndex.Entry candidate : slot.index.candidates(signature)) {
+                if (candidate.studentId().equals(submission.getStudentId())) continue;
+                double similarity = MinHasher.estimateJaccard(signature, candidate.signature());
+                if (similarity >= properties.getThreshold() && (best == null || similarity > best.similarity())) {
+                    best = new DuplicateMatch(candidate.submissionId(), candidate.studentId(), similarity);
+                }
+            }
+        }
+        return new Fingerprint(signature, Optional.ofNullable(best));
+    }
+
+    /**
+     * Thêm bài vừa lưu (đã có id) vào index của assignmentClassDetail.
+     */
+    public void register(Submission submission, Fingerprint fingerprint) {
+        if (fingerprint.signature() == null) {
+            return;
+        }
+        LshIndex.Entry entry = new LshIndex.Entry(submission.getId(), submission.getStudentId(), fingerprint.signature());
+        Slot slot = slotFor(submission.getAssignmentClassDetailId());
+        synchronized (slot) {
+            slot.index.add(entry);
+            if (slot.loading) {
+                slot.registeredWhileLoading.add(entry);
+            }
+        }
+    }
+
+    private long[] signature(String source) {
+        long[] shingles = DiagramShingler.shingles(source, properties.getShingleSize());
+        // Không có shingle thì chữ ký toàn Long.MAX_VALUE, trùng với mọi sơ đồ rỗng khác
+        return shingles.length == 0 ? null : minHasher.signature(shingles);
+    }
+
+    private LshIndex newIndex() {
+        return new LshIndex(properties.getNumHashes(), properties.getBands());
+    }
+
+    private Slot slotFor(Long assignmentClassDetailId) {
+        Slot slot;
+        synchronized (slots) {
+            slot = slots.computeIfAbsent(assignmentClassDetailId, Slot::new);
+        }
+        synchronized (slot) {
+            if (slot.needsLoad()) {
+                slot.loading = true;
+                try {
+                    loader.execute(() -> load(slot));
+                } catch (RejectedExecutionException e) {
+                    // Hàng đợi đầy: vẫn dùng index hiện có, request sau thử nạp lại
+                    slot.loading = false;
+                    slot.registeredWhileLoading.clear();
+                    log.debug("Duplicate index loader busy, skipped loading assignmentClassDetail {}", assignmentClassDetailId);
+                }
+            }
+        }
+        return slot;
+    }
+
+    private void load(Slot slot) {
+        long started = System.nanoTime();
+        LshIndex built = newIndex();
+        try {
+            for (ISubmissionRepository.SubmissionCodeView row : submissionRepository.findCodesByAssignmentClassDetailId(slot.assignmentClassDetailId)) {
+                long[] signature = signature(row.getStudentPlantUMLCode());
+                if (signature != null) {
+                    built.add(new LshIndex.Entry(row.getId(), row.getStudentId(), signature));
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to load duplicate index for assignmentClassDetail {}", slot.assignmentClassDetailId, e);
+            synchronized (slot) {
+                slot.loading = false;
+                slot.registeredWhileLoading.clear();
+            }
+            return;
+        }
+        synchronized (slot) {
+            slot.registeredWhileLoading.forEach(built::add);
+            slot.registeredWhileLoading.clear();
+            slot.index = built;
+            slot.loadedAt = started;
+            slot.loading = false;
+        }
+        log.debug("Built duplicate index for assignmentClassDetail {} with {} submissions in {} ms",
+                slot.assignmentClassDetailId, built.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+}
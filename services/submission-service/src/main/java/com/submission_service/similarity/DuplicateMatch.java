@@ -0,0 +1,7 @@
+package com.submission_service.similarity;
+
+/**
+ * Bài nộp gần trùng nhất của sinh viên khác trong cùng assignmentClassDetail.
+ */
+public record DuplicateMatch(Long submissionId, Long studentId, double similarity) {
+}
@@ -0,0 +1,25 @@
+package com.submission_service.similarity;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "defty.duplicate")
+public class DuplicateProperties {
+    private boolean enabled = true;
+    // 128 hàm băm = 16 band x 8 row: cặp có Jaccard ~0.7 trở lên gần như chắc chắn thành ứng viên
+    private int numHashes = 128;
+    private int bands = 16;
+    // Số token mỗi shingle
+    private int shingleSize = 3;
+    // Ngưỡng Jaccard ước lượng để coi là gần trùng
+    private double threshold = 0.85;
+    // Số assignmentClassDetail giữ index trong bộ nhớ (LRU)
+    private int maxIndexes = 200;
+    // Index được dựng lại từ DB sau khoảng này để thấy bài nộp qua instance khác
+    private Duration indexTtl = Duration.ofMinutes(30);
+    // Số thread dựng index nền; request nộp bài không bao giờ chờ dựng index
+    private int loaderThreads = 2;
+}
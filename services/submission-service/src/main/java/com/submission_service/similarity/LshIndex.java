@@ -0,0 +1,72 @@
+package com.submission_service.similarity;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * LSH theo band: chữ ký MinHash chia thành {@code bands} đoạn, hai bài trùng nhau ở ít nhất một đoạn
+ * thì thành ứng viên. Chỉ ứng viên mới được so chữ ký đầy đủ, không phải quét cả assignment.
+ * Không thread-safe: {@link DuplicateDetector} khoá theo từng index.
+ */
+final class LshIndex {
+
+    record Entry(Long submissionId, Long studentId, long[] signature) {
+    }
+
+    private final int bands;
+    private final int rows;
+    private final List<Map<Long, List<Entry>>> buckets;
+    private final long createdAt = System.nanoTime();
+    private final Set<Long> submissionIds = new HashSet<>();
+
+    LshIndex(int numHashes, int bands) {
+        this.bands = bands;
+        this.rows = numHashes / bands;
+        this.buckets = new ArrayList<>(bands);
+        for (int i = 0; i < bands; i++) {
+            buckets.add(new HashMap<>());
+        }
+    }
+
+    long ageNanos() {
+        return System.nanoTime() - createdAt;
+    }
+
+    int size() {
+        return submissionIds.size();
+    }
+
+    /**
+     * Bỏ qua bài đã có (bài vừa nộp có thể vừa được register vừa được nạp lại từ DB).
+     */
+    void add(Entry entry) {
+        if (!submissionIds.add(entry.submissionId())) {
+            return;
+        }
+        for (int band = 0; band < bands; band++) {
+            buckets.get(band).computeIfAbsent(bandKey(entry.signature(), band), k -> new ArrayList<>(1)).add(entry);
+        }
+    }
+
+    Set<Entry> candidates(long[] signature) {
+        Set<Entry> result = new LinkedHashSet<>();
+        for (int band = 0; band < bands; band++) {
+            List<Entry> bucket = buckets.get(band).get(bandKey(signature, band));
+            if (bucket != null) result.addAll(bucket);
+        }
+        return result;
+    }
+
+    private long bandKey(long[] signature, int band) {
+        long h = 1125899906842597L;
+        for (int i = band * rows; i < (band + 1) * rows; i++) {
+            h = 31 * h + signature[i];
+        }
+        return h;
+    }
+}
@@ -0,0 +1,48 @@
+package com.submission_service.similarity;
+
+import java.util.SplittableRandom;
+
+/**
+ * MinHash: với mỗi hàm băm h_i lấy min h_i(shingle). Xác suất hai chữ ký trùng ở vị trí i
+ * bằng độ tương đồng Jaccard của hai tập shingle.
+ */
+final class MinHasher {
+
+    private final long[] seeds;
+
+    MinHasher(int numHashes) {
+        // Seed cố định: chữ ký phải giống nhau giữa các lần chạy và giữa các instance
+        SplittableRandom random = new SplittableRandom(0x5EEDL);
+        this.seeds = new long[numHashes];
+        for (int i = 0; i < numHashes; i++) {
+            seeds[i] = random.nextLong();
+        }
+    }
+
+    long[] signature(long[] shingles) {
+        long[] signature = new long[seeds.length];
+        java.util.Arrays.fill(signature, Long.MAX_VALUE);
+        for (long shingle : shingles) {
+            for (int i = 0; i < seeds.length; i++) {
+                long h = mix(shingle ^ seeds[i]);
+                if (h < signature[i]) signature[i] = h;
+            }
+        }
+        return signature;
+    }
+
+    static double estimateJaccard(long[] a, long[] b) {
+        int same = 0;
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] == b[i]) same++;
+        }
+        return (double) same / a.length;
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
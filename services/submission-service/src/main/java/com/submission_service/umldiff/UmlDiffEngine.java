@@ -0,0 +1,387 @@
+package com.submission_service.umldiff;
+
+import com.submission_service.enums.TypeUml;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * So sánh cấu trúc bài làm với đáp án, không cần gọi LLM:
+ * - phần tử (class, interface, actor, use case) khớp theo tên đã chuẩn hoá, sai chính tả nhẹ vẫn được ghép
+ * - thuộc tính/phương thức của các class đã ghép (chỉ class diagram)
+ * - quan hệ theo loại và hai đầu (association không xét chiều), bội số ở mỗi đầu
+ * Mỗi phần được chấm theo hệ số Dice (2·khớp / (đáp án + bài làm)) để phạt cả thiếu lẫn thừa.
+ */
+@Component
+public class UmlDiffEngine {
+
+    // Ngưỡng tương đồng tên (Levenshtein) để coi là cùng phần tử viết sai chính tả
+    private static final double FUZZY_NAME_THRESHOLD = 0.8;
+    private static final double KIND_MISMATCH_CREDIT = 0.75;
+    private static final double RELATION_MISMATCH_CREDIT = 0.5;
+
+    private static final double CLASS_ELEMENT_WEIGHT = 0.35;
+    private static final double CLASS_MEMBER_WEIGHT = 0.2;
+    private static final double CLASS_RELATION_WEIGHT = 0.35;
+    private static final double CLASS_MULTIPLICITY_WEIGHT = 0.1;
+    private static final double USE_CASE_ELEMENT_WEIGHT = 0.5;
+    private static final double USE_CASE_RELATION_WEIGHT = 0.5;
+
+    public UmlDiffResult compare(String solutionCode, String submissionCode, TypeUml typeUml) {
+        long start = System.nanoTime();
+        UmlModel solution = PlantUmlParser.parse(solutionCode, typeUml);
+        UmlModel submission = PlantUmlParser.parse(submissionCode, typeUml);
+        List<UmlDifference> differences = new ArrayList<>();
+
+        Map<String, String> pairs = matchElements(solution, submission, differences);
+        double elementScore = scoreElements(solution, submission, pairs, differences);
+
+        Score members = typeUml == TypeUml.USE_CASE_DIAGRAM
+                ? Score.EMPTY
+                : scoreMembers(solution, submission, pairs, differences);
+
+        Score multiplicities = new Score();
+        Score relations = scoreRelations(solution, submission, pairs, multiplicities, differences);
+
+        double similarity;
+        if (typeUml == TypeUml.USE_CASE_DIAGRAM) {
+            similarity = weighted(
+                    new double[]{elementScore, relations.value()},
+                    new double[]{USE_CASE_ELEMENT_WEIGHT, USE_CASE_RELATION_WEIGHT},
+                    new boolean[]{true, relations.applicable()});
+        } else {
+            similarity = weighted(
+                    new double[]{elementScore, members.value(), relations.value(), multiplicities.value()},
+                    new double[]{CLASS_ELEMENT_WEIGHT, CLASS_MEMBER_WEIGHT, CLASS_RELATION_WEIGHT, CLASS_MULTIPLICITY_WEIGHT},
+                    new boolean[]{true, members.applicable(), relations.applicable(), multiplicities.applicable()});
+        }
+
+        return new UmlDiffResult(
+                round(similarity * 100),
+                round(elementScore),
+                members.applicable() ? round(members.value()) : null,
+                round(relations.value()),
+                multiplicities.applicable() ? round(multiplicities.value()) : null,
+                differences,
+                (System.nanoTime() - start) / 1_000);
+    }
+
+    /**
+     * @return solutionKey -> submissionKey
+     */
+    private Map<String, String> matchElements(UmlModel solution, UmlModel submission, List<UmlDifference> differences) {
+        Map<String, String> pairs = new LinkedHashMap<>();
+        Set<String> freeSubmission = new HashSet<>(submission.getElements().keySet());
+        List<String> unmatchedSolution = new ArrayList<>();
+        for (String key : solution.getElements().keySet()) {
+            if (freeSubmission.remove(key)) {
+                pairs.put(key, key);
+            } else {
+                unmatchedSolution.add(key);
+            }
+        }
+
+        // Ghép tên sai chính tả: ưu tiên cặp giống nhau nhất
+        List<Candidate> candidates = new ArrayList<>();
+        for (String solKey : unmatchedSolution) {
+            for (String subKey : freeSubmission) {
+                double similarity = nameSimilarity(solKey, subKey);
+                if (similarity >= FUZZY_NAME_THRESHOLD) {
+                    candidates.add(new Candidate(solKey, subKey, similarity));
+                }
+            }
+        }
+        candidates.sort((a, b) -> Double.compare(b.similarity(), a.similarity()));
+        for (Candidate candidate : candidates) {
+            if (pairs.containsKey(candidate.solutionKey()) || !freeSubmission.contains(candidate.submissionKey())) continue;
+            pairs.put(candidate.solutionKey(), candidate.submissionKey());
+            freeSubmission.remove(candidate.submissionKey());
+            differences.add(new UmlDifference(UmlDifference.Type.MISMATCH, UmlDifference.Category.ELEMENT,
+                    "'" + name(submission, candidate.submissionKey()) + "' looks like a misspelling of '"
+                            + name(solution, candidate.solutionKey()) + "'"));
+        }
+        return pairs;
+    }
+
+    private double scoreElements(UmlModel solution, UmlModel submission, Map<String, String> pairs,
+                                 List<UmlDifference> differences) {
+        double credit = 0;
+        for (Map.Entry<String, UmlElement> entry : solution.getElements().entrySet()) {
+            UmlElement expected = entry.getValue();
+            String subKey = pairs.get(entry.getKey());
+            if (subKey == null) {
+                differences.add(new UmlDifference(UmlDifference.Type.MISSING, UmlDifference.Category.ELEMENT,
+                        "Missing " + label(expected.getKind()) + " '" + expected.getName() + "'"));
+                continue;
+            }
+            UmlElement actual = submission.getElements().get(subKey);
+            if (actual.getKind() == expected.getKind()) {
+                credit += 1;
+            } else {
+                credit += KIND_MISMATCH_CREDIT;
+                differences.add(new UmlDifference(UmlDifference.Type.MISMATCH, UmlDifference.Category.ELEMENT,
+                        "'" + expected.getName() + "' should be " + article(label(expected.getKind()))
+                                + ", not " + article(label(actual.getKind()))));
+            }
+        }
+        Set<String> matchedSubmission = new HashSet<>(pairs.values());
+        for (Map.Entry<String, UmlElement> entry : submission.getElements().entrySet()) {
+            if (!matchedSubmission.contains(entry.getKey())) {
+                UmlElement extra = entry.getValue();
+                differences.add(new UmlDifference(UmlDifference.Type.EXTRA, UmlDifference.Category.ELEMENT,
+                        "Unexpected " + label(extra.getKind()) + " '" + extra.getName() + "'"));
+            }
+        }
+        return dice(credit, solution.getElements().size(), submission.getElements().size());
+    }
+
+    private Score scoreMembers(UmlModel solution, UmlModel submission, Map<String, String> pairs,
+                               List<UmlDifference> differences) {
+        Score score = new Score();
+        for (Map.Entry<String, String> pair : pairs.entrySet()) {
+            UmlElement expected = solution.getElements().get(pair.getKey());
+            UmlElement actual = submission.getElements().get(pair.getValue());
+            compareMembers(expected, expected.getAttributes(), actual.getAttributes(),
+                    UmlDifference.Category.ATTRIBUTE, score, differences);
+            compareMembers(expected, expected.getOperations(), actual.getOperations(),
+                    UmlDifference.Category.OPERATION, score, differences);
+        }
+        return score;
+    }
+
+    private void compareMembers(UmlElement owner, Set<String> expected, Set<String> actual,
+                                UmlDifference.Category category, Score score, List<UmlDifference> differences) {
+        String what = category == UmlDifference.Category.ATTRIBUTE ? "attribute" : "operation";
+        int matched = 0;
+        for (String member : expected) {
+            if (actual.contains(member)) {
+                matched++;
+            } else {
+                differences.add(new UmlDifference(UmlDifference.Type.MISSING, category,
+                        "'" + owner.getName() + "' is missing " + what + " '" + member + "'"));
+            }
+        }
+        for (String member : actual) {
+            if (!expected.contains(member)) {
+                differences.add(new UmlDifference(UmlDifference.Type.EXTRA, category,
+                        "'" + owner.getName() + "' has unexpected " + what + " '" + member + "'"));
+            }
+        }
+        score.add(matched, expected.size(), actual.size());
+    }
+
+    private Score scoreRelations(UmlModel solution, UmlModel submission, Map<String, String> pairs,
+                                 Score multiplicities, List<UmlDifference> differences) {
+        // Đưa quan hệ của bài làm về không gian key của đáp án
+        Map<String, String> toSolutionKey = new HashMap<>();
+        pairs.forEach((solKey, subKey) -> toSolutionKey.put(subKey, solKey));
+        List<UmlRelation> actual = new ArrayList<>();
+        for (UmlRelation relation : submission.getRelations()) {
+            actual.add(new UmlRelation(
+                    toSolutionKey.getOrDefault(relation.source(), "?" + relation.source()),
+                    toSolutionKey.getOrDefault(relation.target(), "?" + relation.target()),
+                    relation.kind(), relation.sourceMultiplicity(), relation.targetMultiplicity()));
+        }
+        List<UmlRelation> expected = solution.getRelations();
+        boolean[] used = new boolean[actual.size()];
+        boolean[] resolved = new boolean[expected.size()];
+        double credit = 0;
+
+        // Lượt 1: đúng loại, đúng hai đầu (và đúng chiều với quan hệ có hướng)
+        for (int i = 0; i < expected.size(); i++) {
+            UmlRelation want = expected.get(i);
+            for (int j = 0; j < actual.size(); j++) {
+                if (used[j] || actual.get(j).kind() != want.kind()) continue;
+                Boolean swapped = sameEnds(want, actual.get(j), want.undirected());
+                if (swapped == null) continue;
+                used[j] = true;
+                resolved[i] = true;
+                credit += 1;
+                compareMultiplicities(solution, want, actual.get(j), swapped, multiplicities, differences);
+                break;
+            }
+        }
+        // Lượt 2: cùng hai đầu nhưng sai loại hoặc ngược chiều -> tính một phần
+        for (int i = 0; i < expected.size(); i++) {
+            if (resolved[i]) continue;
+            UmlRelation want = expected.get(i);
+            for (int j = 0; j < actual.size(); j++) {
+                if (used[j]) continue;
+                Boolean swapped = sameEnds(want, actual.get(j), true);
+                if (swapped == null) continue;
+                used[j] = true;
+                resolved[i] = true;
+                credit += RELATION_MISMATCH_CREDIT;
+                UmlRelation got = actual.get(j);
+                String problem = got.kind() != want.kind()
+                        ? "should be " + label(want.kind()) + ", not " + label(got.kind())
+                        : "points in the wrong direction";
+                differences.add(new UmlDifference(UmlDifference.Type.MISMATCH, UmlDifference.Category.RELATIONSHIP,
+                        "Relationship between '" + name(solution, want.source()) + "' and '"
+                                + name(solution, want.target()) + "' " + problem));
+                compareMultiplicities(solution, want, got, swapped, multiplicities, differences);
+                break;
+            }
+            if (!resolved[i]) {
+                differences.add(new UmlDifference(UmlDifference.Type.MISSING, UmlDifference.Category.RELATIONSHIP,
+                        "Missing " + label(want.kind()) + " from '" + name(solution, want.source())
+                                + "' to '" + name(solution, want.target()) + "'"));
+                countMissingMultiplicities(want, multiplicities);
+            }
+        }
+        for (int j = 0; j < actual.size(); j++) {
+            if (used[j]) continue;
+            UmlRelation extra = actual.get(j);
+            differences.add(new UmlDifference(UmlDifference.Type.EXTRA, UmlDifference.Category.RELATIONSHIP,
+                    "Unexpected " + label(extra.kind()) + " from '" + name(solution, submission, extra.source())
+                            + "' to '" + name(solution, submission, extra.target()) + "'"));
+        }
+
+        Score score = new Score();
+        score.add(credit, expected.size(), actual.size());
+        return score;
+    }
+
+    private void compareMultiplicities(UmlModel solution, UmlRelation want, UmlRelation got, boolean swapped,
+                                       Score multiplicities, List<UmlDifference> differences) {
+        String gotSource = swapped ? got.targetMultiplicity() : got.sourceMultiplicity();
+        String gotTarget = swapped ? got.sourceMultiplicity() : got.targetMultiplicity();
+        compareMultiplicity(solution, want, want.source(), want.sourceMultiplicity(), gotSource, multiplicities, differences);
+        compareMultiplicity(solution, want, want.target(), want.targetMultiplicity(), gotTarget, multiplicities, differences);
+    }
+
+    private void compareMultiplicity(UmlModel solution, UmlRelation relation, String end, String expected, String actual,
+                                     Score multiplicities, List<UmlDifference> differences) {
+        if (expected == null || expected.isBlank()) return;
+        boolean match = normalizeMultiplicity(expected).equals(normalizeMultiplicity(actual));
+        multiplicities.add(match ? 1 : 0, 1, 1);
+        if (!match) {
+            differences.add(new UmlDifference(UmlDifference.Type.MISMATCH, UmlDifference.Category.MULTIPLICITY,
+                    "Multiplicity at '" + name(solution, end) + "' in the relationship between '"
+                            + name(solution, relation.source()) + "' and '" + name(solution, relation.target())
+                            + "' should be " + expected + (actual == null ? "" : ", not " + actual)));
+        }
+    }
+
+    private void countMissingMultiplicities(UmlRelation want, Score multiplicities) {
+        if (want.sourceMultiplicity() != null) multiplicities.add(0, 1, 1);
+        if (want.targetMultiplicity() != null) multiplicities.add(0, 1, 1);
+    }
+
+    /**
+     * @return false nếu cùng chiều, true nếu hai đầu đảo ngược (chỉ khi allowSwap), null nếu khác đầu
+     */
+    private static Boolean sameEnds(UmlRelation want, UmlRelation got, boolean allowSwap) {
+        if (want.source().equals(got.source()) && want.target().equals(got.target())) return Boolean.FALSE;
+        if (allowSwap && want.source().equals(got.target()) && want.target().equals(got.source())) return Boolean.TRUE;
+        return null;
+    }
+
+    static String normalizeMultiplicity(String multiplicity) {
+        if (multiplicity == null) return "";
+        String m = multiplicity.replaceAll("\\s+", "").toLowerCase(Locale.ROOT)
+                .replace("many", "*").replace('n', '*').replace('m', '*');
+        return switch (m) {
+            case "*", "0..*" -> "0..*";
+            case "1..1" -> "1";
+            case "0..0" -> "0";
+            default -> m;
+        };
+    }
+
+    private static double nameSimilarity(String a, String b) {
+        int max = Math.max(a.length(), b.length());
+        if (max == 0) return 1;
+        return 1.0 - (double) levenshtein(a, b) / max;
+    }
+
+    private static int levenshtein(String a, String b) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) previous[j] = j;
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+    private static double dice(double matched, int expected, int actual) {
+        if (expected + actual == 0) return 1.0;
+        return 2.0 * matched / (expected + actual);
+    }
+
+    private static double weighted(double[] scores, double[] weights, boolean[] applicable) {
+        double total = 0;
+        double weightSum = 0;
+        for (int i = 0; i < scores.length; i++) {
+            if (!applicable[i]) continue;
+            total += scores[i] * weights[i];
+            weightSum += weights[i];
+        }
+        return weightSum == 0 ? 1.0 : total / weightSum;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+
+    private static String name(UmlModel model, String key) {
+        UmlElement element = model.getElements().get(key);
+        return element == null ? key : element.getName();
+    }
+
+    // Key của bài làm không ghép được mang tiền tố "?"
+    private static String name(UmlModel solution, UmlModel submission, String key) {
+        return key.startsWith("?") ? name(submission, key.substring(1)) : name(solution, key);
+    }
+
+    private static String label(Enum<?> kind) {
+        return kind.name().toLowerCase(Locale.ROOT).replace('_', ' ');
+    }
+
+    private static String article(String noun) {
+        return ("aeiou".indexOf(noun.charAt(0)) >= 0 ? "an " : "a ") + noun;
+    }
+
+    private record Candidate(String solutionKey, String submissionKey, double similarity) {
+    }
+
+    /**
+     * Cộng dồn Dice: matched / (expected + actual) / 2.
+     */
+    private static final class Score {
+        static final Score EMPTY = new Score();
+
+        private double matched;
+        private int expected;
+        private int actual;
+
+        void add(double matched, int expected, int actual) {
+            this.matched += matched;
+            this.expected += expected;
+            this.actual += actual;
+        }
+
+        boolean applicable() {
+            return expected + actual > 0;
+        }
+
+        double value() {
+            return dice(matched, expected, actual);
+        }
+    }
+}
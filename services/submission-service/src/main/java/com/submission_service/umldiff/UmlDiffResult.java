@@ -0,0 +1,18 @@
+package com.submission_service.umldiff;
+
+import java.util.List;
+
+/**
+ * @param similarity   điểm tương đồng tổng hợp 0..100
+ * @param elementScore điểm thành phần 0..1; memberScore/multiplicityScore null khi không áp dụng
+ */
+public record UmlDiffResult(
+        double similarity,
+        double elementScore,
+        Double memberScore,
+        double relationScore,
+        Double multiplicityScore,
+        List<UmlDifference> differences,
+        long elapsedMicros
+) {
+}
@@ -0,0 +1,20 @@
+package com.submission_service.umldiff;
+
+/**
+ * Một khác biệt giữa bài làm và đáp án.
+ */
+public record UmlDifference(Type type, Category category, String message) {
+
+    public enum Type {
+        // Có trong đáp án, thiếu trong bài làm
+        MISSING,
+        // Có trong bài làm, không có trong đáp án
+        EXTRA,
+        // Cùng phần tử/quan hệ nhưng sai loại, sai bội số hoặc sai chính tả tên
+        MISMATCH
+    }
+
+    public enum Category {
+        ELEMENT, ATTRIBUTE, OPERATION, RELATIONSHIP, MULTIPLICITY
+    }
+}
@@ -0,0 +1,44 @@
+package com.submission_service.umldiff;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Một phần tử của sơ đồ: class/interface/enum (kèm thuộc tính, phương thức) hoặc actor/use case.
+ */
+public final class UmlElement {
+
+    public enum Kind {
+        CLASS, ABSTRACT_CLASS, INTERFACE, ENUM, ACTOR, USE_CASE
+    }
+
+    private final String name;
+    private Kind kind;
+    private final Set<String> attributes = new LinkedHashSet<>();
+    private final Set<String> operations = new LinkedHashSet<>();
+
+    UmlElement(String name, Kind kind) {
+        this.name = name;
+        this.kind = kind;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    void setKind(Kind kind) {
+        this.kind = kind;
+    }
+
+    public Set<String> getAttributes() {
+        return attributes;
+    }
+
+    public Set<String> getOperations() {
+        return operations;
+    }
+}
@@ -0,0 +1,47 @@
+package com.submission_service.umldiff;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Kết quả parse một sơ đồ PlantUML. Phần tử được đánh key theo tên đã chuẩn hoá ({@link #key(String)})
+ * để so khớp không phụ thuộc hoa thường, khoảng trắng hay dấu gạch.
+ */
+public final class UmlModel {
+
+    private final Map<String, UmlElement> elements = new LinkedHashMap<>();
+    private final List<UmlRelation> relations = new ArrayList<>();
+
+    public Map<String, UmlElement> getElements() {
+        return Collections.unmodifiableMap(elements);
+    }
+
+    public List<UmlRelation> getRelations() {
+        return Collections.unmodifiableList(relations);
+    }
+
+    UmlElement element(String name, UmlElement.Kind kind) {
+        return elements.computeIfAbsent(key(name), k -> new UmlElement(name, kind));
+    }
+
+    UmlElement find(String name) {
+        return elements.get(key(name));
+    }
+
+    void addRelation(UmlRelation relation) {
+        relations.add(relation);
+    }
+
+    public static String key(String name) {
+        if (name == null) return "";
+        StringBuilder sb = new StringBuilder(name.length());
+        name.toLowerCase(Locale.ROOT).codePoints()
+                .filter(Character::isLetterOrDigit)
+                .forEach(sb::appendCodePoint);
+        return sb.toString();
+    }
+}
@@ -0,0 +1,25 @@
+package com.submission_service.umldiff;
+
+/**
+ * Quan hệ đã chuẩn hoá chiều: INHERITANCE/REALIZATION đi từ con tới cha, COMPOSITION/AGGREGATION
+ * từ tổng thể tới thành phần, quan hệ có hướng theo mũi tên. ASSOCIATION được so sánh không theo chiều.
+ *
+ * @param source             key (đã chuẩn hoá) của phần tử nguồn
+ * @param target             key của phần tử đích
+ * @param sourceMultiplicity null nếu không khai báo
+ */
+public record UmlRelation(
+        String source,
+        String target,
+        Kind kind,
+        String sourceMultiplicity,
+        String targetMultiplicity
+) {
+    public enum Kind {
+        ASSOCIATION, INHERITANCE, REALIZATION, COMPOSITION, AGGREGATION, DEPENDENCY, INCLUDE, EXTEND
+    }
+
+    public boolean undirected() {
+        return kind == Kind.ASSOCIATION;
+    }
+}
@@ -0,0 +1,42 @@
+-- DB có sẵn từ trước khi dùng Flyway được baseline ở version 1 nên không chạy V1, trong khi V1 có cả các cột/bảng
+-- thêm về sau (trạng thái chấm, cache key, job Excel, latest_exam_submission). Bổ sung ở đây trước khi V2 tạo index
+-- trên các cột đó. DB mới đã có đủ từ V1 nên mọi câu đều là no-op.
+
+alter table submission add column if not exists structural_similarity float(53);
+alter table submission add column if not exists normalized_hash varchar(64);
+alter table submission add column if not exists feedback_cache_key varchar(64);
+alter table submission add column if not exists duplicate_of_submission_id bigint;
+alter table submission add column if not exists duplicate_similarity float(53);
+alter table submission add column if not exists submission_status varchar(255)
+    check (submission_status in ('SUBMITTED', 'QUEUED', 'SCORED', 'FAILED', 'TIMED_OUT'));
+
+alter table auto_feedback_llm_job add column if not exists job_status varchar(255)
+    check (job_status in ('IMPORTING', 'IMPORT_FAILED', 'PENDING', 'RUNNING', 'COMPLETED', 'COMPLETED_WITH_ERRORS', 'CANCELLED'));
+alter table auto_feedback_llm_job add column if not exists total_entries integer;
+alter table auto_feedback_llm_job add column if not exists processed_entries integer;
+alter table auto_feedback_llm_job add column if not exists failed_entries integer;
+alter table auto_feedback_llm_job add column if not exists started_at timestamp(6);
+alter table auto_feedback_llm_job add column if not exists finished_at timestamp(6);
+
+alter table auto_feedback_llm_entry add column if not exists entry_status varchar(255)
+    check (entry_status in ('PENDING', 'RUNNING', 'DONE', 'FAILED'));
+alter table auto_feedback_llm_entry add column if not exists attempts integer;
+alter table auto_feedback_llm_entry add column if not exists last_error text;
+
+-- Bộ đếm được cộng dồn bằng "x = x + 1" nên không được null
+update auto_feedback_llm_job set total_entries = 0 where total_entries is null;
+update auto_feedback_llm_job set processed_entries = 0 where processed_entries is null;
+update auto_feedback_llm_job set failed_entries = 0 where failed_entries is null;
+update auto_feedback_llm_entry set attempts = 0 where attempts is null;
+
+create table if not exists latest_exam_submission (
+    class_id                    bigint       not null,
+    assignment_class_detail_id  bigint       not null,
+    student_id                  bigint       not null,
+    submission_id               bigint       not null references submission (id),
+    submitted_at                timestamp(6) not null,
+    primary key (class_id, assignment_class_detail_id, student_id)
+);
+
+create index if not exists idx_latest_exam_submission_submitted_at
+    on latest_exam_submission (class_id, assignment_class_detail_id, submitted_at);
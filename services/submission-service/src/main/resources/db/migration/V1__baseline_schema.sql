@@ -0,0 +1,112 @@
+-- Schema gốc của submission-service, trùng với bảng Hibernate (ddl-auto) đã tạo trước khi có Flyway.
+-- DB đã có dữ liệu được baseline ở version 1 (spring.flyway.baseline-on-migrate) nên file này chỉ chạy trên DB mới.
+
+create table if not exists submission (
+    id                          bigint generated by default as identity primary key,
+    createddate                 timestamp(6),
+    createdby                   varchar(255),
+    modifieddate                timestamp(6),
+    modifiedby                  varchar(255),
+    status                      integer,
+    student_id                  bigint       not null,
+    assignment_class_detail_id  bigint       not null,
+    class_id                    bigint       not null,
+    module_id                   bigint       not null,
+    assignment_id               bigint       not null,
+    type_uml                    smallint     not null check (type_uml between 0 and 1),
+    score                       float(53),
+    structural_similarity       float(53),
+    normalized_hash             varchar(64),
+    feedback_cache_key          varchar(64),
+    duplicate_of_submission_id  bigint,
+    duplicate_similarity        float(53),
+    exam_mode                   boolean      not null,
+    student_plantumlcode        text         not null,
+    submission_status           varchar(255) check (submission_status in ('SUBMITTED', 'QUEUED', 'SCORED', 'FAILED', 'TIMED_OUT'))
+);
+
+create table if not exists feedback_llm_ (
+    id              bigint generated by default as identity primary key,
+    createddate     timestamp(6),
+    createdby       varchar(255),
+    modifieddate    timestamp(6),
+    modifiedby      varchar(255),
+    status          integer,
+    feedback        jsonb,
+    ai_modal_name   varchar(255),
+    submission_id   bigint unique references submission (id)
+);
+
+create table if not exists student_llm_feedback (
+    id              bigint generated by default as identity primary key,
+    createddate     timestamp(6),
+    createdby       varchar(255),
+    modifieddate    timestamp(6),
+    modifiedby      varchar(255),
+    status          integer,
+    student_id      bigint       not null,
+    rating          integer,
+    content         varchar(255) not null,
+    submission_id   bigint unique references submission (id)
+);
+
+create table if not exists submission_feedback (
+    id              bigint generated by default as identity primary key,
+    createddate     timestamp(6),
+    createdby       varchar(255),
+    modifieddate    timestamp(6),
+    modifiedby      varchar(255),
+    status          integer,
+    user_id         bigint not null,
+    content         text   not null,
+    submission_id   bigint references submission (id)
+);
+
+create table if not exists auto_feedback_llm_job (
+    id                  bigint generated by default as identity primary key,
+    createddate         timestamp(6),
+    createdby           varchar(255),
+    modifieddate        timestamp(6),
+    modifiedby          varchar(255),
+    status              integer,
+    title               varchar(255),
+    assignment          text,
+    type_uml            varchar(255) check (type_uml in ('CLASS_DIAGRAM', 'USE_CASE_DIAGRAM')),
+    solution_code       text,
+    job_status          varchar(255) check (job_status in ('IMPORTING', 'IMPORT_FAILED', 'PENDING', 'RUNNING', 'COMPLETED', 'COMPLETED_WITH_ERRORS', 'CANCELLED')),
+    total_entries       integer,
+    processed_entries   integer,
+    failed_entries      integer,
+    started_at          timestamp(6),
+    finished_at         timestamp(6),
+    deleted             boolean
+);
+
+create table if not exists auto_feedback_llm_entry (
+    id                          bigint generated by default as identity primary key,
+    createddate                 timestamp(6),
+    createdby                   varchar(255),
+    modifieddate                timestamp(6),
+    modifiedby                  varchar(255),
+    status                      integer,
+    student_plantumlcode        text not null,
+    feed_backllm                text,
+    entry_status                varchar(255) check (entry_status in ('PENDING', 'RUNNING', 'DONE', 'FAILED')),
+    attempts                    integer,
+    last_error                  text,
+    student_info                text,
+    auto_feedback_llm_job_id    bigint references auto_feedback_llm_job (id),
+    deleted                     boolean
+);
+
+create table if not exists latest_exam_submission (
+    class_id                    bigint       not null,
+    assignment_class_detail_id  bigint       not null,
+    student_id                  bigint       not null,
+    submission_id               bigint       not null references submission (id),
+    submitted_at                timestamp(6) not null,
+    primary key (class_id, assignment_class_detail_id, student_id)
+);
+
+create index if not exists idx_latest_exam_submission_submitted_at
+    on latest_exam_submission (class_id, assignment_class_detail_id, submitted_at);
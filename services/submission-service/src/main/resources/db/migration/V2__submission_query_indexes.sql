@@ -0,0 +1,39 @@
+-- Index theo từng tổ hợp filter của SubmissionSpecification và các truy vấn nóng khác.
+-- SubmissionQueryPlanTest chạy EXPLAIN trên các truy vấn này và fail nếu planner quay về Seq Scan.
+
+-- getSubmissions(studentId, [assignmentId], [classId], [fromDate..toDate]) order by createddate
+create index if not exists idx_submission_student_created
+    on submission (student_id, createddate);
+
+-- getSubmissions(assignmentId, [fromDate..toDate]) order by createddate
+create index if not exists idx_submission_assignment_created
+    on submission (assignment_id, createddate);
+
+-- getSubmissions(classId, [fromDate..toDate]) order by createddate
+create index if not exists idx_submission_class_created
+    on submission (class_id, createddate);
+
+-- getSubmissionsHistoryExerciseMode(classId, assignmentId, studentId, [moduleId], examMode) order by createddate
+create index if not exists idx_submission_history
+    on submission (class_id, assignment_id, student_id, exam_mode, createddate);
+
+-- DuplicateDetector dựng index LSH theo assignmentClassDetail (chỉ bài chưa xoá)
+create index if not exists idx_submission_assignment_class_detail
+    on submission (assignment_class_detail_id)
+    where status = 1;
+
+-- reuseFeedback: bài SCORED mới nhất cùng khoá FeedbackCache
+create index if not exists idx_submission_feedback_cache_key
+    on submission (feedback_cache_key, submission_status, id);
+
+-- Sweep timeout chấm bài: submission_status in (...) and createddate < ?
+create index if not exists idx_submission_status_created
+    on submission (submission_status, createddate);
+
+-- Khoá ngoại không tự có index trên PostgreSQL
+create index if not exists idx_submission_feedback_submission
+    on submission_feedback (submission_id);
+
+-- FeedbackJobEngine đọc entry theo (job, trạng thái) và keyset trên id
+create index if not exists idx_auto_feedback_llm_entry_job_status
+    on auto_feedback_llm_entry (auto_feedback_llm_job_id, entry_status, id);
@@ -0,0 +1,21 @@
+-- Tách source PlantUML khỏi bảng submission: danh sách chỉ quét các cột nhỏ, code được đọc khi cần (chi tiết, render, chấm).
+-- Dùng lại id của submission làm id content để chuyển dữ liệu bằng một câu insert-select.
+
+create table if not exists submission_content (
+    id                      bigint generated by default as identity primary key,
+    student_plantumlcode    text not null
+);
+
+insert into submission_content (id, student_plantumlcode)
+select id, student_plantumlcode from submission;
+
+select setval(pg_get_serial_sequence('submission_content', 'id'), coalesce(max(id), 0) + 1, false)
+from submission_content;
+
+alter table submission add column content_id bigint;
+update submission set content_id = id;
+alter table submission alter column content_id set not null;
+alter table submission add constraint uk_submission_content unique (content_id);
+alter table submission add constraint fk_submission_content foreign key (content_id) references submission_content (id);
+
+alter table submission drop column student_plantumlcode;
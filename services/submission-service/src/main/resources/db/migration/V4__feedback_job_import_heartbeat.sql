@@ -0,0 +1,3 @@
+-- Mốc thời gian replica đang nhập file Excel cập nhật sau mỗi lô: job IMPORTING lâu không cập nhật
+-- là của replica đã chết, còn job của replica khác đang nhập thì không bị đánh IMPORT_FAILED khi một replica khởi động.
+alter table auto_feedback_llm_job add column if not exists import_heartbeat_at timestamp(6);
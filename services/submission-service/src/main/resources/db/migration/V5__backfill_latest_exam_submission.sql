@@ -0,0 +1,14 @@
+-- Dựng latest_exam_submission từ các bài exam mode đã có (bảng tạo ở V1/V1_1 hoặc trước đây bởi ddl-auto).
+-- Cùng thứ tự (createddate, id) với UPSERT_SQL: bài mới nhất của mỗi sinh viên thắng, dòng đã có chỉ bị ghi đè bởi bài mới hơn.
+insert into latest_exam_submission (class_id, assignment_class_detail_id, student_id, submission_id, submitted_at)
+select distinct on (s.class_id, s.assignment_class_detail_id, s.student_id)
+       s.class_id, s.assignment_class_detail_id, s.student_id, s.id, s.createddate
+from submission s
+where s.exam_mode = true
+  and s.class_id is not null and s.assignment_class_detail_id is not null and s.student_id is not null
+  and s.createddate is not null
+order by s.class_id, s.assignment_class_detail_id, s.student_id, s.createddate desc, s.id desc
+on conflict (class_id, assignment_class_detail_id, student_id) do update
+    set submission_id = excluded.submission_id, submitted_at = excluded.submitted_at
+    where (latest_exam_submission.submitted_at, latest_exam_submission.submission_id)
+        < (excluded.submitted_at, excluded.submission_id);
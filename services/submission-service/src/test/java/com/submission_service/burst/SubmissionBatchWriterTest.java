@@ -0,0 +1,146 @@
+package com.submission_service.burst;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.submission_service.enums.TypeUml;
+import com.submission_service.model.dto.response.AssignmentClassDetailResponse;
+import com.submission_service.model.entity.Submission;
+import com.submission_service.model.event.GradingResultEvent;
+import com.submission_service.model.event.SubmissionWriteEvent;
+import com.submission_service.service.ISubmissionGradingService;
+import com.submission_service.support.EmbeddedPostgresSupport;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Chạy INSERT_CONTENT_SQL / INSERT_SUBMISSION_SQL / UPSERT_SQL của {@link SubmissionBatchWriter} trên schema Flyway thật
+ * (PostgreSQL nhúng): tên cột, kiểu dữ liệu và {@code on conflict} phải khớp migration.
+ */
+class SubmissionBatchWriterTest {
+
+    private static DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+    private SubmissionIdAllocator idAllocator;
+    private SubmissionBatchWriter writer;
+    private final List<Long> dispatched = new ArrayList<>();
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @BeforeAll
+    static void startDatabase() {
+        dataSource = EmbeddedPostgresSupport.migratedDatabase();
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        idAllocator = new SubmissionIdAllocator(jdbcTemplate, new BurstProperties());
+        writer = new SubmissionBatchWriter(new NamedParameterJdbcTemplate(dataSource),
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource)),
+                new RecordingGradingService(), objectMapper);
+        dispatched.clear();
+    }
+
+    @Test
+    void flushInsertsSubmissionContentAndLatestExamRow() throws Exception {
+        SubmissionWriteEvent event = event(101L, true, LocalDateTime.now());
+
+        writer.flush(List.of(objectMapper.writeValueAsString(event)));
+
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "select s.student_id, s.type_uml, s.exam_mode, s.submission_status, s.status, c.student_plantumlcode " +
+                        "from submission s join submission_content c on c.id = s.content_id where s.id = ?", event.getId());
+        assertEquals(101L, ((Number) row.get("student_id")).longValue());
+        assertEquals(TypeUml.CLASS_DIAGRAM.ordinal(), ((Number) row.get("type_uml")).intValue());
+        assertEquals(true, row.get("exam_mode"));
+        assertEquals("SUBMITTED", row.get("submission_status"));
+        assertEquals(event.getStudentPlantUmlCode(), row.get("student_plantumlcode"));
+        assertEquals(event.getId(), jdbcTemplate.queryForObject(
+                "select submission_id from latest_exam_submission where student_id = ?", Long.class, 101L));
+        assertEquals(List.of(event.getId()), dispatched);
+    }
+
+    @Test
+    void replayedBatchDoesNotDuplicateOrRegrade() throws Exception {
+        String message = objectMapper.writeValueAsString(event(102L, false, LocalDateTime.now()));
+
+        writer.flush(List.of(message));
+        writer.flush(List.of(message));
+
+        assertEquals(1, jdbcTemplate.queryForObject("select count(*) from submission where student_id = ?", Integer.class, 102L));
+        assertEquals(1, dispatched.size());
+    }
+
+    @Test
+    void latestExamRowKeepsNewestSubmission() throws Exception {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        SubmissionWriteEvent older = event(103L, true, now.minusMinutes(1));
+        SubmissionWriteEvent newer = event(103L, true, now);
+
+        // Lô có thể đến không theo thứ tự nộp
+        writer.flush(List.of(objectMapper.writeValueAsString(newer)));
+        writer.flush(List.of(objectMapper.writeValueAsString(older)));
+
+        assertEquals(newer.getId(), jdbcTemplate.queryForObject(
+                "select submission_id from latest_exam_submission where student_id = ?", Long.class, 103L));
+    }
+
+    @Test
+    void allocatedIdsComeFromTheIdentitySequences() {
+        long first = idAllocator.nextSubmissionId();
+        long second = idAllocator.nextSubmissionId();
+        assertTrue(second > first);
+        assertTrue(idAllocator.nextContentId() > 0);
+    }
+
+    private SubmissionWriteEvent event(Long studentId, boolean examMode, LocalDateTime createdDate) {
+        return SubmissionWriteEvent.builder()
+                .id(idAllocator.nextSubmissionId())
+                .contentId(idAllocator.nextContentId())
+                .studentId(studentId)
+                .classId(1L)
+                .moduleId(2L)
+                .assignmentClassDetailId(3L)
+                .assignmentId(4L)
+                .typeUml(TypeUml.CLASS_DIAGRAM)
+                .examMode(examMode)
+                .studentPlantUmlCode("@startuml\nclass A\n@enduml")
+                .structuralSimilarity(0.5)
+                .normalizedHash("hash-" + studentId)
+                .feedbackCacheKey("key-" + studentId)
+                .createdDate(createdDate)
+                .solutionCode("@startuml\nclass A\n@enduml")
+                .build();
+    }
+
+    private class RecordingGradingService implements ISubmissionGradingService {
+
+        @Override
+        public void dispatch(Submission submission, AssignmentClassDetailResponse assignmentClassDetail) {
+            dispatched.add(submission.getId());
+        }
+
+        @Override
+        public void handleResult(GradingResultEvent result) {
+        }
+
+        @Override
+        public boolean reuseFeedback(Submission submission) {
+            return false;
+        }
+    }
+}
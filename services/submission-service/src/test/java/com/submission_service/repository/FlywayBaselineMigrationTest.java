@@ -0,0 +1,76 @@
+package com.submission_service.repository;
+
+import com.submission_service.support.EmbeddedPostgresSupport;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * DB production cũ do Hibernate tạo bảng, được baseline ở version 1 như cấu hình spring.flyway:
+ * các migration còn lại phải chạy được và schema sau đó phải qua {@code ddl-auto: validate}.
+ */
+class FlywayBaselineMigrationTest {
+
+    private static DataSource dataSource;
+
+    @BeforeAll
+    static void startDatabase() throws SQLException {
+        dataSource = EmbeddedPostgresSupport.newDatabase();
+        try (Connection connection = dataSource.getConnection()) {
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("legacy/hibernate_schema.sql"));
+        }
+        EmbeddedPostgresSupport.flyway(dataSource)
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .outOfOrder(true)
+                .load()
+                .migrate();
+    }
+
+    @Test
+    void legacyRowsSurviveMigration() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        assertEquals("@startuml\nclass A\n@enduml", jdbcTemplate.queryForObject(
+                "select c.student_plantumlcode from submission s join submission_content c on c.id = s.content_id where s.id = 1",
+                String.class));
+        assertEquals(0, jdbcTemplate.queryForObject("select processed_entries from auto_feedback_llm_job", Integer.class));
+    }
+
+    @Test
+    void latestExamSubmissionIsBackfilledByCreatedDate() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        assertEquals(1L, jdbcTemplate.queryForObject(
+                "select submission_id from latest_exam_submission where class_id = 3 and assignment_class_detail_id = 2 and student_id = 1",
+                Long.class));
+    }
+
+    @Test
+    void migratedSchemaPassesHibernateValidation() {
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(dataSource);
+        factory.setPackagesToScan("com.submission_service.model.entity");
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setJpaPropertyMap(Map.of(
+                "hibernate.physical_naming_strategy", CamelCaseToUnderscoresNamingStrategy.class.getName(),
+                "hibernate.implicit_naming_strategy", SpringImplicitNamingStrategy.class.getName(),
+                "hibernate.hbm2ddl.auto", "validate"));
+        // Schema thiếu cột/bảng hoặc sai kiểu thì afterPropertiesSet ném SchemaManagementException
+        factory.afterPropertiesSet();
+        EntityManagerFactory entityManagerFactory = factory.getObject();
+        entityManagerFactory.close();
+    }
+}
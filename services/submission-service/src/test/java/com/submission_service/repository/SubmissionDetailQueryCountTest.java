@@ -0,0 +1,175 @@
+package com.submission_service.repository;
+
+import com.submission_service.enums.TypeUml;
+import com.submission_service.model.dto.projection.SubmissionFeedbackView;
+import com.submission_service.model.entity.FeedbackLLM;
+import com.submission_service.model.entity.LatestExamSubmission;
+import com.submission_service.model.entity.LatestExamSubmissionId;
+import com.submission_service.model.entity.StudentReviewLLMFeedback;
+import com.submission_service.model.entity.Submission;
+import com.submission_service.model.entity.SubmissionFeedback;
+import com.submission_service.support.EmbeddedPostgresSupport;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Đếm số câu SQL của trang chi tiết bằng Hibernate statistics: phải cố định, không tăng theo số nhận xét giảng viên.
+ * Chạy repository thật (JpaRepositoryFactory) trên schema Flyway, không cần dựng cả Spring context.
+ */
+class SubmissionDetailQueryCountTest {
+
+    // Submission (+ content, feedbackLLM, review) một câu join, nhận xét giảng viên một câu projection
+    private static final long DETAIL_QUERIES = 2;
+
+    private static final AtomicLong STUDENT_IDS = new AtomicLong(1000);
+
+    private static EntityManagerFactory entityManagerFactory;
+    private static Statistics statistics;
+
+    private EntityManager entityManager;
+    private ISubmissionRepository submissionRepository;
+    private ILatestExamSubmissionRepository latestExamSubmissionRepository;
+    private IFeedbackSubmissionRepository feedbackSubmissionRepository;
+
+    @BeforeAll
+    static void startDatabase() {
+        DataSource dataSource = EmbeddedPostgresSupport.migratedDatabase();
+
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(dataSource);
+        factory.setPackagesToScan("com.submission_service.model.entity");
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setJpaPropertyMap(Map.of(
+                "hibernate.physical_naming_strategy", CamelCaseToUnderscoresNamingStrategy.class.getName(),
+                "hibernate.implicit_naming_strategy", SpringImplicitNamingStrategy.class.getName(),
+                "hibernate.hbm2ddl.auto", "validate",
+                "hibernate.generate_statistics", "true"));
+        factory.afterPropertiesSet();
+        entityManagerFactory = factory.getObject();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterAll
+    static void closeEntityManagerFactory() {
+        if (entityManagerFactory != null) {
+            entityManagerFactory.close();
+        }
+    }
+
+    @BeforeEach
+    void openEntityManager() {
+        entityManager = entityManagerFactory.createEntityManager();
+        JpaRepositoryFactory repositoryFactory = new JpaRepositoryFactory(entityManager);
+        submissionRepository = repositoryFactory.getRepository(ISubmissionRepository.class,
+                RepositoryFragments.just(new SubmissionSummaryRepositoryImpl(entityManager)));
+        latestExamSubmissionRepository = repositoryFactory.getRepository(ILatestExamSubmissionRepository.class);
+        feedbackSubmissionRepository = repositoryFactory.getRepository(IFeedbackSubmissionRepository.class);
+    }
+
+    @AfterEach
+    void closeEntityManager() {
+        entityManager.close();
+    }
+
+    @ParameterizedTest(name = "{0} teacher feedback(s)")
+    @ValueSource(ints = {0, 1, 25})
+    void submissionDetailRunsFixedNumberOfQueries(int feedbackCount) {
+        Submission seeded = seedSubmission(feedbackCount);
+        entityManager.clear();
+        statistics.clear();
+
+        Submission submission = submissionRepository.findDetailById(seeded.getId()).orElseThrow();
+        List<SubmissionFeedbackView> feedbacks = feedbackSubmissionRepository.findViewsBySubmissionId(submission.getId());
+        touchDetail(submission);
+
+        assertEquals(feedbackCount, feedbacks.size());
+        assertEquals(DETAIL_QUERIES, statistics.getPrepareStatementCount());
+    }
+
+    @ParameterizedTest(name = "{0} teacher feedback(s)")
+    @ValueSource(ints = {0, 1, 25})
+    void lastExamSubmissionRunsFixedNumberOfQueries(int feedbackCount) {
+        Submission seeded = seedSubmission(feedbackCount);
+        entityManager.clear();
+        statistics.clear();
+
+        LatestExamSubmissionId key = new LatestExamSubmissionId(seeded.getClassId(), seeded.getAssignmentClassDetailId(), seeded.getStudentId());
+        Submission submission = latestExamSubmissionRepository.findSubmission(key).orElseThrow();
+        List<SubmissionFeedbackView> feedbacks = feedbackSubmissionRepository.findViewsBySubmissionId(submission.getId());
+        touchDetail(submission);
+
+        assertEquals(feedbackCount, feedbacks.size());
+        assertEquals(DETAIL_QUERIES, statistics.getPrepareStatementCount());
+    }
+
+    // Đọc mọi thứ mapper/response của trang chi tiết đụng tới, để lazy load (nếu có) hiện ra trong thống kê
+    private static void touchDetail(Submission submission) {
+        assertNotNull(submission.getStudentPlantUMLCode());
+        assertNotNull(submission.getFeedbackLLM().getFeedback());
+        assertNotNull(submission.getStudentReviewLLMFeedback().getContent());
+    }
+
+    private Submission seedSubmission(int feedbackCount) {
+        entityManager.getTransaction().begin();
+        Submission submission = Submission.builder()
+                .studentId(STUDENT_IDS.incrementAndGet())
+                .assignmentClassDetailId(20L)
+                .classId(10L)
+                .moduleId(30L)
+                .assignmentId(40L)
+                .typeUml(TypeUml.CLASS_DIAGRAM)
+                .examMode(true)
+                .build();
+        submission.setStudentPlantUMLCode("@startuml\nclass A\n@enduml");
+        submission.setCreatedDate(LocalDateTime.now());
+        entityManager.persist(submission);
+
+        FeedbackLLM feedbackLLM = new FeedbackLLM();
+        feedbackLLM.setFeedback(Map.of("summary", "ok"));
+        feedbackLLM.setSubmission(submission);
+        entityManager.persist(feedbackLLM);
+
+        StudentReviewLLMFeedback review = new StudentReviewLLMFeedback();
+        review.setStudentId(submission.getStudentId());
+        review.setContent("helpful");
+        review.setSubmission(submission);
+        entityManager.persist(review);
+
+        for (int i = 0; i < feedbackCount; i++) {
+            SubmissionFeedback feedback = new SubmissionFeedback();
+            feedback.setUserId(500L + i);
+            feedback.setContent("feedback " + i);
+            feedback.setSubmission(submission);
+            entityManager.persist(feedback);
+        }
+
+        entityManager.persist(new LatestExamSubmission(
+                new LatestExamSubmissionId(submission.getClassId(), submission.getAssignmentClassDetailId(), submission.getStudentId()),
+                submission, submission.getCreatedDate()));
+        entityManager.getTransaction().commit();
+        return submission;
+    }
+}
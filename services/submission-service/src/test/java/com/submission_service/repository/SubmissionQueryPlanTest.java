@@ -0,0 +1,98 @@
+package com.submission_service.repository;
+
+import com.submission_service.support.EmbeddedPostgresSupport;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Chạy migration Flyway trên PostgreSQL nhúng rồi EXPLAIN các truy vấn nóng của submission-service.
+ * Mỗi truy vấn phải dùng đúng index được tạo cho nó; thêm filter/sort mới mà thiếu index tương ứng thì test này fail.
+ */
+class SubmissionQueryPlanTest {
+
+    private static DataSource dataSource;
+
+    @BeforeAll
+    static void startDatabase() {
+        dataSource = EmbeddedPostgresSupport.migratedDatabase();
+    }
+
+    static Stream<Arguments> hotQueries() {
+        return Stream.of(
+                Arguments.of("getSubmissions by student and date range", "idx_submission_student_created",
+                        "select * from submission where student_id = 1 and createddate between '2025-01-01' and '2025-12-31' " +
+                                "order by createddate desc limit 10"),
+                Arguments.of("getSubmissions by assignment", "idx_submission_assignment_created",
+                        "select * from submission where assignment_id = 1 order by createddate desc limit 10"),
+                Arguments.of("getSubmissions by class and date range", "idx_submission_class_created",
+                        "select * from submission where class_id = 1 and createddate >= '2025-01-01' order by createddate desc limit 10"),
+                Arguments.of("getSubmissionsHistoryExerciseMode", "idx_submission_history",
+                        "select * from submission where class_id = 1 and assignment_id = 2 and student_id = 3 and module_id = 4 " +
+                                "and exam_mode = false order by createddate desc limit 10"),
+                Arguments.of("findCodesByAssignmentClassDetailId", "idx_submission_assignment_class_detail",
+                        "select s.id, s.student_id, c.student_plantumlcode from submission s join submission_content c on c.id = s.content_id " +
+                                "where s.assignment_class_detail_id = 1 and s.status = 1"),
+                Arguments.of("reuseFeedback by cache key", "idx_submission_feedback_cache_key",
+                        "select * from submission where feedback_cache_key = 'abc' and submission_status = 'SCORED' and id <> 5 " +
+                                "order by id desc limit 1"),
+                Arguments.of("grading timeout sweep", "idx_submission_status_created",
+                        "select id, student_id, submission_status, score from submission " +
+                                "where submission_status in ('SUBMITTED', 'QUEUED') and createddate < '2025-01-01'"),
+                Arguments.of("latest exam submissions page", "idx_latest_exam_submission_submitted_at",
+                        "select s.* from latest_exam_submission l join submission s on s.id = l.submission_id " +
+                                "where l.class_id = 1 and l.assignment_class_detail_id = 2 order by l.submitted_at desc limit 10"),
+                Arguments.of("latest exam submission of student", "latest_exam_submission_pkey",
+                        "select s.* from latest_exam_submission l join submission s on s.id = l.submission_id " +
+                                "where l.class_id = 1 and l.assignment_class_detail_id = 2 and l.student_id = 3"),
+                Arguments.of("teacher feedback of submission", "idx_submission_feedback_submission",
+                        "select * from submission_feedback where submission_id = 1"),
+                Arguments.of("feedback job entry page", "idx_auto_feedback_llm_entry_job_status",
+                        "select * from auto_feedback_llm_entry where auto_feedback_llm_job_id = 1 and entry_status = 'PENDING' " +
+                                "and deleted = false and id > 100 order by id limit 100")
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("hotQueries")
+    void hotQueryUsesIndex(String name, String expectedIndex, String sql) throws SQLException {
+        String plan = explain(sql);
+        assertFalse(plan.contains("Seq Scan"), () -> name + " falls back to a sequential scan:\n" + plan);
+        // Với enable_seqscan = off, truy vấn sắp theo id vẫn có thể đi qua pkey: phải đúng index dành cho nó
+        // "Index Scan using <index> on ..." / "Bitmap Index Scan on <index>  (cost=...)"
+        assertTrue(plan.contains(" " + expectedIndex + " "),
+                () -> name + " does not use " + expectedIndex + ":\n" + plan);
+    }
+
+    @Test
+    void sequentialScanIsDetected() throws SQLException {
+        // module_id không có index riêng: đảm bảo cách kiểm tra ở trên thực sự bắt được Seq Scan
+        assertTrue(explain("select * from submission where module_id = 1").contains("Seq Scan"));
+    }
+
+    private static String explain(String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            // Bảng test rỗng nên planner luôn chọn Seq Scan; tắt đi thì Seq Scan chỉ còn khi không có index nào dùng được
+            statement.execute("set enable_seqscan = off");
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet rs = statement.executeQuery("explain " + sql)) {
+                while (rs.next()) {
+                    plan.append(rs.getString(1)).append('\n');
+                }
+            }
+            return plan.toString();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.submission_service.support;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * PostgreSQL nhúng dùng chung cho các test cần schema thật: một server cho cả lần chạy test (dừng khi JVM thoát),
+ * mỗi lần gọi {@link #newDatabase()} tạo một database trống riêng nên các test class không thấy dữ liệu của nhau.
+ */
+public final class EmbeddedPostgresSupport {
+
+    private static final AtomicInteger DATABASES = new AtomicInteger();
+    private static EmbeddedPostgres postgres;
+
+    private EmbeddedPostgresSupport() {
+    }
+
+    public static DataSource newDatabase() {
+        EmbeddedPostgres server = server();
+        String name = "test_" + DATABASES.incrementAndGet();
+        new JdbcTemplate(server.getPostgresDatabase()).execute("create database " + name);
+        return server.getDatabase("postgres", name);
+    }
+
+    /**
+     * Database mới đã chạy toàn bộ migration Flyway.
+     */
+    public static DataSource migratedDatabase() {
+        DataSource dataSource = newDatabase();
+        flyway(dataSource).load().migrate();
+        return dataSource;
+    }
+
+    public static FluentConfiguration flyway(DataSource dataSource) {
+        return Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration");
+    }
+
+    private static synchronized EmbeddedPostgres server() {
+        if (postgres == null) {
+            try {
+                postgres = EmbeddedPostgres.start();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            EmbeddedPostgres started = postgres;
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    started.close();
+                } catch (IOException ignored) {
+                    // JVM đang thoát, không còn gì để làm
+                }
+            }));
+        }
+        return postgres;
+    }
+}
@@ -0,0 +1,130 @@
+package com.submission_service.umldiff;
+
+import com.submission_service.enums.TypeUml;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PlantUmlParserTest {
+
+    private static final String CLASS_DIAGRAM = """
+            @startuml
+            skinparam classAttributeIconSize 0
+            title Library
+            abstract class Person {
+              - name : String
+              + getName() : String
+            }
+            class Member extends Person
+            interface Borrowable
+            class "Book Copy" as Copy {
+              -isbn: String
+              +borrow()
+            }
+            Copy ..|> Borrowable
+            Library "1" *-- "0..*" Copy : holds
+            note "ignored" as N1
+            note left of Member
+              Member -- Borrowable
+            end note
+            @enduml
+            """;
+
+    private static final String USE_CASE_DIAGRAM = """
+            @startuml
+            left to right direction
+            actor Customer
+            actor "Bank Clerk" as Clerk
+            usecase (Withdraw cash) as UC1
+            rectangle ATM {
+              Customer --> UC1
+              UC1 ..> (Authenticate) : <<include>>
+              Clerk -- (Refill ATM)
+            }
+            @enduml
+            """;
+
+    @Test
+    void parsesClassesMembersAndRelations() {
+        UmlModel model = PlantUmlParser.parse(CLASS_DIAGRAM, TypeUml.CLASS_DIAGRAM);
+
+        assertEquals(Set.of("person", "member", "borrowable", "bookcopy", "library"), model.getElements().keySet());
+        UmlElement person = model.getElements().get("person");
+        assertEquals(UmlElement.Kind.ABSTRACT_CLASS, person.getKind());
+        assertEquals(Set.of("name"), person.getAttributes());
+        assertEquals(Set.of("getname"), person.getOperations());
+        UmlElement copy = model.getElements().get("bookcopy");
+        assertEquals("Book Copy", copy.getName());
+        assertEquals(Set.of("isbn"), copy.getAttributes());
+        assertEquals(Set.of("borrow"), copy.getOperations());
+        assertEquals(UmlElement.Kind.INTERFACE, model.getElements().get("borrowable").getKind());
+
+        // Quan hệ trong note bị bỏ qua
+        assertEquals(List.of(
+                new UmlRelation("member", "person", UmlRelation.Kind.INHERITANCE, null, null),
+                new UmlRelation("bookcopy", "borrowable", UmlRelation.Kind.REALIZATION, null, null),
+                new UmlRelation("library", "bookcopy", UmlRelation.Kind.COMPOSITION, "1", "0..*")
+        ), model.getRelations());
+    }
+
+    @Test
+    void normalizesReversedArrowsToChildParent() {
+        UmlModel model = PlantUmlParser.parse("Person <|-- Member\nOrder o-- Item\nItem --* Cart", TypeUml.CLASS_DIAGRAM);
+
+        assertEquals(List.of(
+                new UmlRelation("member", "person", UmlRelation.Kind.INHERITANCE, null, null),
+                new UmlRelation("order", "item", UmlRelation.Kind.AGGREGATION, null, null),
+                new UmlRelation("cart", "item", UmlRelation.Kind.COMPOSITION, null, null)
+        ), model.getRelations());
+    }
+
+    @Test
+    void parsesActorsUseCasesAndAliases() {
+        UmlModel model = PlantUmlParser.parse(USE_CASE_DIAGRAM, TypeUml.USE_CASE_DIAGRAM);
+
+        assertEquals(Set.of("customer", "bankclerk", "withdrawcash", "authenticate", "refillatm"), model.getElements().keySet());
+        assertEquals(UmlElement.Kind.ACTOR, model.getElements().get("customer").getKind());
+        assertEquals(UmlElement.Kind.ACTOR, model.getElements().get("bankclerk").getKind());
+        assertEquals(UmlElement.Kind.USE_CASE, model.getElements().get("withdrawcash").getKind());
+        assertEquals(UmlElement.Kind.USE_CASE, model.getElements().get("refillatm").getKind());
+        assertEquals(List.of(
+                new UmlRelation("customer", "withdrawcash", UmlRelation.Kind.ASSOCIATION, null, null),
+                new UmlRelation("withdrawcash", "authenticate", UmlRelation.Kind.INCLUDE, null, null),
+                new UmlRelation("bankclerk", "refillatm", UmlRelation.Kind.ASSOCIATION, null, null)
+        ), model.getRelations());
+    }
+
+    @Test
+    void emptyOrCommentOnlySourceHasNoElements() {
+        for (String source : new String[]{null, "", "@startuml\n@enduml", "' chỉ có comment\n/' khối\ncomment '/"}) {
+            UmlModel model = PlantUmlParser.parse(source, TypeUml.CLASS_DIAGRAM);
+            assertTrue(model.getElements().isEmpty(), String.valueOf(source));
+            assertTrue(model.getRelations().isEmpty(), String.valueOf(source));
+        }
+    }
+
+    @Test
+    void malformedLinesAreSkippedWithoutFailing() {
+        String source = """
+                @startuml
+                class {
+                -->
+                "unterminated
+                A --
+                }}}
+                class Order {
+                  +total()
+                """;
+
+        UmlModel model = PlantUmlParser.parse(source, TypeUml.CLASS_DIAGRAM);
+
+        // Thân class không đóng vẫn giữ được phần đã khai báo
+        assertEquals(Set.of("order"), model.getElements().keySet());
+        assertEquals(Set.of("total"), model.getElements().get("order").getOperations());
+        assertTrue(model.getRelations().isEmpty());
+    }
+}
@@ -0,0 +1,148 @@
+package com.submission_service.umldiff;
+
+import com.submission_service.enums.TypeUml;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UmlDiffEngineTest {
+
+    private static final String CLASS_SOLUTION = """
+            @startuml
+            class Order {
+              - id : Long
+              + total() : double
+            }
+            class Customer {
+              - name : String
+            }
+            class OrderLine
+            Customer "1" -- "0..*" Order
+            Order *-- OrderLine
+            @enduml
+            """;
+
+    private static final String USE_CASE_SOLUTION = """
+            @startuml
+            actor Customer
+            Customer -- (Place order)
+            (Place order) ..> (Log in) : <<include>>
+            @enduml
+            """;
+
+    private final UmlDiffEngine engine = new UmlDiffEngine();
+
+    @Test
+    void identicalClassDiagramScoresFull() {
+        // Khác thứ tự, khoảng trắng và chiều viết mũi tên vẫn là cùng một sơ đồ
+        String submission = """
+                @startuml
+                class OrderLine
+                class Customer {
+                  -name: String
+                }
+                class Order {
+                  +total(): double
+                  -id: Long
+                }
+                OrderLine --* Order
+                Order "0..*" -- "1" Customer
+                @enduml
+                """;
+
+        UmlDiffResult result = engine.compare(CLASS_SOLUTION, submission, TypeUml.CLASS_DIAGRAM);
+
+        assertEquals(100.0, result.similarity());
+        assertEquals(List.of(), result.differences());
+    }
+
+    @Test
+    void reportsMissingAndExtraItems() {
+        String submission = """
+                class Order {
+                  - id : Long
+                  - status : String
+                }
+                class Customer {
+                  - name : String
+                }
+                class Invoice
+                Customer "1" -- "0..*" Order
+                """;
+
+        UmlDiffResult result = engine.compare(CLASS_SOLUTION, submission, TypeUml.CLASS_DIAGRAM);
+
+        assertTrue(result.similarity() < 100.0);
+        assertTrue(has(result, UmlDifference.Type.MISSING, UmlDifference.Category.ELEMENT, "OrderLine"));
+        assertTrue(has(result, UmlDifference.Type.EXTRA, UmlDifference.Category.ELEMENT, "Invoice"));
+        assertTrue(has(result, UmlDifference.Type.MISSING, UmlDifference.Category.OPERATION, "total"));
+        assertTrue(has(result, UmlDifference.Type.EXTRA, UmlDifference.Category.ATTRIBUTE, "status"));
+        assertTrue(has(result, UmlDifference.Type.MISSING, UmlDifference.Category.RELATIONSHIP, "composition"));
+    }
+
+    @Test
+    void pairsMisspelledElementsAndFlagsWrongMultiplicity() {
+        String submission = CLASS_SOLUTION
+                .replace("class Customer", "class Custommer")
+                .replace("Customer \"1\" -- \"0..*\" Order", "Custommer \"1\" -- \"1\" Order");
+
+        UmlDiffResult result = engine.compare(CLASS_SOLUTION, submission, TypeUml.CLASS_DIAGRAM);
+
+        assertTrue(has(result, UmlDifference.Type.MISMATCH, UmlDifference.Category.ELEMENT, "misspelling"));
+        assertTrue(has(result, UmlDifference.Type.MISMATCH, UmlDifference.Category.MULTIPLICITY, "0..*"));
+        assertEquals(1.0, result.relationScore());
+        assertEquals(0.5, result.multiplicityScore());
+    }
+
+    @Test
+    void wrongRelationKindGetsPartialCredit() {
+        String submission = CLASS_SOLUTION.replace("Order *-- OrderLine", "Order o-- OrderLine");
+
+        UmlDiffResult result = engine.compare(CLASS_SOLUTION, submission, TypeUml.CLASS_DIAGRAM);
+
+        assertTrue(has(result, UmlDifference.Type.MISMATCH, UmlDifference.Category.RELATIONSHIP, "composition"));
+        assertEquals(0.75, result.relationScore());
+    }
+
+    @Test
+    void useCaseDiagramIgnoresMembers() {
+        UmlDiffResult identical = engine.compare(USE_CASE_SOLUTION, USE_CASE_SOLUTION, TypeUml.USE_CASE_DIAGRAM);
+        assertEquals(100.0, identical.similarity());
+        assertNull(identical.memberScore());
+
+        String submission = """
+                actor Customer
+                Customer -- (Place order)
+                """;
+        UmlDiffResult result = engine.compare(USE_CASE_SOLUTION, submission, TypeUml.USE_CASE_DIAGRAM);
+        assertTrue(has(result, UmlDifference.Type.MISSING, UmlDifference.Category.ELEMENT, "Log in"));
+        assertTrue(has(result, UmlDifference.Type.MISSING, UmlDifference.Category.RELATIONSHIP, "include"));
+        assertTrue(result.similarity() < 100.0);
+    }
+
+    @Test
+    void emptySubmissionScoresZero() {
+        UmlDiffResult result = engine.compare(CLASS_SOLUTION, "", TypeUml.CLASS_DIAGRAM);
+
+        assertEquals(0.0, result.similarity());
+        assertTrue(result.differences().stream().allMatch(d -> d.type() == UmlDifference.Type.MISSING));
+        assertEquals(100.0, engine.compare("", null, TypeUml.CLASS_DIAGRAM).similarity());
+    }
+
+    @Test
+    void malformedSubmissionScoresZeroWithoutFailing() {
+        UmlDiffResult result = engine.compare(CLASS_SOLUTION, "class {\n-->\n}}}\n\"", TypeUml.CLASS_DIAGRAM);
+
+        assertEquals(0.0, result.similarity());
+        assertTrue(has(result, UmlDifference.Type.MISSING, UmlDifference.Category.ELEMENT, "Order"));
+    }
+
+    private static boolean has(UmlDiffResult result, UmlDifference.Type type, UmlDifference.Category category, String text) {
+        return result.differences().stream()
+                .anyMatch(d -> d.type() == type && d.category() == category && d.message().contains(text));
+    }
+}
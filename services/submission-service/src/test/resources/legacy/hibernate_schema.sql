@@ -0,0 +1,95 @@
+-- Schema Hibernate (ddl-auto: update) tạo ra trước khi có Flyway, theo entity ở thời điểm đó.
+-- FlywayBaselineMigrationTest dựng schema này rồi baseline ở version 1 như DB production cũ.
+
+create table submission (
+    id                          bigint generated by default as identity primary key,
+    createddate                 timestamp(6),
+    createdby                   varchar(255),
+    modifieddate                timestamp(6),
+    modifiedby                  varchar(255),
+    status                      integer,
+    student_id                  bigint       not null,
+    assignment_class_detail_id  bigint       not null,
+    class_id                    bigint       not null,
+    module_id                   bigint       not null,
+    assignment_id               bigint       not null,
+    type_uml                    smallint     not null check (type_uml between 0 and 1),
+    score                       float(53),
+    exam_mode                   boolean      not null,
+    student_plantumlcode        text         not null
+);
+
+create table feedback_llm_ (
+    id              bigint generated by default as identity primary key,
+    createddate     timestamp(6),
+    createdby       varchar(255),
+    modifieddate    timestamp(6),
+    modifiedby      varchar(255),
+    status          integer,
+    feedback        jsonb,
+    ai_modal_name   varchar(255),
+    submission_id   bigint unique references submission (id)
+);
+
+create table student_llm_feedback (
+    id              bigint generated by default as identity primary key,
+    createddate     timestamp(6),
+    createdby       varchar(255),
+    modifieddate    timestamp(6),
+    modifiedby      varchar(255),
+    status          integer,
+    student_id      bigint       not null,
+    rating          integer,
+    content         varchar(255) not null,
+    submission_id   bigint unique references submission (id)
+);
+
+create table submission_feedback (
+    id              bigint generated by default as identity primary key,
+    createddate     timestamp(6),
+    createdby       varchar(255),
+    modifieddate    timestamp(6),
+    modifiedby      varchar(255),
+    status          integer,
+    user_id         bigint not null,
+    content         text   not null,
+    submission_id   bigint references submission (id)
+);
+
+create table auto_feedback_llm_job (
+    id                  bigint generated by default as identity primary key,
+    createddate         timestamp(6),
+    createdby           varchar(255),
+    modifieddate        timestamp(6),
+    modifiedby          varchar(255),
+    status              integer,
+    title               varchar(255),
+    assignment          text,
+    type_uml            varchar(255) check (type_uml in ('CLASS_DIAGRAM', 'USE_CASE_DIAGRAM')),
+    solution_code       text,
+    deleted             boolean
+);
+
+create table auto_feedback_llm_entry (
+    id                          bigint generated by default as identity primary key,
+    createddate                 timestamp(6),
+    createdby                   varchar(255),
+    modifieddate                timestamp(6),
+    modifiedby                  varchar(255),
+    status                      integer,
+    student_plantumlcode        text not null,
+    feed_backllm                text,
+    student_info                text,
+    auto_feedback_llm_job_id    bigint references auto_feedback_llm_job (id),
+    deleted                     boolean
+);
+
+insert into submission (createddate, status, student_id, assignment_class_detail_id, class_id, module_id, assignment_id,
+                        type_uml, exam_mode, student_plantumlcode)
+values ('2025-01-01 08:00:00', 1, 1, 2, 3, 4, 5, 0, true, '@startuml' || chr(10) || 'class A' || chr(10) || '@enduml');
+-- Id lớn hơn nhưng nộp sớm hơn: không phải bài mới nhất của sinh viên
+insert into submission (createddate, status, student_id, assignment_class_detail_id, class_id, module_id, assignment_id,
+                        type_uml, exam_mode, student_plantumlcode)
+values ('2024-12-31 08:00:00', 1, 1, 2, 3, 4, 5, 0, true, '@startuml' || chr(10) || 'class B' || chr(10) || '@enduml');
+
+insert into auto_feedback_llm_job (title, deleted) values ('legacy job', false);